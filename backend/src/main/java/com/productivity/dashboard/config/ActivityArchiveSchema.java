@@ -0,0 +1,63 @@
+package com.productivity.dashboard.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Keeps activities_archive in InnoDB's compressed row format on MySQL. Hibernate's ddl-auto creates the
+ * table with the server's default row format, so without this step only databases built from
+ * database-schema.sql would get a compressed archive. The check runs once at startup and rebuilds the
+ * table only when it is not compressed yet; other databases are left alone.
+ */
+@Component
+public class ActivityArchiveSchema {
+
+    private static final Logger logger = LoggerFactory.getLogger(ActivityArchiveSchema.class);
+
+    private static final String TABLE = "activities_archive";
+    private static final String ROW_FORMAT_SQL =
+        "SELECT row_format FROM information_schema.tables WHERE table_schema = DATABASE() AND table_name = ?";
+    private static final String COMPRESS_SQL = "ALTER TABLE " + TABLE + " ROW_FORMAT=COMPRESSED KEY_BLOCK_SIZE=8";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean compress;
+
+    public ActivityArchiveSchema(JdbcTemplate jdbcTemplate,
+                                 @Value("${activity.archive.compress:true}") boolean compress) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.compress = compress;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (!compress) {
+            return;
+        }
+        try {
+            String product = jdbcTemplate.execute(
+                (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+            if (!"MySQL".equalsIgnoreCase(product)) {
+                logger.debug("Leaving {} row format unchanged on {}", TABLE, product);
+                return;
+            }
+            List<String> rowFormat = jdbcTemplate.queryForList(ROW_FORMAT_SQL, String.class, TABLE);
+            if (rowFormat.isEmpty() || "Compressed".equalsIgnoreCase(rowFormat.get(0))) {
+                return;
+            }
+            logger.info("Rebuilding {} with ROW_FORMAT=COMPRESSED (was {})", TABLE, rowFormat.get(0));
+            jdbcTemplate.execute(COMPRESS_SQL);
+        } catch (DataAccessException ex) {
+            // The archive still works uncompressed; it just takes more space
+            logger.warn("Could not compress {}: {}", TABLE, ex.getMessage());
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.productivity.dashboard.config;
+
+import com.productivity.dashboard.exception.NotFoundException;
+import com.productivity.dashboard.model.User;
+import com.productivity.dashboard.service.UserCache;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.annotation.RequestScope;
+
+/**
+ * Resolves the authenticated {@link User} at most once per request.
+ * Looks the user up through the {@link UserCache} by the id carried in the {@link UserPrincipal},
+ * so repeated {@code getCurrentUser()} calls within one request share a single lookup.
+ */
+@Component
+@RequestScope
+public class CurrentUserResolver {
+    
+    private static final Logger logger = LoggerFactory.getLogger(CurrentUserResolver.class);
+    
+    @Autowired
+    private UserCache userCache;
+    
+    private User user;
+    
+    public User get() {
+        if (user == null) {
+            user = load(userCache);
+        }
+        return user;
+    }
+    
+    /**
+     * Resolve the current user without request-scoped memoization (e.g. outside a web request)
+     */
+    public static User load(UserCache userCache) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof UserPrincipal principal) {
+            return userCache.findById(principal.getId())
+                .orElseThrow(() -> {
+                    logger.error("Current user not found: {}", principal.getId());
+                    return new NotFoundException("User not found");
+                });
+        }
+        String email = authentication != null ? authentication.getName() : null;
+        return userCache.findByEmail(email)
+            .orElseThrow(() -> {
+                logger.error("Current user not found: {}", email);
+                return new NotFoundException("User not found");
+            });
+    }
+}
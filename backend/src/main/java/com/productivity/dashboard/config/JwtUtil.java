@@ -1,7 +1,9 @@
 package com.productivity.dashboard.config;
 
+import com.productivity.dashboard.model.User;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
@@ -10,6 +12,7 @@ import org.springframework.stereotype.Component;
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
 import java.util.Date;
+import java.util.Optional;
 import java.util.function.Function;
 
 @Component
@@ -23,16 +26,34 @@ public class JwtUtil {
     @Value("${jwt.expiration:86400000}")
     private long JWT_EXPIRATION;
 
+    // Derived once at startup; JwtParser is immutable and thread-safe, so one instance serves all requests
+    private SecretKey signingKey;
+    private JwtParser parser;
+
+    @PostConstruct
+    void init() {
+        signingKey = Keys.hmacShaKeyFor(SECRET_KEY.getBytes(StandardCharsets.UTF_8));
+        parser = Jwts.parser()
+                .verifyWith(signingKey)
+                .build();
+    }
+
     private SecretKey getSigningKey() {
-        return Keys.hmacShaKeyFor(SECRET_KEY.getBytes(StandardCharsets.UTF_8));
+        return signingKey;
     }
 
-    public String generateToken(String email) {
+    /**
+     * Issue a token carrying the identity claims the filter builds its principal from
+     */
+    public String generateToken(User user) {
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + JWT_EXPIRATION);
 
         return Jwts.builder()
-                .subject(email)
+                .subject(user.getEmail())
+                .claim(UserPrincipal.CLAIM_USER_ID, user.getId())
+                .claim(UserPrincipal.CLAIM_ROLE, user.getRole().name())
+                .claim(UserPrincipal.CLAIM_TOKEN_VERSION, user.getTokenVersion() != null ? user.getTokenVersion() : 0L)
                 .issuedAt(now)
                 .expiration(expiryDate)
                 .signWith(getSigningKey(), Jwts.SIG.HS256)
@@ -53,11 +74,28 @@ public class JwtUtil {
     }
 
     private Claims extractAllClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        return parser.parseSignedClaims(token).getPayload();
+    }
+
+    /**
+     * Verify signature and expiration with a single parse.
+     * Returns the verified claims, or empty when the token is invalid or expired.
+     */
+    public Optional<Claims> parseVerifiedClaims(String token) {
+        try {
+            return Optional.of(extractAllClaims(token));
+        } catch (SecurityException ex) {
+            logger.error("Invalid JWT signature");
+        } catch (MalformedJwtException ex) {
+            logger.error("Invalid JWT token");
+        } catch (ExpiredJwtException ex) {
+            logger.debug("Expired JWT token");
+        } catch (UnsupportedJwtException ex) {
+            logger.error("Unsupported JWT token");
+        } catch (JwtException | IllegalArgumentException ex) {
+            logger.error("Invalid JWT token: {}", ex.getMessage());
+        }
+        return Optional.empty();
     }
 
     public Boolean isTokenExpired(String token) {
@@ -69,35 +107,15 @@ public class JwtUtil {
     }
 
     public Boolean validateToken(String token, String email) {
-        try {
-            final String tokenEmail = extractEmail(token);
-            return (tokenEmail.equals(email) && !isTokenExpired(token));
-        } catch (JwtException | IllegalArgumentException e) {
-            logger.error("Invalid JWT token: {}", e.getMessage());
-            return false;
-        }
+        // The parser rejects expired tokens, so one parse covers subject and expiration
+        return parseVerifiedClaims(token)
+                .map(claims -> email.equals(claims.getSubject()))
+                .orElse(false);
     }
 
     // Alternative method for JwtAuthenticationFilter
     public Boolean validateToken(String token) {
-        try {
-            Jwts.parser()
-                    .verifyWith(getSigningKey())
-                    .build()
-                    .parseSignedClaims(token);
-            return true;
-        } catch (SecurityException ex) {
-            logger.error("Invalid JWT signature");
-        } catch (MalformedJwtException ex) {
-            logger.error("Invalid JWT token");
-        } catch (ExpiredJwtException ex) {
-            logger.error("Expired JWT token");
-        } catch (UnsupportedJwtException ex) {
-            logger.error("Unsupported JWT token");
-        } catch (IllegalArgumentException ex) {
-            logger.error("JWT claims string is empty");
-        }
-        return false;
+        return parseVerifiedClaims(token).isPresent();
     }
 
     // For JwtAuthenticationFilter compatibility
@@ -0,0 +1,112 @@
+package com.productivity.dashboard.config;
+
+import com.productivity.dashboard.job.ActivityRetentionJob;
+import com.productivity.dashboard.job.StaleTimerReaperJob;
+import com.productivity.dashboard.job.TaskStatsReconciliationJob;
+import com.productivity.dashboard.job.TaskTimeTotalsReconciliationJob;
+import com.productivity.dashboard.job.TimeRollupReconciliationJob;
+import org.quartz.CronScheduleBuilder;
+import org.quartz.JobBuilder;
+import org.quartz.JobDetail;
+import org.quartz.Trigger;
+import org.quartz.TriggerBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Quartz job and trigger definitions for background maintenance jobs
+ */
+@Configuration
+public class QuartzConfig {
+
+    @Bean
+    public JobDetail taskStatsReconciliationJobDetail() {
+        return JobBuilder.newJob(TaskStatsReconciliationJob.class)
+            .withIdentity("taskStatsReconciliationJob")
+            .storeDurably()
+            .build();
+    }
+
+    @Bean
+    public Trigger taskStatsReconciliationTrigger(
+            @Value("${stats.rollup.reconcile-cron:0 5 0 * * ?}") String cron) {
+        return TriggerBuilder.newTrigger()
+            .forJob(taskStatsReconciliationJobDetail())
+            .withIdentity("taskStatsReconciliationTrigger")
+            .withSchedule(CronScheduleBuilder.cronSchedule(cron))
+            .build();
+    }
+
+    @Bean
+    public JobDetail activityRetentionJobDetail() {
+        return JobBuilder.newJob(ActivityRetentionJob.class)
+            .withIdentity("activityRetentionJob")
+            .storeDurably()
+            .build();
+    }
+
+    @Bean
+    public Trigger activityRetentionTrigger(
+            @Value("${activity.retention.cron:0 30 1 * * ?}") String cron) {
+        return TriggerBuilder.newTrigger()
+            .forJob(activityRetentionJobDetail())
+            .withIdentity("activityRetentionTrigger")
+            .withSchedule(CronScheduleBuilder.cronSchedule(cron))
+            .build();
+    }
+
+    @Bean
+    public JobDetail timeRollupReconciliationJobDetail() {
+        return JobBuilder.newJob(TimeRollupReconciliationJob.class)
+            .withIdentity("timeRollupReconciliationJob")
+            .storeDurably()
+            .build();
+    }
+
+    @Bean
+    public Trigger timeRollupReconciliationTrigger(
+            @Value("${time.rollup.reconcile-cron:0 15 0 * * ?}") String cron) {
+        return TriggerBuilder.newTrigger()
+            .forJob(timeRollupReconciliationJobDetail())
+            .withIdentity("timeRollupReconciliationTrigger")
+            .withSchedule(CronScheduleBuilder.cronSchedule(cron))
+            .build();
+    }
+
+    @Bean
+    public JobDetail staleTimerReaperJobDetail() {
+        return JobBuilder.newJob(StaleTimerReaperJob.class)
+            .withIdentity("staleTimerReaperJob")
+            .storeDurably()
+            .build();
+    }
+
+    @Bean
+    public Trigger staleTimerReaperTrigger(
+            @Value("${time.reaper.cron:0 */15 * * * ?}") String cron) {
+        return TriggerBuilder.newTrigger()
+            .forJob(staleTimerReaperJobDetail())
+            .withIdentity("staleTimerReaperTrigger")
+            .withSchedule(CronScheduleBuilder.cronSchedule(cron))
+            .build();
+    }
+
+    @Bean
+    public JobDetail taskTimeTotalsReconciliationJobDetail() {
+        return JobBuilder.newJob(TaskTimeTotalsReconciliationJob.class)
+            .withIdentity("taskTimeTotalsReconciliationJob")
+            .storeDurably()
+            .build();
+    }
+
+    @Bean
+    public Trigger taskTimeTotalsReconciliationTrigger(
+            @Value("${task.time-totals.reconcile-cron:0 20 0 * * ?}") String cron) {
+        return TriggerBuilder.newTrigger()
+            .forJob(taskTimeTotalsReconciliationJobDetail())
+            .withIdentity("taskTimeTotalsReconciliationTrigger")
+            .withSchedule(CronScheduleBuilder.cronSchedule(cron))
+            .build();
+    }
+}
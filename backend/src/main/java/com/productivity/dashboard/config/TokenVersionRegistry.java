@@ -0,0 +1,35 @@
+package com.productivity.dashboard.config;
+
+import com.productivity.dashboard.service.UserCache;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Checks token versions against users.token_version, used to reject tokens issued before a role change.
+ * Versions are read through the {@link UserCache}, so each instance re-reads a user at most once per cache TTL
+ * and picks up role changes made on other instances within that window.
+ */
+@Component
+public class TokenVersionRegistry {
+    
+    private static final Logger logger = LoggerFactory.getLogger(TokenVersionRegistry.class);
+    
+    @Autowired
+    private UserCache userCache;
+    
+    public boolean isCurrent(Long userId, long tokenVersion) {
+        return userCache.findById(userId)
+            .map(user -> (user.getTokenVersion() != null ? user.getTokenVersion() : 0L) == tokenVersion)
+            .orElse(false);
+    }
+    
+    /**
+     * Record a new version after it has been committed to the users table
+     */
+    public void update(Long userId, long tokenVersion) {
+        userCache.evict(userId);
+        logger.info("Token version for user ID: {} is now {}", userId, tokenVersion);
+    }
+}
@@ -0,0 +1,112 @@
+package com.productivity.dashboard.config;
+
+import com.productivity.dashboard.model.Role;
+import com.productivity.dashboard.model.User;
+import io.jsonwebtoken.Claims;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Collection;
+import java.util.Collections;
+
+/**
+ * Authenticated principal. Built from the users table at login and straight from verified
+ * JWT claims on every other request, so the filter needs no database lookup.
+ * Exposes {@code id} for expressions such as {@code #userId == authentication.principal.id}.
+ */
+public class UserPrincipal implements UserDetails {
+    
+    public static final String CLAIM_USER_ID = "uid";
+    public static final String CLAIM_ROLE = "role";
+    public static final String CLAIM_TOKEN_VERSION = "ver";
+    
+    private final Long id;
+    private final String email;
+    private final String password;
+    private final Role role;
+    private final long tokenVersion;
+    private final Collection<? extends GrantedAuthority> authorities;
+    
+    private UserPrincipal(Long id, String email, String password, Role role, long tokenVersion) {
+        this.id = id;
+        this.email = email;
+        this.password = password;
+        this.role = role;
+        this.tokenVersion = tokenVersion;
+        this.authorities = Collections.singletonList(new SimpleGrantedAuthority("ROLE_" + role.name()));
+    }
+    
+    public static UserPrincipal from(User user) {
+        return new UserPrincipal(user.getId(), user.getEmail(), user.getPassword(), user.getRole(),
+                                 user.getTokenVersion() != null ? user.getTokenVersion() : 0L);
+    }
+    
+    /**
+     * Build the principal from verified claims; returns null for tokens issued without the identity claims
+     */
+    public static UserPrincipal fromClaims(Claims claims) {
+        Number id = claims.get(CLAIM_USER_ID, Number.class);
+        String role = claims.get(CLAIM_ROLE, String.class);
+        Number version = claims.get(CLAIM_TOKEN_VERSION, Number.class);
+        if (id == null || role == null || version == null || claims.getSubject() == null) {
+            return null;
+        }
+        try {
+            return new UserPrincipal(id.longValue(), claims.getSubject(), null, Role.valueOf(role), version.longValue());
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+    
+    public Long getId() {
+        return id;
+    }
+    
+    public String getEmail() {
+        return email;
+    }
+    
+    public Role getRole() {
+        return role;
+    }
+    
+    public long getTokenVersion() {
+        return tokenVersion;
+    }
+    
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return authorities;
+    }
+    
+    @Override
+    public String getPassword() {
+        return password;
+    }
+    
+    @Override
+    public String getUsername() {
+        return email;
+    }
+    
+    @Override
+    public boolean isAccountNonExpired() {
+        return true;
+    }
+    
+    @Override
+    public boolean isAccountNonLocked() {
+        return true;
+    }
+    
+    @Override
+    public boolean isCredentialsNonExpired() {
+        return true;
+    }
+    
+    @Override
+    public boolean isEnabled() {
+        return true;
+    }
+}
@@ -2,6 +2,7 @@ package com.productivity.dashboard.controller;
 
 import com.productivity.dashboard.dto.ActivityDTO;
 import com.productivity.dashboard.dto.ApiResponse;
+import com.productivity.dashboard.dto.CursorSlice;
 import com.productivity.dashboard.service.ActivityService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -108,6 +109,57 @@ public class ActivityController {
         }
     }
     
+    /**
+     * Get a user's activity feed with keyset pagination (no total count)
+     * GET /api/activities/user/{userId}/feed?cursor=&size=20
+     * Response data: {"items": [...], "nextCursor": "...", "hasNext": true, "size": 20}
+     */
+    @GetMapping("/user/{userId}/feed")
+    @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER') or #userId == authentication.principal.id")
+    public ResponseEntity<ApiResponse<CursorSlice<ActivityDTO>>> getUserActivityFeed(
+            @PathVariable Long userId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        
+        logger.info("GET /api/activities/user/{}/feed - size: {}", userId, size);
+        
+        CursorSlice<ActivityDTO> feed = activityService.getUserActivityFeed(userId, cursor, size);
+        return ResponseEntity.ok(ApiResponse.success("Activities retrieved successfully", feed));
+    }
+    
+    /**
+     * Get team activity feed with keyset pagination (no total count)
+     * GET /api/activities/team/feed?userIds=1,2,3&cursor=&size=20
+     */
+    @GetMapping("/team/feed")
+    @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
+    public ResponseEntity<ApiResponse<CursorSlice<ActivityDTO>>> getTeamActivityFeed(
+            @RequestParam List<Long> userIds,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        
+        logger.info("GET /api/activities/team/feed - userIds: {}, size: {}", userIds, size);
+        
+        CursorSlice<ActivityDTO> feed = activityService.getTeamActivityFeed(userIds, cursor, size);
+        return ResponseEntity.ok(ApiResponse.success("Team activities retrieved successfully", feed));
+    }
+    
+    /**
+     * Get the global activity feed with keyset pagination (admin only)
+     * GET /api/activities/all/feed?cursor=&size=20
+     */
+    @GetMapping("/all/feed")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<CursorSlice<ActivityDTO>>> getAllActivityFeed(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        
+        logger.info("GET /api/activities/all/feed - size: {}", size);
+        
+        CursorSlice<ActivityDTO> feed = activityService.getAllActivityFeed(cursor, size);
+        return ResponseEntity.ok(ApiResponse.success("All activities retrieved successfully", feed));
+    }
+    
     /**
      * Get user activities within date range
      * GET /api/activities/user/{userId}/range?start=2024-01-01T00:00:00&end=2024-12-31T23:59:59
@@ -0,0 +1,56 @@
+package com.productivity.dashboard.controller;
+
+import com.productivity.dashboard.dto.ApiResponse;
+import com.productivity.dashboard.dto.WeeklyHeatmapDTO;
+import com.productivity.dashboard.service.WeeklyHeatmapStore;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * REST Controller for team analytics
+ */
+@RestController
+@RequestMapping("/api/analytics")
+@CrossOrigin(origins = "*")
+public class AnalyticsController {
+
+    private static final Logger logger = LoggerFactory.getLogger(AnalyticsController.class);
+
+    @Autowired
+    private WeeklyHeatmapStore weeklyHeatmapStore;
+
+    /**
+     * Get minutes tracked per user and hour of the week (168 values, Monday 00:00 first),
+     * summed over the given number of weeks starting with the week containing {@code from}.
+     * GET /api/analytics/heatmap?userIds=1,2,3&from=2024-01-01&weeks=4
+     */
+    @GetMapping("/heatmap")
+    @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
+    public ResponseEntity<ApiResponse<List<WeeklyHeatmapDTO>>> getHeatmap(
+            @RequestParam List<Long> userIds,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(defaultValue = "1") int weeks) {
+
+        LocalDate firstWeek = from != null ? from : LocalDate.now().minusWeeks(Math.max(weeks, 1) - 1L);
+        logger.info("GET /api/analytics/heatmap - {} users, from: {}, weeks: {}", userIds.size(), firstWeek, weeks);
+
+        try {
+            List<WeeklyHeatmapDTO> heatmaps = weeklyHeatmapStore.getHeatmaps(userIds, firstWeek, weeks);
+
+            logger.info("Successfully built heatmaps for {} users", heatmaps.size());
+
+            return ResponseEntity.ok(ApiResponse.success("Heatmap retrieved successfully", heatmaps));
+        } catch (Exception e) {
+            logger.error("Failed to build heatmap - Error: {}", e.getMessage());
+            throw e;
+        }
+    }
+}
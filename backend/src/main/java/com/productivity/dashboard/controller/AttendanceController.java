@@ -0,0 +1,173 @@
+package com.productivity.dashboard.controller;
+
+import com.productivity.dashboard.dto.ApiResponse;
+import com.productivity.dashboard.dto.AttendanceDTO;
+import com.productivity.dashboard.model.User;
+import com.productivity.dashboard.service.AttendanceService;
+import com.productivity.dashboard.service.AuthService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * REST Controller for daily attendance (check-in / check-out)
+ */
+@RestController
+@RequestMapping("/api/attendance")
+@CrossOrigin(origins = "*")
+public class AttendanceController {
+    
+    private static final Logger logger = LoggerFactory.getLogger(AttendanceController.class);
+    
+    @Autowired
+    private AttendanceService attendanceService;
+    
+    @Autowired
+    private AuthService authService;
+    
+    /**
+     * Check the current user in for today; safe to retry
+     * POST /api/attendance/check-in?notes=Working from the Pune office
+     */
+    @PostMapping("/check-in")
+    public ResponseEntity<ApiResponse<AttendanceDTO>> checkIn(@RequestParam(required = false) String notes) {
+        logger.debug("POST /api/attendance/check-in");
+        
+        try {
+            User currentUser = authService.getCurrentUser();
+            AttendanceDTO attendance = attendanceService.checkIn(currentUser, notes);
+            
+            logger.debug("User {} checked in at {} ({})", currentUser.getEmail(), attendance.getCheckInTime(),
+                attendance.getStatus());
+            
+            return ResponseEntity.ok(ApiResponse.success("Checked in successfully", attendance));
+        } catch (Exception e) {
+            logger.error("Failed to check in - Error: {}", e.getMessage());
+            throw e;
+        }
+    }
+    
+    /**
+     * Check the current user out for today; safe to retry
+     * POST /api/attendance/check-out
+     */
+    @PostMapping("/check-out")
+    public ResponseEntity<ApiResponse<AttendanceDTO>> checkOut() {
+        logger.debug("POST /api/attendance/check-out");
+        
+        try {
+            User currentUser = authService.getCurrentUser();
+            AttendanceDTO attendance = attendanceService.checkOut(currentUser);
+            
+            logger.debug("User {} checked out at {} - {} hours", currentUser.getEmail(),
+                attendance.getCheckOutTime(), attendance.getWorkHours());
+            
+            return ResponseEntity.ok(ApiResponse.success("Checked out successfully", attendance));
+        } catch (Exception e) {
+            logger.error("Failed to check out - Error: {}", e.getMessage());
+            throw e;
+        }
+    }
+    
+    /**
+     * Get today's attendance of the current user
+     * GET /api/attendance/today
+     */
+    @GetMapping("/today")
+    public ResponseEntity<ApiResponse<AttendanceDTO>> getToday() {
+        logger.info("GET /api/attendance/today");
+        
+        try {
+            User currentUser = authService.getCurrentUser();
+            AttendanceDTO attendance = attendanceService.getToday(currentUser);
+            
+            if (attendance == null) {
+                return ResponseEntity.ok(ApiResponse.success("Not checked in today", null));
+            }
+            return ResponseEntity.ok(ApiResponse.success("Attendance retrieved successfully", attendance));
+        } catch (Exception e) {
+            logger.error("Failed to retrieve today's attendance - Error: {}", e.getMessage());
+            throw e;
+        }
+    }
+    
+    /**
+     * Get attendance of a user within a date range
+     * GET /api/attendance/user/{userId}?start=2024-01-01&end=2024-01-31
+     */
+    @GetMapping("/user/{userId}")
+    @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER') or #userId == authentication.principal.id")
+    public ResponseEntity<ApiResponse<List<AttendanceDTO>>> getUserAttendance(
+            @PathVariable Long userId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate start,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate end) {
+        
+        logger.info("GET /api/attendance/user/{} - start: {}, end: {}", userId, start, end);
+        
+        try {
+            List<AttendanceDTO> attendance = attendanceService.getAttendance(List.of(userId), start, end);
+            
+            logger.info("Successfully retrieved {} attendance records for user: {}", attendance.size(), userId);
+            
+            return ResponseEntity.ok(ApiResponse.success("Attendance retrieved successfully", attendance));
+        } catch (Exception e) {
+            logger.error("Failed to retrieve attendance for user {} - Error: {}", userId, e.getMessage());
+            throw e;
+        }
+    }
+    
+    /**
+     * Get team attendance within a date range
+     * GET /api/attendance/team?userIds=1,2,3&start=2024-01-01&end=2024-01-31
+     */
+    @GetMapping("/team")
+    @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
+    public ResponseEntity<ApiResponse<List<AttendanceDTO>>> getTeamAttendance(
+            @RequestParam List<Long> userIds,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate start,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate end) {
+        
+        logger.info("GET /api/attendance/team - {} users, start: {}, end: {}", userIds.size(), start, end);
+        
+        try {
+            List<AttendanceDTO> attendance = attendanceService.getAttendance(userIds, start, end);
+            
+            logger.info("Successfully retrieved {} team attendance records", attendance.size());
+            
+            return ResponseEntity.ok(ApiResponse.success("Team attendance retrieved successfully", attendance));
+        } catch (Exception e) {
+            logger.error("Failed to retrieve team attendance - Error: {}", e.getMessage());
+            throw e;
+        }
+    }
+    
+    /**
+     * Get everyone's attendance on one day
+     * GET /api/attendance/date/2024-01-15
+     */
+    @GetMapping("/date/{date}")
+    @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
+    public ResponseEntity<ApiResponse<List<AttendanceDTO>>> getAttendanceByDate(
+            @PathVariable @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+        
+        logger.info("GET /api/attendance/date/{}", date);
+        
+        try {
+            List<AttendanceDTO> attendance = attendanceService.getAttendanceByDate(date);
+            
+            logger.info("Successfully retrieved {} attendance records for {}", attendance.size(), date);
+            
+            return ResponseEntity.ok(ApiResponse.success("Attendance retrieved successfully", attendance));
+        } catch (Exception e) {
+            logger.error("Failed to retrieve attendance for {} - Error: {}", date, e.getMessage());
+            throw e;
+        }
+    }
+}
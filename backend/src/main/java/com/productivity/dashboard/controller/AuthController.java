@@ -11,9 +11,11 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 @RequestMapping("/api/auth")
@@ -50,20 +52,25 @@ public class AuthController {
      * POST /api/auth/login
      * Request: {"email": "john@example.com", "password": "password123"}
      * Response: {"success": true, "message": "Login successful", "data": {"token": "jwt_token_here"}}
+     * Runs asynchronously on the login pool; 429 when rate limited or when the pool is saturated.
      */
     @PostMapping("/login")
-    public ResponseEntity<ApiResponse<Map<String, String>>> login(@Valid @RequestBody LoginRequest request) {
+    public CompletableFuture<ResponseEntity<ApiResponse<Map<String, String>>>> login(
+            @Valid @RequestBody LoginRequest request, HttpServletRequest httpRequest) {
         logger.info("POST /api/auth/login - Login attempt for email: {}", request.getEmail());
         
-        try {
-            String token = authService.login(request);
-            Map<String, String> response = new HashMap<>();
-            response.put("token", token);
-            logger.info("Login successful for user: {}", request.getEmail());
-            return ResponseEntity.ok(ApiResponse.success("Login successful", response));
-        } catch (Exception e) {
-            logger.warn("Login failed for email: {} - Error: {}", request.getEmail(), e.getMessage());
-            throw e;
-        }
+        return authService.loginAsync(request, httpRequest.getRemoteAddr())
+            .whenComplete((token, ex) -> {
+                if (ex != null) {
+                    logger.warn("Login failed for email: {} - Error: {}", request.getEmail(),
+                        ex.getCause() != null ? ex.getCause().getMessage() : ex.getMessage());
+                }
+            })
+            .thenApply(token -> {
+                Map<String, String> response = new HashMap<>();
+                response.put("token", token);
+                logger.info("Login successful for user: {}", request.getEmail());
+                return ResponseEntity.ok(ApiResponse.success("Login successful", response));
+            });
     }
 }
\ No newline at end of file
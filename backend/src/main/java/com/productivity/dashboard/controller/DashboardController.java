@@ -3,15 +3,29 @@ package com.productivity.dashboard.controller;
 import com.productivity.dashboard.dto.ApiResponse;
 import com.productivity.dashboard.dto.DashboardSummary;
 import com.productivity.dashboard.dto.EnhancedDashboardSummary;
+import com.productivity.dashboard.model.User;
+import com.productivity.dashboard.service.AuthService;
+import com.productivity.dashboard.service.DashboardSnapshotCache;
+import com.productivity.dashboard.service.DashboardSnapshotCache.Snapshot;
 import com.productivity.dashboard.service.TaskService;
+import com.productivity.dashboard.service.TaskStatsRollupService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.HashMap;
+import java.util.Map;
+
 @RestController
 @RequestMapping("/api/dashboard")
 public class DashboardController {
@@ -21,6 +35,15 @@ public class DashboardController {
     @Autowired
     private TaskService taskService;
     
+    @Autowired
+    private TaskStatsRollupService taskStatsRollupService;
+    
+    @Autowired
+    private AuthService authService;
+    
+    @Autowired
+    private DashboardSnapshotCache snapshotCache;
+    
     /**
      * Get dashboard summary with analytics
      * GET /api/dashboard/summary
@@ -35,14 +58,17 @@ public class DashboardController {
      *     "productivityScores": {"John Doe": 75.0, "Jane Smith": 85.0}
      *   }
      * }
+     * Responses carry an ETag; a matching If-None-Match returns 304 with no body.
      */
     @GetMapping("/summary")
-    public ResponseEntity<ApiResponse<DashboardSummary>> getDashboardSummary() {
+    public ResponseEntity<ApiResponse<DashboardSummary>> getDashboardSummary(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         logger.info("GET /api/dashboard/summary");
-        DashboardSummary summary = taskService.getDashboardSummary();
-        logger.debug("Dashboard summary generated - Total: {}, Completed: {}", 
-            summary.getTotalTasks(), summary.getCompletedTasks());
-        return ResponseEntity.ok(ApiResponse.success("Dashboard summary retrieved successfully", summary));
+        Snapshot<DashboardSummary> snapshot = snapshotCache.get(DashboardSnapshotCache.GLOBAL_SUMMARY,
+            taskService::getDashboardSummary);
+        logger.debug("Dashboard summary served - Total: {}, Completed: {}", 
+            snapshot.getValue().getTotalTasks(), snapshot.getValue().getCompletedTasks());
+        return respond(snapshot, ifNoneMatch, "Dashboard summary retrieved successfully");
     }
     
     /**
@@ -51,11 +77,13 @@ public class DashboardController {
      * Response: Enhanced dashboard with user stats, overdue tasks, high priority tasks, etc.
      */
     @GetMapping("/enhanced")
-    public ResponseEntity<ApiResponse<EnhancedDashboardSummary>> getEnhancedDashboardSummary() {
+    public ResponseEntity<ApiResponse<EnhancedDashboardSummary>> getEnhancedDashboardSummary(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         logger.info("GET /api/dashboard/enhanced");
-        EnhancedDashboardSummary summary = taskService.getEnhancedDashboardSummary();
-        logger.debug("Enhanced dashboard generated with {} user stats", summary.getUserStats().size());
-        return ResponseEntity.ok(ApiResponse.success("Enhanced dashboard retrieved successfully", summary));
+        Snapshot<EnhancedDashboardSummary> snapshot = snapshotCache.get(DashboardSnapshotCache.GLOBAL_ENHANCED,
+            taskService::getEnhancedDashboardSummary);
+        logger.debug("Enhanced dashboard served with {} user stats", snapshot.getValue().getUserStats().size());
+        return respond(snapshot, ifNoneMatch, "Enhanced dashboard retrieved successfully");
     }
     
     /**
@@ -64,8 +92,37 @@ public class DashboardController {
      * Response: Personal dashboard with user's own tasks and stats
      */
     @GetMapping("/personal")
-    public ResponseEntity<ApiResponse<EnhancedDashboardSummary>> getPersonalDashboard() {
-        EnhancedDashboardSummary summary = taskService.getPersonalDashboard();
-        return ResponseEntity.ok(ApiResponse.success("Personal dashboard retrieved successfully", summary));
+    public ResponseEntity<ApiResponse<EnhancedDashboardSummary>> getPersonalDashboard(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        User currentUser = authService.getCurrentUser();
+        Snapshot<EnhancedDashboardSummary> snapshot = snapshotCache.get(
+            DashboardSnapshotCache.personalScope(currentUser.getId()),
+            () -> taskService.getPersonalDashboard(currentUser));
+        return respond(snapshot, ifNoneMatch, "Personal dashboard retrieved successfully");
+    }
+    
+    /**
+     * Verify the task statistics rollup against the tasks table, optionally repairing drifted rows
+     * POST /api/dashboard/stats/reconcile?repair=true
+     * Response: {"success": true, "message": "...", "data": {"driftedUsers": 0, "repaired": true}}
+     */
+    @PostMapping("/stats/reconcile")
+    @PreAuthorize("hasRole('MANAGER')")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> reconcileStats(
+            @RequestParam(defaultValue = "false") boolean repair) {
+        logger.info("POST /api/dashboard/stats/reconcile - repair: {}", repair);
+        int drifted = taskStatsRollupService.reconcile(repair);
+        
+        Map<String, Object> result = new HashMap<>();
+        result.put("driftedUsers", drifted);
+        result.put("repaired", repair);
+        return ResponseEntity.ok(ApiResponse.success("Task statistics reconciled successfully", result));
+    }
+    
+    private <T> ResponseEntity<ApiResponse<T>> respond(Snapshot<T> snapshot, String ifNoneMatch, String message) {
+        if (snapshot.matches(ifNoneMatch)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(snapshot.getEtag()).build();
+        }
+        return ResponseEntity.ok().eTag(snapshot.getEtag()).body(ApiResponse.success(message, snapshot.getValue()));
     }
-}
\ No newline at end of file
+}
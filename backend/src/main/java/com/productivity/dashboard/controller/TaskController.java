@@ -1,11 +1,21 @@
 package com.productivity.dashboard.controller;
 
 import com.productivity.dashboard.dto.ApiResponse;
+import com.productivity.dashboard.dto.BulkTaskRequest;
+import com.productivity.dashboard.dto.BulkTaskResult;
+import com.productivity.dashboard.dto.CursorSlice;
+import com.productivity.dashboard.dto.SearchPage;
 import com.productivity.dashboard.dto.TaskCreateRequest;
+import com.productivity.dashboard.dto.TaskDTO;
+import com.productivity.dashboard.dto.TaskFilter;
+import com.productivity.dashboard.dto.TaskSortKey;
+import com.productivity.dashboard.dto.TaskSummary;
 import com.productivity.dashboard.dto.TaskUpdateRequest;
+import com.productivity.dashboard.exception.BadRequestException;
 import com.productivity.dashboard.exception.ForbiddenException;
+import com.productivity.dashboard.exception.PreconditionFailedException;
+import com.productivity.dashboard.model.Priority;
 import com.productivity.dashboard.model.Role;
-import com.productivity.dashboard.model.Task;
 import com.productivity.dashboard.model.TaskStatus;
 import com.productivity.dashboard.model.User;
 import com.productivity.dashboard.service.AuthService;
@@ -13,6 +23,8 @@ import com.productivity.dashboard.service.TaskService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
@@ -20,6 +32,7 @@ import org.springframework.web.bind.annotation.*;
 import jakarta.validation.Valid;
 
 
+import java.time.LocalDate;
 import java.util.List;
 
 @RestController
@@ -42,8 +55,8 @@ public class TaskController {
      */
     @PostMapping
     @PreAuthorize("hasRole('MANAGER')")
-    public ResponseEntity<ApiResponse<Task>> createTask(@Valid @RequestBody TaskCreateRequest request) {
-        Task task = taskService.createTask(request);
+    public ResponseEntity<ApiResponse<TaskDTO>> createTask(@Valid @RequestBody TaskCreateRequest request) {
+        TaskDTO task = taskService.createTask(request);
         return ResponseEntity.ok(ApiResponse.success("Task created successfully", task));
     }
     
@@ -53,41 +66,71 @@ public class TaskController {
      * Response: {"success": true, "message": "Tasks retrieved successfully", "data": [...]}
      */
     @GetMapping
-    public ResponseEntity<ApiResponse<List<Task>>> getAllTasks(
+    public ResponseEntity<ApiResponse<List<TaskDTO>>> getAllTasks(
             @RequestParam(required = false) Long assignedTo,
             @RequestParam(required = false) TaskStatus status) {
-        List<Task> tasks = taskService.getAllTasks(assignedTo, status);
+        List<TaskDTO> tasks = taskService.getAllTasks(assignedTo, status);
         return ResponseEntity.ok(ApiResponse.success("Tasks retrieved successfully", tasks));
     }
     
     /**
-     * Get task by ID
+     * Filtered, sorted task listing with keyset pagination; returns summaries without descriptions
+     * GET /api/tasks/query?assignedTo=1&status=PENDING,IN_PROGRESS&priority=HIGH&dueFrom=2024-01-01&dueTo=2024-12-31
+     *     &overdue=true&sort=dueDate&direction=asc&cursor=&size=20
+     * Sort keys: dueDate (undated tasks last), priority, createdAt, id. Pass nextCursor back unchanged,
+     * with the same sort and direction, to fetch the following page.
+     * Response: {"success": true, "message": "Tasks retrieved successfully", "data": {"items": [...], "nextCursor": "...", "hasNext": true}}
+     */
+    @GetMapping("/query")
+    public ResponseEntity<ApiResponse<CursorSlice<TaskSummary>>> queryTasks(
+            @RequestParam(required = false) Long assignedTo,
+            @RequestParam(required = false) List<TaskStatus> status,
+            @RequestParam(required = false) List<Priority> priority,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dueFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dueTo,
+            @RequestParam(defaultValue = "false") boolean overdue,
+            @RequestParam(defaultValue = "createdAt") String sort,
+            @RequestParam(defaultValue = "desc") String direction,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        if (!"asc".equalsIgnoreCase(direction) && !"desc".equalsIgnoreCase(direction)) {
+            throw new BadRequestException("Direction must be asc or desc");
+        }
+        TaskFilter filter = new TaskFilter(assignedTo, status, priority, dueFrom, dueTo, overdue);
+        CursorSlice<TaskSummary> tasks = taskService.queryTasks(filter, TaskSortKey.fromParam(sort),
+                                                                "desc".equalsIgnoreCase(direction), cursor, size);
+        return ResponseEntity.ok(ApiResponse.success("Tasks retrieved successfully", tasks));
+    }
+    
+    /**
+     * Get task by ID; the ETag header carries the task version for conditional updates
      * GET /api/tasks/1
      * Response: {"success": true, "message": "Task retrieved successfully", "data": {...}}
      */
     @GetMapping("/{id}")
-    public ResponseEntity<ApiResponse<Task>> getTaskById(@PathVariable Long id) {
-        Task task = taskService.getTaskById(id);
-        return ResponseEntity.ok(ApiResponse.success("Task retrieved successfully", task));
+    public ResponseEntity<ApiResponse<TaskDTO>> getTaskById(@PathVariable Long id) {
+        TaskDTO task = taskService.getTaskById(id);
+        return ResponseEntity.ok()
+            .eTag(String.valueOf(task.getVersion()))
+            .body(ApiResponse.success("Task retrieved successfully", task));
     }
     
     /**
      * Update task (MANAGER or assigned employee for status update)
      * PUT /api/tasks/1
+     * Headers: If-Match: "3" (optional, the ETag from a previous read; 412 if the task has changed since)
      * Request: {"title": "Updated Title", "status": "IN_PROGRESS"}
-     * Response: {"success": true, "message": "Task updated successfully", "data": {...}}
+     * Response: {"success": true, "message": "Task updated successfully", "data": {...}} with the new ETag
      */
     @PutMapping("/{id}")
-    public ResponseEntity<ApiResponse<Task>> updateTask(@PathVariable Long id, 
-                                                       @RequestBody TaskUpdateRequest request) {
+    public ResponseEntity<ApiResponse<TaskDTO>> updateTask(@PathVariable Long id, 
+                                                       @RequestBody TaskUpdateRequest request,
+                                                       @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         User currentUser = authService.getCurrentUser();
-        Task existingTask = taskService.getTaskById(id);
         
         // Check permissions: MANAGER can update anything, EMPLOYEE can only update status of assigned tasks
+        // (ownership is checked by the service against the task it loads)
         if (currentUser.getRole() == Role.EMPLOYEE) {
-            if (!existingTask.getAssignedTo().getId().equals(currentUser.getId())) {
-                throw new ForbiddenException("You can only update your own tasks");
-            }
             // Employee can only update status
             if (request.getTitle() != null || request.getDescription() != null || 
                 request.getPriority() != null || request.getDueDate() != null || 
@@ -96,28 +139,47 @@ public class TaskController {
             }
         }
         
-        Task task = taskService.updateTask(id, request);
-        return ResponseEntity.ok(ApiResponse.success("Task updated successfully", task));
+        TaskDTO task = taskService.updateTask(id, request, parseIfMatch(ifMatch), currentUser);
+        return ResponseEntity.ok()
+            .eTag(String.valueOf(task.getVersion()))
+            .body(ApiResponse.success("Task updated successfully", task));
     }
     
     /**
      * Mark task as completed
      * PUT /api/tasks/1/complete
-     * Response: {"success": true, "message": "Task completed successfully", "data": {...}}
+     * Headers: If-Match: "3" (optional, 412 if the task has changed since)
+     * Response: {"success": true, "message": "Task completed successfully", "data": {...}} with the new ETag
      */
     @PutMapping("/{id}/complete")
-    public ResponseEntity<ApiResponse<Task>> completeTask(@PathVariable Long id) {
+    public ResponseEntity<ApiResponse<TaskDTO>> completeTask(@PathVariable Long id,
+                                                         @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         User currentUser = authService.getCurrentUser();
-        Task existingTask = taskService.getTaskById(id);
         
-        // Check permissions: MANAGER can complete any task, EMPLOYEE can only complete assigned tasks
-        if (currentUser.getRole() == Role.EMPLOYEE && 
-            !existingTask.getAssignedTo().getId().equals(currentUser.getId())) {
-            throw new ForbiddenException("You can only complete your own tasks");
+        // MANAGER can complete any task, EMPLOYEE only assigned tasks (checked by the service)
+        TaskDTO task = taskService.completeTask(id, parseIfMatch(ifMatch), currentUser);
+        return ResponseEntity.ok()
+            .eTag(String.valueOf(task.getVersion()))
+            .body(ApiResponse.success("Task completed successfully", task));
+    }
+    
+    /**
+     * Task version named by an If-Match header; null when absent or "*" (no precondition).
+     * A value that is not one of our ETags can never match the current version.
+     */
+    private static Long parseIfMatch(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String tag = ifMatch.trim();
+        if (tag.startsWith("W/")) {
+            tag = tag.substring(2);
+        }
+        try {
+            return Long.parseLong(tag.replace("\"", ""));
+        } catch (NumberFormatException e) {
+            throw new PreconditionFailedException("If-Match does not match the current task version");
         }
-        
-        Task task = taskService.completeTask(id);
-        return ResponseEntity.ok(ApiResponse.success("Task completed successfully", task));
     }
     
     /**
@@ -133,13 +195,36 @@ public class TaskController {
     }
     
     /**
-     * Search tasks by keyword
-     * GET /api/tasks/search?keyword=feature
+     * Apply many create/update/complete/delete operations in one transaction (MANAGER only).
+     * Items that fail validation or reference a missing task are reported and skipped; the rest commit together.
+     * POST /api/tasks/bulk
+     * Request: {"operations": [{"action": "COMPLETE", "taskId": 1}, {"action": "UPDATE", "taskId": 2, "assignedToId": 3},
+     *                          {"action": "CREATE", "title": "Task", "priority": "LOW", "assignedToId": 3}]}
+     * Response: {"success": true, "message": "Bulk operations applied: 3 succeeded, 0 failed", "data": [{"index": 0, "success": true, ...}]}
+     */
+    @PostMapping("/bulk")
+    @PreAuthorize("hasRole('MANAGER')")
+    public ResponseEntity<ApiResponse<List<BulkTaskResult>>> applyBulk(@Valid @RequestBody BulkTaskRequest request) {
+        List<BulkTaskResult> results = taskService.applyBulk(request.getOperations());
+        long succeeded = results.stream().filter(BulkTaskResult::isSuccess).count();
+        String message = "Bulk operations applied: " + succeeded + " succeeded, " + (results.size() - succeeded) + " failed";
+        return ResponseEntity.ok(ApiResponse.success(message, results));
+    }
+    
+    /**
+     * Search tasks by keyword, ranked by relevance. The last word also matches as a prefix and
+     * fuzzy=true tolerates small typos. The total number of matches is sent in X-Total-Count.
+     * GET /api/tasks/search?keyword=feature&page=0&size=20&fuzzy=true
      * Response: {"success": true, "message": "Tasks found", "data": [...]}
      */
     @GetMapping("/search")
-    public ResponseEntity<ApiResponse<List<Task>>> searchTasks(@RequestParam String keyword) {
-        List<Task> tasks = taskService.searchTasks(keyword);
-        return ResponseEntity.ok(ApiResponse.success("Tasks found", tasks));
+    public ResponseEntity<ApiResponse<List<TaskDTO>>> searchTasks(@RequestParam String keyword,
+                                                               @RequestParam(defaultValue = "0") int page,
+                                                               @RequestParam(defaultValue = "20") int size,
+                                                               @RequestParam(defaultValue = "true") boolean fuzzy) {
+        SearchPage<TaskDTO> results = taskService.searchTasks(keyword, page, size, fuzzy);
+        return ResponseEntity.ok()
+            .header("X-Total-Count", String.valueOf(results.getTotal()))
+            .body(ApiResponse.success("Tasks found", results.getItems()));
     }
 }
\ No newline at end of file
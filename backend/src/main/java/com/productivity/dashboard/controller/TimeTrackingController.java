@@ -2,23 +2,36 @@ package com.productivity.dashboard.controller;
 
 import com.productivity.dashboard.dto.ApiResponse;
 import com.productivity.dashboard.dto.TimeEntryDTO;
+import com.productivity.dashboard.dto.TimeEntryDailyDTO;
 import com.productivity.dashboard.dto.TimeEntryRequest;
+import com.productivity.dashboard.dto.TimesheetValidationRequest;
+import com.productivity.dashboard.dto.TimesheetValidationResult;
 import com.productivity.dashboard.service.AuthService;
+import com.productivity.dashboard.service.TimeEntryExporter;
 import com.productivity.dashboard.service.TimeTrackingService;
 import com.productivity.dashboard.model.User;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.AsyncWebRequest;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.zip.GZIPOutputStream;
 
 /**
  * REST Controller for time tracking functionality
@@ -36,6 +49,9 @@ public class TimeTrackingController {
     @Autowired
     private AuthService authService;
     
+    @Autowired
+    private TimeEntryExporter timeEntryExporter;
+    
     /**
      * Start a timer for the current user
      * POST /api/time-tracking/start?taskId=1&description=Working on feature
@@ -128,6 +144,30 @@ public class TimeTrackingController {
         }
     }
     
+    /**
+     * Validate manual entries for a timesheet import without saving them
+     * POST /api/time-tracking/manual/validate
+     * Request: {"merge": false, "entries": [{"startTime": "2024-01-01T09:00:00", "endTime": "2024-01-01T12:00:00", "taskId": 1}]}
+     */
+    @PostMapping("/manual/validate")
+    public ResponseEntity<ApiResponse<TimesheetValidationResult>> validateTimesheet(
+            @Valid @RequestBody TimesheetValidationRequest request) {
+        logger.info("POST /api/time-tracking/manual/validate - {} entries, merge: {}", 
+            request.getEntries().size(), request.isMerge());
+        
+        try {
+            User currentUser = authService.getCurrentUser();
+            TimesheetValidationResult result = timeTrackingService.validateTimesheet(currentUser, 
+                request.getEntries(), request.isMerge());
+            
+            String message = result.isValid() ? "Timesheet is valid" : "Timesheet has conflicting entries";
+            return ResponseEntity.ok(ApiResponse.success(message, result));
+        } catch (Exception e) {
+            logger.error("Failed to validate timesheet - Error: {}", e.getMessage());
+            throw e;
+        }
+    }
+    
     /**
      * Get time entries for a user within date range
      * GET /api/time-tracking/user/{userId}?start=2024-01-01T00:00:00&end=2024-12-31T23:59:59
@@ -186,6 +226,56 @@ public class TimeTrackingController {
         }
     }
     
+    /**
+     * Get a user's minutes per day and task from the daily rollup
+     * GET /api/time-tracking/user/{userId}/daily?from=2024-01-01&to=2024-12-31
+     */
+    @GetMapping("/user/{userId}/daily")
+    @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER') or #userId == authentication.principal.id")
+    public ResponseEntity<ApiResponse<List<TimeEntryDailyDTO>>> getUserDailyTotals(
+            @PathVariable Long userId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        
+        logger.info("GET /api/time-tracking/user/{}/daily - from: {}, to: {}", userId, from, to);
+        
+        try {
+            List<TimeEntryDailyDTO> totals = timeTrackingService.getDailyTotals(Collections.singletonList(userId), from, to);
+            
+            logger.info("Successfully retrieved {} daily time rows for user: {}", totals.size(), userId);
+            
+            return ResponseEntity.ok(ApiResponse.success("Daily totals retrieved successfully", totals));
+        } catch (Exception e) {
+            logger.error("Failed to retrieve daily totals for user {} - Error: {}", userId, e.getMessage());
+            throw e;
+        }
+    }
+    
+    /**
+     * Get team minutes per user, day and task from the daily rollup
+     * GET /api/time-tracking/team/daily?userIds=1,2,3&from=2024-01-01&to=2024-12-31
+     */
+    @GetMapping("/team/daily")
+    @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
+    public ResponseEntity<ApiResponse<List<TimeEntryDailyDTO>>> getTeamDailyTotals(
+            @RequestParam List<Long> userIds,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        
+        logger.info("GET /api/time-tracking/team/daily - {} users, from: {}, to: {}", userIds.size(), from, to);
+        
+        try {
+            List<TimeEntryDailyDTO> totals = timeTrackingService.getDailyTotals(userIds, from, to);
+            
+            logger.info("Successfully retrieved {} team daily time rows", totals.size());
+            
+            return ResponseEntity.ok(ApiResponse.success("Team daily totals retrieved successfully", totals));
+        } catch (Exception e) {
+            logger.error("Failed to retrieve team daily totals - Error: {}", e.getMessage());
+            throw e;
+        }
+    }
+    
     /**
      * Get team time entries
      * GET /api/time-tracking/team?userIds=1,2,3&start=2024-01-01T00:00:00&end=2024-12-31T23:59:59
@@ -211,6 +301,60 @@ public class TimeTrackingController {
         }
     }
     
+    /**
+     * Stream team time entries as NDJSON or CSV (gzip when the client accepts it).
+     * Each row carries a cursor; pass the last one received as "after" to resume.
+     * GET /api/time-tracking/team/export?userIds=1,2,3&start=2024-01-01T00:00:00&end=2024-03-31T23:59:59&format=csv
+     */
+    @GetMapping("/team/export")
+    @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
+    public ResponseEntity<StreamingResponseBody> exportTeamTimeEntries(
+            @RequestParam List<Long> userIds,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime start,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime end,
+            @RequestParam(defaultValue = "ndjson") String format,
+            @RequestParam(required = false) String after,
+            @RequestParam(required = false) Integer limit,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            HttpServletRequest httpRequest) {
+        
+        logger.info("GET /api/time-tracking/team/export - {} users, start: {}, end: {}, format: {}, resumed: {}",
+            userIds.size(), start, end, format, after != null);
+        
+        TimeEntryExporter.Export export = timeEntryExporter.prepare(userIds, start, end, format, after, limit);
+        boolean gzip = acceptEncoding != null && acceptEncoding.toLowerCase().contains("gzip");
+        
+        // The long timeout applies to this request only; the completion handler frees the export slot
+        // when the async request ends without the body ever running (client gone, timeout, rejected task)
+        AsyncWebRequest asyncRequest = WebAsyncUtils.getAsyncManager(httpRequest).getAsyncWebRequest();
+        asyncRequest.setTimeout(timeEntryExporter.getTimeoutMillis());
+        asyncRequest.addCompletionHandler(export::release);
+        
+        StreamingResponseBody body = out -> {
+            try {
+                if (gzip) {
+                    GZIPOutputStream compressed = new GZIPOutputStream(out, 8192);
+                    export.writeTo(compressed);
+                    compressed.finish();
+                } else {
+                    export.writeTo(out);
+                }
+            } finally {
+                export.release();
+            }
+        };
+        
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+            .contentType(MediaType.parseMediaType(export.getFormat().getContentType() + ";charset=UTF-8"))
+            .header(HttpHeaders.CONTENT_DISPOSITION,
+                "attachment; filename=\"time-entries." + export.getFormat().getExtension() + "\"")
+            .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(body);
+    }
+    
     /**
      * Get time entries for a specific task
      * GET /api/time-tracking/task/{taskId}
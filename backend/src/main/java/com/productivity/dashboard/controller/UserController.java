@@ -1,6 +1,7 @@
 package com.productivity.dashboard.controller;
 
 import com.productivity.dashboard.dto.ApiResponse;
+import com.productivity.dashboard.dto.RoleUpdateRequest;
 import com.productivity.dashboard.dto.UserTaskStats;
 import com.productivity.dashboard.model.User;
 import com.productivity.dashboard.service.AuthService;
@@ -9,7 +10,9 @@ import com.productivity.dashboard.service.UserService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import jakarta.validation.Valid;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -76,4 +79,19 @@ public class UserController {
         UserTaskStats stats = taskService.getUserTaskStats(id);
         return ResponseEntity.ok(ApiResponse.success("User statistics retrieved", stats));
     }
+    
+    /**
+     * Change a user's role (managers only). Tokens already issued to that user stop working.
+     * PUT /api/users/1/role
+     * Request: {"role": "MANAGER"}
+     * Response: {"success": true, "message": "User role updated", "data": {...}}
+     */
+    @PutMapping("/{id}/role")
+    @PreAuthorize("hasRole('MANAGER')")
+    public ResponseEntity<ApiResponse<User>> updateUserRole(@PathVariable Long id,
+                                                            @Valid @RequestBody RoleUpdateRequest request) {
+        logger.info("PUT /api/users/{}/role - role: {}", id, request.getRole());
+        User user = userService.updateUserRole(id, request.getRole());
+        return ResponseEntity.ok(ApiResponse.success("User role updated", user));
+    }
 }
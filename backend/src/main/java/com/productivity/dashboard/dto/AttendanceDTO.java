@@ -0,0 +1,99 @@
+package com.productivity.dashboard.dto;
+
+import com.productivity.dashboard.model.AttendanceStatus;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * DTO for Attendance entity responses
+ */
+public class AttendanceDTO {
+    
+    private Long id;
+    private Long userId;
+    private String userName;
+    private LocalDate date;
+    private LocalDateTime checkInTime;
+    private LocalDateTime checkOutTime;
+    private AttendanceStatus status;
+    private Double workHours;
+    private String notes;
+    
+    // Constructors
+    public AttendanceDTO() {
+    }
+    
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+    
+    public void setId(Long id) {
+        this.id = id;
+    }
+    
+    public Long getUserId() {
+        return userId;
+    }
+    
+    public void setUserId(Long userId) {
+        this.userId = userId;
+    }
+    
+    public String getUserName() {
+        return userName;
+    }
+    
+    public void setUserName(String userName) {
+        this.userName = userName;
+    }
+    
+    public LocalDate getDate() {
+        return date;
+    }
+    
+    public void setDate(LocalDate date) {
+        this.date = date;
+    }
+    
+    public LocalDateTime getCheckInTime() {
+        return checkInTime;
+    }
+    
+    public void setCheckInTime(LocalDateTime checkInTime) {
+        this.checkInTime = checkInTime;
+    }
+    
+    public LocalDateTime getCheckOutTime() {
+        return checkOutTime;
+    }
+    
+    public void setCheckOutTime(LocalDateTime checkOutTime) {
+        this.checkOutTime = checkOutTime;
+    }
+    
+    public AttendanceStatus getStatus() {
+        return status;
+    }
+    
+    public void setStatus(AttendanceStatus status) {
+        this.status = status;
+    }
+    
+    public Double getWorkHours() {
+        return workHours;
+    }
+    
+    public void setWorkHours(Double workHours) {
+        this.workHours = workHours;
+    }
+    
+    public String getNotes() {
+        return notes;
+    }
+    
+    public void setNotes(String notes) {
+        this.notes = notes;
+    }
+}
@@ -0,0 +1,115 @@
+package com.productivity.dashboard.dto;
+
+import com.productivity.dashboard.model.Priority;
+import com.productivity.dashboard.model.TaskStatus;
+
+import jakarta.validation.constraints.NotNull;
+import java.time.LocalDate;
+
+/**
+ * One item of a bulk task request. CREATE uses the task fields (title, priority and assignedToId
+ * are required); UPDATE, COMPLETE and DELETE need taskId, and UPDATE changes only the fields that are set.
+ */
+public class BulkTaskOperation {
+
+    public enum Action {
+        CREATE,
+        UPDATE,
+        COMPLETE,
+        DELETE
+    }
+
+    @NotNull(message = "Action is required")
+    private Action action;
+
+    private Long taskId;
+    private String title;
+    private String description;
+    private TaskStatus status;
+    private Priority priority;
+    private LocalDate dueDate;
+    private Long assignedToId;
+
+    // Constructors
+    public BulkTaskOperation() {}
+
+    public TaskCreateRequest toCreateRequest() {
+        return new TaskCreateRequest(title, description, priority, dueDate, assignedToId);
+    }
+
+    public TaskUpdateRequest toUpdateRequest() {
+        TaskUpdateRequest request = new TaskUpdateRequest();
+        request.setTitle(title);
+        request.setDescription(description);
+        request.setStatus(status);
+        request.setPriority(priority);
+        request.setDueDate(dueDate);
+        request.setAssignedToId(assignedToId);
+        return request;
+    }
+
+    // Getters and Setters
+    public Action getAction() {
+        return action;
+    }
+
+    public void setAction(Action action) {
+        this.action = action;
+    }
+
+    public Long getTaskId() {
+        return taskId;
+    }
+
+    public void setTaskId(Long taskId) {
+        this.taskId = taskId;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public void setDescription(String description) {
+        this.description = description;
+    }
+
+    public TaskStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(TaskStatus status) {
+        this.status = status;
+    }
+
+    public Priority getPriority() {
+        return priority;
+    }
+
+    public void setPriority(Priority priority) {
+        this.priority = priority;
+    }
+
+    public LocalDate getDueDate() {
+        return dueDate;
+    }
+
+    public void setDueDate(LocalDate dueDate) {
+        this.dueDate = dueDate;
+    }
+
+    public Long getAssignedToId() {
+        return assignedToId;
+    }
+
+    public void setAssignedToId(Long assignedToId) {
+        this.assignedToId = assignedToId;
+    }
+}
@@ -0,0 +1,28 @@
+package com.productivity.dashboard.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import java.util.List;
+
+public class BulkTaskRequest {
+    
+    @NotEmpty(message = "At least one operation is required")
+    @Valid
+    private List<BulkTaskOperation> operations;
+    
+    // Constructors
+    public BulkTaskRequest() {}
+    
+    public BulkTaskRequest(List<BulkTaskOperation> operations) {
+        this.operations = operations;
+    }
+    
+    // Getters and Setters
+    public List<BulkTaskOperation> getOperations() {
+        return operations;
+    }
+    
+    public void setOperations(List<BulkTaskOperation> operations) {
+        this.operations = operations;
+    }
+}
@@ -0,0 +1,86 @@
+package com.productivity.dashboard.dto;
+
+/**
+ * Outcome of one bulk operation, reported at the same index as the request item
+ */
+public class BulkTaskResult {
+    
+    private int index;
+    private BulkTaskOperation.Action action;
+    private Long taskId;
+    private boolean success;
+    private String error;
+    private TaskDTO task;
+    
+    // Constructors
+    public BulkTaskResult() {}
+    
+    public static BulkTaskResult success(int index, BulkTaskOperation.Action action, Long taskId, TaskDTO task) {
+        BulkTaskResult result = new BulkTaskResult();
+        result.index = index;
+        result.action = action;
+        result.taskId = taskId;
+        result.success = true;
+        result.task = task;
+        return result;
+    }
+    
+    public static BulkTaskResult failure(int index, BulkTaskOperation.Action action, Long taskId, String error) {
+        BulkTaskResult result = new BulkTaskResult();
+        result.index = index;
+        result.action = action;
+        result.taskId = taskId;
+        result.success = false;
+        result.error = error;
+        return result;
+    }
+    
+    // Getters and Setters
+    public int getIndex() {
+        return index;
+    }
+    
+    public void setIndex(int index) {
+        this.index = index;
+    }
+    
+    public BulkTaskOperation.Action getAction() {
+        return action;
+    }
+    
+    public void setAction(BulkTaskOperation.Action action) {
+        this.action = action;
+    }
+    
+    public Long getTaskId() {
+        return taskId;
+    }
+    
+    public void setTaskId(Long taskId) {
+        this.taskId = taskId;
+    }
+    
+    public boolean isSuccess() {
+        return success;
+    }
+    
+    public void setSuccess(boolean success) {
+        this.success = success;
+    }
+    
+    public String getError() {
+        return error;
+    }
+    
+    public void setError(String error) {
+        this.error = error;
+    }
+    
+    public TaskDTO getTask() {
+        return task;
+    }
+    
+    public void setTask(TaskDTO task) {
+        this.task = task;
+    }
+}
@@ -0,0 +1,52 @@
+package com.productivity.dashboard.dto;
+
+import java.util.List;
+
+/**
+ * One page of a keyset-paginated listing. {@code nextCursor} is opaque to clients and is
+ * passed back unchanged to fetch the following page; it is null on the last page.
+ */
+public class CursorSlice<T> {
+    
+    private List<T> items;
+    private String nextCursor;
+    private boolean hasNext;
+    
+    // Constructors
+    public CursorSlice() {}
+    
+    public CursorSlice(List<T> items, String nextCursor) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+        this.hasNext = nextCursor != null;
+    }
+    
+    // Getters and Setters
+    public List<T> getItems() {
+        return items;
+    }
+    
+    public void setItems(List<T> items) {
+        this.items = items;
+    }
+    
+    public String getNextCursor() {
+        return nextCursor;
+    }
+    
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+    
+    public boolean isHasNext() {
+        return hasNext;
+    }
+    
+    public void setHasNext(boolean hasNext) {
+        this.hasNext = hasNext;
+    }
+    
+    public int getSize() {
+        return items != null ? items.size() : 0;
+    }
+}
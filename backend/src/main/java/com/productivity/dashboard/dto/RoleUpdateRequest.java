@@ -0,0 +1,26 @@
+package com.productivity.dashboard.dto;
+
+import com.productivity.dashboard.model.Role;
+import jakarta.validation.constraints.NotNull;
+
+public class RoleUpdateRequest {
+    
+    @NotNull(message = "Role is required")
+    private Role role;
+    
+    // Constructors
+    public RoleUpdateRequest() {}
+    
+    public RoleUpdateRequest(Role role) {
+        this.role = role;
+    }
+    
+    // Getters and Setters
+    public Role getRole() {
+        return role;
+    }
+    
+    public void setRole(Role role) {
+        this.role = role;
+    }
+}
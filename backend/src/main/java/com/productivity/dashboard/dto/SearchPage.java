@@ -0,0 +1,57 @@
+package com.productivity.dashboard.dto;
+
+import java.util.List;
+
+/**
+ * One page of ranked search results with the total number of matches.
+ */
+public class SearchPage<T> {
+
+    private List<T> items;
+    private int page;
+    private int size;
+    private long total;
+
+    // Constructors
+    public SearchPage() {}
+
+    public SearchPage(List<T> items, int page, int size, long total) {
+        this.items = items;
+        this.page = page;
+        this.size = size;
+        this.total = total;
+    }
+
+    // Getters and Setters
+    public List<T> getItems() {
+        return items;
+    }
+
+    public void setItems(List<T> items) {
+        this.items = items;
+    }
+
+    public int getPage() {
+        return page;
+    }
+
+    public void setPage(int page) {
+        this.page = page;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public void setSize(int size) {
+        this.size = size;
+    }
+
+    public long getTotal() {
+        return total;
+    }
+
+    public void setTotal(long total) {
+        this.total = total;
+    }
+}
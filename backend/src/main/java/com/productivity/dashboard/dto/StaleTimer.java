@@ -0,0 +1,17 @@
+package com.productivity.dashboard.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * Projection of a running timer picked up by the stale-timer reaper
+ */
+public interface StaleTimer {
+
+    Long getId();
+
+    Long getUserId();
+
+    Long getTaskId();
+
+    LocalDateTime getStartTime();
+}
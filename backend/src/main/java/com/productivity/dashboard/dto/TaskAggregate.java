@@ -0,0 +1,19 @@
+package com.productivity.dashboard.dto;
+
+import com.productivity.dashboard.model.Priority;
+import com.productivity.dashboard.model.TaskStatus;
+
+/**
+ * Projection for grouped task counts per assignee, status and priority.
+ * Lets dashboard queries aggregate in the database instead of loading Task rows.
+ */
+public interface TaskAggregate {
+
+    Long getUserId();
+
+    TaskStatus getStatus();
+
+    Priority getPriority();
+
+    long getTaskCount();
+}
@@ -0,0 +1,93 @@
+package com.productivity.dashboard.dto;
+
+import com.productivity.dashboard.exception.BadRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Seek position in a task listing: the sort it belongs to plus the last row's sort value and id.
+ * Encoded as URL-safe base64 so clients treat it as an opaque token.
+ */
+public final class TaskCursor {
+
+    private final TaskSortKey sortKey;
+    private final boolean descending;
+    private final String value;
+    private final Long id;
+
+    public TaskCursor(TaskSortKey sortKey, boolean descending, String value, Long id) {
+        this.sortKey = sortKey;
+        this.descending = descending;
+        this.value = value;
+        this.id = id;
+    }
+
+    public static TaskCursor after(TaskSortKey sortKey, boolean descending, TaskSummary last) {
+        return new TaskCursor(sortKey, descending, sortKey.valueOf(last), last.getId());
+    }
+
+    /**
+     * Decode a cursor issued for the same sort; null or blank means the first page
+     */
+    public static TaskCursor decode(String cursor, TaskSortKey sortKey, boolean descending) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        TaskCursor decoded;
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split("\\|", -1);
+            decoded = new TaskCursor(TaskSortKey.valueOf(parts[0]), "desc".equals(parts[1]),
+                                     parts[2].isEmpty() ? null : parts[2], Long.parseLong(parts[3]));
+            decoded.validateValue();
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new BadRequestException("Invalid cursor");
+        }
+        if (decoded.sortKey != sortKey || decoded.descending != descending) {
+            throw new BadRequestException("Cursor does not match the requested sort");
+        }
+        return decoded;
+    }
+
+    private void validateValue() {
+        switch (sortKey) {
+            case DUE_DATE:
+                if (value != null) {
+                    LocalDate.parse(value);
+                }
+                break;
+            case PRIORITY:
+                Integer.parseInt(value);
+                break;
+            case CREATED_AT:
+                LocalDateTime.parse(value);
+                break;
+            default:
+                break;
+        }
+    }
+
+    public String encode() {
+        String raw = sortKey.name() + "|" + (descending ? "desc" : "asc") + "|" + (value != null ? value : "") + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public TaskSortKey getSortKey() {
+        return sortKey;
+    }
+
+    public boolean isDescending() {
+        return descending;
+    }
+
+    public String getValue() {
+        return value;
+    }
+
+    public Long getId() {
+        return id;
+    }
+}
@@ -0,0 +1,85 @@
+package com.productivity.dashboard.dto;
+
+import com.productivity.dashboard.model.Priority;
+import com.productivity.dashboard.model.TaskStatus;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Combinable task listing filters; null or empty fields do not restrict the result
+ */
+public class TaskFilter {
+
+    private Long assignedToId;
+    private List<TaskStatus> statuses;
+    private List<Priority> priorities;
+    private LocalDate dueFrom;
+    private LocalDate dueTo;
+    private boolean overdue;
+
+    // Constructors
+    public TaskFilter() {}
+
+    public TaskFilter(Long assignedToId, List<TaskStatus> statuses, List<Priority> priorities,
+                      LocalDate dueFrom, LocalDate dueTo, boolean overdue) {
+        this.assignedToId = assignedToId;
+        this.statuses = statuses;
+        this.priorities = priorities;
+        this.dueFrom = dueFrom;
+        this.dueTo = dueTo;
+        this.overdue = overdue;
+    }
+
+    // Getters and Setters
+    public Long getAssignedToId() {
+        return assignedToId;
+    }
+
+    public void setAssignedToId(Long assignedToId) {
+        this.assignedToId = assignedToId;
+    }
+
+    public List<TaskStatus> getStatuses() {
+        return statuses;
+    }
+
+    public void setStatuses(List<TaskStatus> statuses) {
+        this.statuses = statuses;
+    }
+
+    public List<Priority> getPriorities() {
+        return priorities;
+    }
+
+    public void setPriorities(List<Priority> priorities) {
+        this.priorities = priorities;
+    }
+
+    public LocalDate getDueFrom() {
+        return dueFrom;
+    }
+
+    public void setDueFrom(LocalDate dueFrom) {
+        this.dueFrom = dueFrom;
+    }
+
+    public LocalDate getDueTo() {
+        return dueTo;
+    }
+
+    public void setDueTo(LocalDate dueTo) {
+        this.dueTo = dueTo;
+    }
+
+    /**
+     * Only tasks past their due date that are not completed
+     */
+    public boolean isOverdue() {
+        return overdue;
+    }
+
+    public void setOverdue(boolean overdue) {
+        this.overdue = overdue;
+    }
+}
@@ -0,0 +1,14 @@
+package com.productivity.dashboard.dto;
+
+/**
+ * Projection of the searchable task text, used to (re)build the in-memory search index
+ * without loading full Task entities.
+ */
+public interface TaskSearchRow {
+
+    Long getId();
+
+    String getTitle();
+
+    String getDescription();
+}
@@ -0,0 +1,50 @@
+package com.productivity.dashboard.dto;
+
+import com.productivity.dashboard.exception.BadRequestException;
+
+/**
+ * Whitelisted sort keys for the task listing. Every key is paired with the task id as a tie-breaker,
+ * so (key, id) is a total order that keyset pagination can seek on.
+ */
+public enum TaskSortKey {
+
+    DUE_DATE("dueDate"),
+    PRIORITY("priority"),
+    CREATED_AT("createdAt"),
+    ID("id");
+
+    private final String param;
+
+    TaskSortKey(String param) {
+        this.param = param;
+    }
+
+    public String getParam() {
+        return param;
+    }
+
+    public static TaskSortKey fromParam(String param) {
+        for (TaskSortKey key : values()) {
+            if (key.param.equalsIgnoreCase(param)) {
+                return key;
+            }
+        }
+        throw new BadRequestException("Unsupported sort key: " + param + " (allowed: dueDate, priority, createdAt, id)");
+    }
+
+    /**
+     * Cursor value of a row for this key; null for a missing due date and for the id key
+     */
+    public String valueOf(TaskSummary task) {
+        switch (this) {
+            case DUE_DATE:
+                return task.getDueDate() != null ? task.getDueDate().toString() : null;
+            case PRIORITY:
+                return String.valueOf(task.getPriority().ordinal());
+            case CREATED_AT:
+                return task.getCreatedAt().toString();
+            default:
+                return null;
+        }
+    }
+}
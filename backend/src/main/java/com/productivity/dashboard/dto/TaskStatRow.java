@@ -0,0 +1,46 @@
+package com.productivity.dashboard.dto;
+
+import com.productivity.dashboard.model.Priority;
+import com.productivity.dashboard.model.TaskStatus;
+
+import java.time.LocalDate;
+
+/**
+ * Minimal task columns needed for statistics, fetched in bulk without hydrating Task entities
+ */
+public class TaskStatRow {
+    
+    private final Long userId;
+    private final TaskStatus status;
+    private final Priority priority;
+    private final LocalDate dueDate;
+    private final LocalDate completedDate;
+    
+    public TaskStatRow(Long userId, TaskStatus status, Priority priority, LocalDate dueDate, LocalDate completedDate) {
+        this.userId = userId;
+        this.status = status;
+        this.priority = priority;
+        this.dueDate = dueDate;
+        this.completedDate = completedDate;
+    }
+    
+    public Long getUserId() {
+        return userId;
+    }
+    
+    public TaskStatus getStatus() {
+        return status;
+    }
+    
+    public Priority getPriority() {
+        return priority;
+    }
+    
+    public LocalDate getDueDate() {
+        return dueDate;
+    }
+    
+    public LocalDate getCompletedDate() {
+        return completedDate;
+    }
+}
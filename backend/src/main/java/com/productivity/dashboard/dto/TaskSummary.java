@@ -0,0 +1,85 @@
+package com.productivity.dashboard.dto;
+
+import com.productivity.dashboard.model.Priority;
+import com.productivity.dashboard.model.TaskStatus;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * List-view projection of a task: no description and no assignee entity, just its id and name
+ */
+public class TaskSummary {
+
+    private final Long id;
+    private final String title;
+    private final TaskStatus status;
+    private final Priority priority;
+    private final LocalDate dueDate;
+    private final LocalDate completedDate;
+    private final LocalDateTime createdAt;
+    private final Long assignedToId;
+    private final String assignedToName;
+    private final Long totalMinutes;
+    private final Long entryCount;
+
+    public TaskSummary(Long id, String title, TaskStatus status, Priority priority, LocalDate dueDate,
+                       LocalDate completedDate, LocalDateTime createdAt, Long assignedToId, String assignedToName,
+                       Long totalMinutes, Long entryCount) {
+        this.id = id;
+        this.title = title;
+        this.status = status;
+        this.priority = priority;
+        this.dueDate = dueDate;
+        this.completedDate = completedDate;
+        this.createdAt = createdAt;
+        this.assignedToId = assignedToId;
+        this.assignedToName = assignedToName;
+        this.totalMinutes = totalMinutes;
+        this.entryCount = entryCount;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public TaskStatus getStatus() {
+        return status;
+    }
+
+    public Priority getPriority() {
+        return priority;
+    }
+
+    public LocalDate getDueDate() {
+        return dueDate;
+    }
+
+    public LocalDate getCompletedDate() {
+        return completedDate;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public Long getAssignedToId() {
+        return assignedToId;
+    }
+
+    public String getAssignedToName() {
+        return assignedToName;
+    }
+
+    public Long getTotalMinutes() {
+        return totalMinutes;
+    }
+
+    public Long getEntryCount() {
+        return entryCount;
+    }
+}
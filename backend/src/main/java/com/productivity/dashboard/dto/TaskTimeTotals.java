@@ -0,0 +1,13 @@
+package com.productivity.dashboard.dto;
+
+/**
+ * Projection of a task's time spent: minutes and number of stopped time entries
+ */
+public interface TaskTimeTotals {
+
+    Long getTaskId();
+
+    Long getTotalMinutes();
+
+    Long getEntryCount();
+}
@@ -0,0 +1,68 @@
+package com.productivity.dashboard.dto;
+
+import java.time.LocalDate;
+
+/**
+ * Minutes a user worked on one day, per task (taskId is null for time not linked to a task)
+ */
+public class TimeEntryDailyDTO {
+
+    private Long userId;
+    private LocalDate date;
+    private Long taskId;
+    private long minutes;
+    private long entryCount;
+
+    // Constructors
+    public TimeEntryDailyDTO() {
+    }
+
+    public TimeEntryDailyDTO(Long userId, LocalDate date, Long taskId, long minutes, long entryCount) {
+        this.userId = userId;
+        this.date = date;
+        this.taskId = taskId;
+        this.minutes = minutes;
+        this.entryCount = entryCount;
+    }
+
+    // Getters and Setters
+    public Long getUserId() {
+        return userId;
+    }
+
+    public void setUserId(Long userId) {
+        this.userId = userId;
+    }
+
+    public LocalDate getDate() {
+        return date;
+    }
+
+    public void setDate(LocalDate date) {
+        this.date = date;
+    }
+
+    public Long getTaskId() {
+        return taskId;
+    }
+
+    public void setTaskId(Long taskId) {
+        this.taskId = taskId;
+    }
+
+    public long getMinutes() {
+        return minutes;
+    }
+
+    public void setMinutes(long minutes) {
+        this.minutes = minutes;
+    }
+
+    public long getEntryCount() {
+        return entryCount;
+    }
+
+    public void setEntryCount(long entryCount) {
+        this.entryCount = entryCount;
+    }
+}
@@ -0,0 +1,16 @@
+package com.productivity.dashboard.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * Projection of a time entry's time range, used to build the per-user interval index.
+ * {@code endTime} is null while the timer is running.
+ */
+public interface TimeEntryInterval {
+
+    Long getId();
+
+    LocalDateTime getStartTime();
+
+    LocalDateTime getEndTime();
+}
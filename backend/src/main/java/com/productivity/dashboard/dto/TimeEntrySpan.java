@@ -0,0 +1,17 @@
+package com.productivity.dashboard.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * Projection of the time entry columns the daily rollup is computed from
+ */
+public interface TimeEntrySpan {
+
+    Long getTaskId();
+
+    LocalDateTime getStartTime();
+
+    LocalDateTime getEndTime();
+
+    Long getDurationMinutes();
+}
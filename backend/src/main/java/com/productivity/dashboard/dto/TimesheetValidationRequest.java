@@ -0,0 +1,38 @@
+package com.productivity.dashboard.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import java.util.List;
+
+/**
+ * Manual time entries to check before a timesheet import. With {@code merge}, overlapping entries
+ * for the same task are combined instead of being reported as conflicts.
+ */
+public class TimesheetValidationRequest {
+    
+    @NotEmpty(message = "At least one entry is required")
+    @Valid
+    private List<TimeEntryRequest> entries;
+    
+    private boolean merge;
+    
+    // Constructors
+    public TimesheetValidationRequest() {}
+    
+    // Getters and Setters
+    public List<TimeEntryRequest> getEntries() {
+        return entries;
+    }
+    
+    public void setEntries(List<TimeEntryRequest> entries) {
+        this.entries = entries;
+    }
+    
+    public boolean isMerge() {
+        return merge;
+    }
+    
+    public void setMerge(boolean merge) {
+        this.merge = merge;
+    }
+}
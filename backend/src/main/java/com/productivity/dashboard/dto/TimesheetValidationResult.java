@@ -0,0 +1,101 @@
+package com.productivity.dashboard.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Outcome of a timesheet validation: one result per request entry (same index), plus the
+ * entries to import after merging when merging was requested
+ */
+public class TimesheetValidationResult {
+    
+    private boolean valid;
+    private List<EntryResult> entries = new ArrayList<>();
+    private List<TimeEntryRequest> merged;
+    
+    // Constructors
+    public TimesheetValidationResult() {}
+    
+    // Getters and Setters
+    public boolean isValid() {
+        return valid;
+    }
+    
+    public void setValid(boolean valid) {
+        this.valid = valid;
+    }
+    
+    public List<EntryResult> getEntries() {
+        return entries;
+    }
+    
+    public void setEntries(List<EntryResult> entries) {
+        this.entries = entries;
+    }
+    
+    public List<TimeEntryRequest> getMerged() {
+        return merged;
+    }
+    
+    public void setMerged(List<TimeEntryRequest> merged) {
+        this.merged = merged;
+    }
+    
+    /**
+     * Result for one entry: the stored entries and other request entries (by index) it overlaps
+     */
+    public static class EntryResult {
+        
+        private int index;
+        private boolean valid;
+        private String error;
+        private List<Long> overlappingEntryIds = new ArrayList<>();
+        private List<Integer> overlappingIndexes = new ArrayList<>();
+        
+        public EntryResult() {}
+        
+        public EntryResult(int index) {
+            this.index = index;
+        }
+        
+        public int getIndex() {
+            return index;
+        }
+        
+        public void setIndex(int index) {
+            this.index = index;
+        }
+        
+        public boolean isValid() {
+            return valid;
+        }
+        
+        public void setValid(boolean valid) {
+            this.valid = valid;
+        }
+        
+        public String getError() {
+            return error;
+        }
+        
+        public void setError(String error) {
+            this.error = error;
+        }
+        
+        public List<Long> getOverlappingEntryIds() {
+            return overlappingEntryIds;
+        }
+        
+        public void setOverlappingEntryIds(List<Long> overlappingEntryIds) {
+            this.overlappingEntryIds = overlappingEntryIds;
+        }
+        
+        public List<Integer> getOverlappingIndexes() {
+            return overlappingIndexes;
+        }
+        
+        public void setOverlappingIndexes(List<Integer> overlappingIndexes) {
+            this.overlappingIndexes = overlappingIndexes;
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.productivity.dashboard.dto;
+
+import java.time.LocalDate;
+
+/**
+ * Minutes a user tracked per hour of the week, summed over {@code weeks} weeks starting at {@code weekStart}.
+ * {@code minutes[0]} is Monday 00:00-01:00 and {@code minutes[167]} is Sunday 23:00-24:00.
+ */
+public class WeeklyHeatmapDTO {
+
+    private Long userId;
+    private LocalDate weekStart;
+    private int weeks;
+    private long totalMinutes;
+    private int[] minutes;
+
+    // Constructors
+    public WeeklyHeatmapDTO() {
+    }
+
+    public WeeklyHeatmapDTO(Long userId, LocalDate weekStart, int weeks, int[] minutes) {
+        this.userId = userId;
+        this.weekStart = weekStart;
+        this.weeks = weeks;
+        this.minutes = minutes;
+        for (int value : minutes) {
+            this.totalMinutes += value;
+        }
+    }
+
+    // Getters and Setters
+    public Long getUserId() {
+        return userId;
+    }
+
+    public void setUserId(Long userId) {
+        this.userId = userId;
+    }
+
+    public LocalDate getWeekStart() {
+        return weekStart;
+    }
+
+    public void setWeekStart(LocalDate weekStart) {
+        this.weekStart = weekStart;
+    }
+
+    public int getWeeks() {
+        return weeks;
+    }
+
+    public void setWeeks(int weeks) {
+        this.weeks = weeks;
+    }
+
+    public long getTotalMinutes() {
+        return totalMinutes;
+    }
+
+    public void setTotalMinutes(long totalMinutes) {
+        this.totalMinutes = totalMinutes;
+    }
+
+    public int[] getMinutes() {
+        return minutes;
+    }
+
+    public void setMinutes(int[] minutes) {
+        this.minutes = minutes;
+    }
+}
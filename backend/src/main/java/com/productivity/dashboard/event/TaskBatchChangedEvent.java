@@ -0,0 +1,20 @@
+package com.productivity.dashboard.event;
+
+import java.util.List;
+
+/**
+ * Published by the bulk task write path inside the writing transaction, in place of one
+ * {@link TaskChangedEvent} per item, so listeners that write to the database can merge the changes.
+ */
+public class TaskBatchChangedEvent {
+
+    private final List<TaskChangedEvent> changes;
+
+    public TaskBatchChangedEvent(List<TaskChangedEvent> changes) {
+        this.changes = List.copyOf(changes);
+    }
+
+    public List<TaskChangedEvent> getChanges() {
+        return changes;
+    }
+}
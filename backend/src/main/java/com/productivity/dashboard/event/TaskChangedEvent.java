@@ -0,0 +1,28 @@
+package com.productivity.dashboard.event;
+
+/**
+ * Published by the task write paths inside the writing transaction.
+ * {@code before} is null for a created task, {@code after} is null for a deleted task.
+ */
+public class TaskChangedEvent {
+
+    private final TaskSnapshot before;
+    private final TaskSnapshot after;
+
+    public TaskChangedEvent(TaskSnapshot before, TaskSnapshot after) {
+        this.before = before;
+        this.after = after;
+    }
+
+    public TaskSnapshot getBefore() {
+        return before;
+    }
+
+    public TaskSnapshot getAfter() {
+        return after;
+    }
+
+    public Long getTaskId() {
+        return after != null ? after.getTaskId() : before.getTaskId();
+    }
+}
@@ -0,0 +1,73 @@
+package com.productivity.dashboard.event;
+
+import com.productivity.dashboard.model.Priority;
+import com.productivity.dashboard.model.Task;
+import com.productivity.dashboard.model.TaskStatus;
+
+import java.time.LocalDate;
+
+/**
+ * Immutable copy of the task fields that derived data (statistics, caches, indexes) depends on.
+ * Captured before and after a mutation so listeners can compute deltas.
+ */
+public final class TaskSnapshot {
+
+    private final Long taskId;
+    private final Long assigneeId;
+    private final TaskStatus status;
+    private final Priority priority;
+    private final LocalDate dueDate;
+    private final LocalDate completedDate;
+    private final String title;
+    private final String description;
+
+    public TaskSnapshot(Long taskId, Long assigneeId, TaskStatus status, Priority priority,
+                        LocalDate dueDate, LocalDate completedDate, String title, String description) {
+        this.taskId = taskId;
+        this.assigneeId = assigneeId;
+        this.status = status;
+        this.priority = priority;
+        this.dueDate = dueDate;
+        this.completedDate = completedDate;
+        this.title = title;
+        this.description = description;
+    }
+
+    public static TaskSnapshot of(Task task) {
+        Long assigneeId = task.getAssignedTo() != null ? task.getAssignedTo().getId() : null;
+        return new TaskSnapshot(task.getId(), assigneeId, task.getStatus(), task.getPriority(),
+                                task.getDueDate(), task.getCompletedDate(), task.getTitle(), task.getDescription());
+    }
+
+    public Long getTaskId() {
+        return taskId;
+    }
+
+    public Long getAssigneeId() {
+        return assigneeId;
+    }
+
+    public TaskStatus getStatus() {
+        return status;
+    }
+
+    public Priority getPriority() {
+        return priority;
+    }
+
+    public LocalDate getDueDate() {
+        return dueDate;
+    }
+
+    public LocalDate getCompletedDate() {
+        return completedDate;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
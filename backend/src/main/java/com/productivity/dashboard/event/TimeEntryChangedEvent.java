@@ -0,0 +1,28 @@
+package com.productivity.dashboard.event;
+
+/**
+ * Published by the time tracking write paths inside the writing transaction.
+ * {@code before} is null for a started timer or a new manual entry, {@code after} is null for a deleted entry.
+ */
+public class TimeEntryChangedEvent {
+
+    private final TimeEntrySnapshot before;
+    private final TimeEntrySnapshot after;
+
+    public TimeEntryChangedEvent(TimeEntrySnapshot before, TimeEntrySnapshot after) {
+        this.before = before;
+        this.after = after;
+    }
+
+    public TimeEntrySnapshot getBefore() {
+        return before;
+    }
+
+    public TimeEntrySnapshot getAfter() {
+        return after;
+    }
+
+    public Long getUserId() {
+        return after != null ? after.getUserId() : before.getUserId();
+    }
+}
@@ -0,0 +1,69 @@
+package com.productivity.dashboard.event;
+
+import com.productivity.dashboard.model.TimeEntry;
+
+import java.time.LocalDateTime;
+
+/**
+ * Immutable copy of the time entry fields that derived data (caches, rollups, indexes) depends on.
+ * {@code endTime} is null while the timer is running.
+ */
+public final class TimeEntrySnapshot {
+
+    private final Long entryId;
+    private final Long userId;
+    private final Long taskId;
+    private final LocalDateTime startTime;
+    private final LocalDateTime endTime;
+    private final Long durationMinutes;
+    private final boolean manual;
+
+    public TimeEntrySnapshot(Long entryId, Long userId, Long taskId, LocalDateTime startTime,
+                             LocalDateTime endTime, Long durationMinutes, boolean manual) {
+        this.entryId = entryId;
+        this.userId = userId;
+        this.taskId = taskId;
+        this.startTime = startTime;
+        this.endTime = endTime;
+        this.durationMinutes = durationMinutes;
+        this.manual = manual;
+    }
+
+    public static TimeEntrySnapshot of(TimeEntry entry) {
+        Long taskId = entry.getTask() != null ? entry.getTask().getId() : null;
+        return new TimeEntrySnapshot(entry.getId(), entry.getUser().getId(), taskId, entry.getStartTime(),
+                                     entry.getEndTime(), entry.getDurationMinutes(), Boolean.TRUE.equals(entry.getIsManual()));
+    }
+
+    public Long getEntryId() {
+        return entryId;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public Long getTaskId() {
+        return taskId;
+    }
+
+    public LocalDateTime getStartTime() {
+        return startTime;
+    }
+
+    public LocalDateTime getEndTime() {
+        return endTime;
+    }
+
+    public Long getDurationMinutes() {
+        return durationMinutes;
+    }
+
+    public boolean isManual() {
+        return manual;
+    }
+
+    public boolean isRunning() {
+        return endTime == null;
+    }
+}
@@ -0,0 +1,44 @@
+package com.productivity.dashboard.job;
+
+import com.productivity.dashboard.service.ActivityService;
+import org.quartz.DisallowConcurrentExecution;
+import org.quartz.JobExecutionContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.quartz.QuartzJobBean;
+
+import java.time.LocalDateTime;
+
+/**
+ * Nightly job that moves activities older than the hot window into activities_archive.
+ * Rows are moved in short batches, each in its own transaction, to keep lock times low.
+ */
+@DisallowConcurrentExecution
+public class ActivityRetentionJob extends QuartzJobBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(ActivityRetentionJob.class);
+
+    @Autowired
+    private ActivityService activityService;
+
+    @Value("${activity.retention.hot-days:90}")
+    private int hotDays;
+
+    @Value("${activity.retention.batch-size:1000}")
+    private int batchSize;
+
+    @Override
+    protected void executeInternal(JobExecutionContext context) {
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(hotDays);
+        logger.info("Archiving activities created before {}", cutoff);
+
+        long total = 0;
+        int moved;
+        while ((moved = activityService.archiveBatch(cutoff, batchSize)) > 0) {
+            total += moved;
+        }
+        logger.info("Activity retention job completed - {} activities archived", total);
+    }
+}
@@ -0,0 +1,44 @@
+package com.productivity.dashboard.job;
+
+import com.productivity.dashboard.service.TimeTrackingService;
+import org.quartz.DisallowConcurrentExecution;
+import org.quartz.JobExecutionContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.quartz.QuartzJobBean;
+
+import java.time.LocalDateTime;
+
+/**
+ * Periodic job that closes timers left running longer than the max duration, capping them at that duration.
+ * Timers are closed in batches, each one set-based update in its own transaction.
+ */
+@DisallowConcurrentExecution
+public class StaleTimerReaperJob extends QuartzJobBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(StaleTimerReaperJob.class);
+
+    @Autowired
+    private TimeTrackingService timeTrackingService;
+
+    @Value("${time.reaper.max-duration-hours:12}")
+    private long maxDurationHours;
+
+    @Value("${time.reaper.batch-size:500}")
+    private int batchSize;
+
+    @Override
+    protected void executeInternal(JobExecutionContext context) {
+        long maxMinutes = maxDurationHours * 60;
+        LocalDateTime cutoff = LocalDateTime.now().minusMinutes(maxMinutes);
+
+        long total = 0;
+        int closed;
+        while ((closed = timeTrackingService.reapStaleTimers(cutoff, maxMinutes, batchSize)) > 0) {
+            total += closed;
+        }
+        logger.info("Stale timer reaper job completed - {} timers auto-stopped", total);
+    }
+}
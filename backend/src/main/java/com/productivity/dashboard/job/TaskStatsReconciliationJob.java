@@ -0,0 +1,32 @@
+package com.productivity.dashboard.job;
+
+import com.productivity.dashboard.service.TaskStatsRollupService;
+import org.quartz.DisallowConcurrentExecution;
+import org.quartz.JobExecutionContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.quartz.QuartzJobBean;
+
+/**
+ * Nightly job that reconciles the user_task_stats rollup against the tasks table.
+ * Also picks up tasks that became overdue since they were last written.
+ */
+@DisallowConcurrentExecution
+public class TaskStatsReconciliationJob extends QuartzJobBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskStatsReconciliationJob.class);
+
+    @Autowired
+    private TaskStatsRollupService taskStatsRollupService;
+
+    @Value("${stats.rollup.reconcile-repair:true}")
+    private boolean repair;
+
+    @Override
+    protected void executeInternal(JobExecutionContext context) {
+        int drifted = taskStatsRollupService.reconcile(repair);
+        logger.info("Task statistics reconciliation job completed - {} drifted users", drifted);
+    }
+}
@@ -0,0 +1,31 @@
+package com.productivity.dashboard.job;
+
+import com.productivity.dashboard.service.TaskTimeTotalsService;
+import org.quartz.DisallowConcurrentExecution;
+import org.quartz.JobExecutionContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.quartz.QuartzJobBean;
+
+/**
+ * Nightly job that recomputes the per-task time totals from the time_entries table
+ */
+@DisallowConcurrentExecution
+public class TaskTimeTotalsReconciliationJob extends QuartzJobBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskTimeTotalsReconciliationJob.class);
+
+    @Autowired
+    private TaskTimeTotalsService taskTimeTotalsService;
+
+    @Value("${task.time-totals.reconcile-repair:true}")
+    private boolean repair;
+
+    @Override
+    protected void executeInternal(JobExecutionContext context) {
+        int drifted = taskTimeTotalsService.reconcile(repair);
+        logger.info("Task time totals reconciliation job completed - {} drifted tasks", drifted);
+    }
+}
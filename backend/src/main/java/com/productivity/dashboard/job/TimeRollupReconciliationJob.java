@@ -0,0 +1,31 @@
+package com.productivity.dashboard.job;
+
+import com.productivity.dashboard.service.TimeRollupService;
+import org.quartz.DisallowConcurrentExecution;
+import org.quartz.JobExecutionContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.quartz.QuartzJobBean;
+
+/**
+ * Nightly job that reconciles the time_entry_daily rollup against the time_entries table
+ */
+@DisallowConcurrentExecution
+public class TimeRollupReconciliationJob extends QuartzJobBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(TimeRollupReconciliationJob.class);
+
+    @Autowired
+    private TimeRollupService timeRollupService;
+
+    @Value("${time.rollup.reconcile-repair:true}")
+    private boolean repair;
+
+    @Override
+    protected void executeInternal(JobExecutionContext context) {
+        int drifted = timeRollupService.reconcile(repair);
+        logger.info("Daily time rollup reconciliation job completed - {} drifted users", drifted);
+    }
+}
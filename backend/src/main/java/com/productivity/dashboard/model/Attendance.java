@@ -5,10 +5,13 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 /**
- * Entity representing daily attendance records
+ * Entity representing daily attendance records.
+ * The unique (user_id, date) key makes check-in an idempotent upsert.
  */
 @Entity
-@Table(name = "attendance")
+@Table(name = "attendance",
+       uniqueConstraints = @UniqueConstraint(name = "unique_user_date", columnNames = {"user_id", "date"}),
+       indexes = @Index(name = "idx_date", columnList = "date"))
 public class Attendance {
     
     @Id
@@ -1,11 +1,18 @@
 package com.productivity.dashboard.model;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.ColumnDefault;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "tasks")
+@Table(name = "tasks", indexes = {
+    @Index(name = "idx_tasks_assignee_due", columnList = "assigned_to, due_date, id"),
+    @Index(name = "idx_tasks_status_due", columnList = "status, due_date, id"),
+    @Index(name = "idx_tasks_assignee_priority", columnList = "assigned_to, priority, id"),
+    @Index(name = "idx_tasks_status_priority", columnList = "status, priority, id"),
+    @Index(name = "idx_tasks_created", columnList = "created_at, id")
+})
 public class Task {
     
     @Id
@@ -39,6 +46,20 @@ public class Task {
     @Column(name = "created_at", nullable = false)
     private LocalDateTime createdAt;
     
+    // Maintained by atomic increments when time entries stop, are created or deleted; never written through the entity
+    @ColumnDefault("0")
+    @Column(name = "total_minutes", nullable = false, insertable = false, updatable = false)
+    private Long totalMinutes = 0L;
+    
+    @ColumnDefault("0")
+    @Column(name = "entry_count", nullable = false, insertable = false, updatable = false)
+    private Long entryCount = 0L;
+    
+    // Optimistic concurrency: every write checks and increments it, exposed to clients as the ETag
+    @Version
+    @Column(name = "version", columnDefinition = "BIGINT DEFAULT 0 NOT NULL")
+    private Long version = 0L;
+    
     // Constructors
     public Task() {
         this.status = TaskStatus.PENDING;
@@ -130,4 +151,20 @@ public class Task {
     public void setCreatedAt(LocalDateTime createdAt) {
         this.createdAt = createdAt;
     }
+    
+    public Long getTotalMinutes() {
+        return totalMinutes;
+    }
+    
+    public Long getEntryCount() {
+        return entryCount;
+    }
+    
+    public Long getVersion() {
+        return version;
+    }
+    
+    public void setVersion(Long version) {
+        this.version = version;
+    }
 }
\ No newline at end of file
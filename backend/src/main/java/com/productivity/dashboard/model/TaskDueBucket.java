@@ -0,0 +1,111 @@
+package com.productivity.dashboard.model;
+
+import jakarta.persistence.*;
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.Objects;
+
+/**
+ * Entity counting a user's open (not completed) tasks per due date. The overdue count is the sum over
+ * buckets due before today, taken when it is read, so it moves forward at midnight without any write.
+ */
+@Entity
+@Table(name = "user_task_due")
+@IdClass(TaskDueBucket.Key.class)
+public class TaskDueBucket {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Id
+    @Column(name = "due_date")
+    private LocalDate dueDate;
+
+    @Column(name = "open_tasks", nullable = false)
+    private long openTasks;
+
+    // Constructors
+    public TaskDueBucket() {
+    }
+
+    /**
+     * Used by the reconciliation query (JPQL constructor expression over COUNT)
+     */
+    public TaskDueBucket(Long userId, LocalDate dueDate, Long openTasks) {
+        this.userId = userId;
+        this.dueDate = dueDate;
+        this.openTasks = openTasks;
+    }
+
+    public Key getKey() {
+        return new Key(userId, dueDate);
+    }
+
+    // Getters and Setters
+    public Long getUserId() {
+        return userId;
+    }
+
+    public void setUserId(Long userId) {
+        this.userId = userId;
+    }
+
+    public LocalDate getDueDate() {
+        return dueDate;
+    }
+
+    public void setDueDate(LocalDate dueDate) {
+        this.dueDate = dueDate;
+    }
+
+    public long getOpenTasks() {
+        return openTasks;
+    }
+
+    public void setOpenTasks(long openTasks) {
+        this.openTasks = openTasks;
+    }
+
+    /**
+     * Composite primary key (user, due date)
+     */
+    public static class Key implements Serializable {
+
+        private Long userId;
+        private LocalDate dueDate;
+
+        public Key() {
+        }
+
+        public Key(Long userId, LocalDate dueDate) {
+            this.userId = userId;
+            this.dueDate = dueDate;
+        }
+
+        public Long getUserId() {
+            return userId;
+        }
+
+        public LocalDate getDueDate() {
+            return dueDate;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) o;
+            return Objects.equals(userId, other.userId) && Objects.equals(dueDate, other.dueDate);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(userId, dueDate);
+        }
+    }
+}
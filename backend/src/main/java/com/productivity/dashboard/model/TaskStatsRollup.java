@@ -0,0 +1,230 @@
+package com.productivity.dashboard.model;
+
+import jakarta.persistence.*;
+import java.time.LocalDate;
+import java.util.Objects;
+
+/**
+ * Entity holding pre-aggregated task counters per assignee.
+ * Maintained incrementally by the task write paths and reconciled against the tasks table by a scheduled job.
+ */
+@Entity
+@Table(name = "user_task_stats")
+public class TaskStatsRollup {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(name = "pending_tasks", nullable = false)
+    private long pendingTasks;
+
+    @Column(name = "in_progress_tasks", nullable = false)
+    private long inProgressTasks;
+
+    @Column(name = "completed_tasks", nullable = false)
+    private long completedTasks;
+
+    @Column(name = "low_priority_tasks", nullable = false)
+    private long lowPriorityTasks;
+
+    @Column(name = "medium_priority_tasks", nullable = false)
+    private long mediumPriorityTasks;
+
+    @Column(name = "high_priority_tasks", nullable = false)
+    private long highPriorityTasks;
+
+    @Column(name = "completed_low_priority", nullable = false)
+    private long completedLowPriority;
+
+    @Column(name = "completed_medium_priority", nullable = false)
+    private long completedMediumPriority;
+
+    @Column(name = "completed_high_priority", nullable = false)
+    private long completedHighPriority;
+
+    @Column(name = "completed_on_time", nullable = false)
+    private long completedOnTime;
+
+    // Not stored: whether an open task is overdue depends on the day it is read, so the service fills
+    // this in from the due-date buckets when it hands a rollup out
+    @Transient
+    private long overdueTasks;
+
+    // Constructors
+    public TaskStatsRollup() {
+    }
+
+    public TaskStatsRollup(Long userId) {
+        this.userId = userId;
+    }
+
+    /**
+     * Used by the reconciliation query (JPQL constructor expression over SUM(CASE ...) columns).
+     */
+    public TaskStatsRollup(Long userId, Long pendingTasks, Long inProgressTasks, Long completedTasks,
+                           Long lowPriorityTasks, Long mediumPriorityTasks, Long highPriorityTasks,
+                           Long completedLowPriority, Long completedMediumPriority, Long completedHighPriority,
+                           Long completedOnTime) {
+        this.userId = userId;
+        this.pendingTasks = pendingTasks;
+        this.inProgressTasks = inProgressTasks;
+        this.completedTasks = completedTasks;
+        this.lowPriorityTasks = lowPriorityTasks;
+        this.mediumPriorityTasks = mediumPriorityTasks;
+        this.highPriorityTasks = highPriorityTasks;
+        this.completedLowPriority = completedLowPriority;
+        this.completedMediumPriority = completedMediumPriority;
+        this.completedHighPriority = completedHighPriority;
+        this.completedOnTime = completedOnTime;
+    }
+
+    /**
+     * Add (sign = 1) or remove (sign = -1) the contribution of one task to these counters.
+     * Overdue is not counted here; open tasks are tracked per due date in TaskDueBucket instead.
+     */
+    public void add(TaskStatus status, Priority priority, LocalDate dueDate, LocalDate completedDate, int sign) {
+        boolean completed = status == TaskStatus.COMPLETED;
+        switch (status) {
+            case PENDING -> pendingTasks += sign;
+            case IN_PROGRESS -> inProgressTasks += sign;
+            case COMPLETED -> completedTasks += sign;
+        }
+        switch (priority) {
+            case LOW -> {
+                lowPriorityTasks += sign;
+                if (completed) completedLowPriority += sign;
+            }
+            case MEDIUM -> {
+                mediumPriorityTasks += sign;
+                if (completed) completedMediumPriority += sign;
+            }
+            case HIGH -> {
+                highPriorityTasks += sign;
+                if (completed) completedHighPriority += sign;
+            }
+        }
+        if (completed && completedDate != null && dueDate != null && !completedDate.isAfter(dueDate)) {
+            completedOnTime += sign;
+        }
+    }
+
+    public boolean isZero() {
+        return pendingTasks == 0 && inProgressTasks == 0 && completedTasks == 0
+            && lowPriorityTasks == 0 && mediumPriorityTasks == 0 && highPriorityTasks == 0
+            && completedLowPriority == 0 && completedMediumPriority == 0 && completedHighPriority == 0
+            && completedOnTime == 0;
+    }
+
+    public boolean sameCounters(TaskStatsRollup other) {
+        return pendingTasks == other.pendingTasks && inProgressTasks == other.inProgressTasks
+            && completedTasks == other.completedTasks && lowPriorityTasks == other.lowPriorityTasks
+            && mediumPriorityTasks == other.mediumPriorityTasks && highPriorityTasks == other.highPriorityTasks
+            && completedLowPriority == other.completedLowPriority
+            && completedMediumPriority == other.completedMediumPriority
+            && completedHighPriority == other.completedHighPriority
+            && completedOnTime == other.completedOnTime
+            && Objects.equals(userId, other.userId);
+    }
+
+    public long getTotalTasks() {
+        return pendingTasks + inProgressTasks + completedTasks;
+    }
+
+    // Getters and Setters
+    public Long getUserId() {
+        return userId;
+    }
+
+    public void setUserId(Long userId) {
+        this.userId = userId;
+    }
+
+    public long getPendingTasks() {
+        return pendingTasks;
+    }
+
+    public void setPendingTasks(long pendingTasks) {
+        this.pendingTasks = pendingTasks;
+    }
+
+    public long getInProgressTasks() {
+        return inProgressTasks;
+    }
+
+    public void setInProgressTasks(long inProgressTasks) {
+        this.inProgressTasks = inProgressTasks;
+    }
+
+    public long getCompletedTasks() {
+        return completedTasks;
+    }
+
+    public void setCompletedTasks(long completedTasks) {
+        this.completedTasks = completedTasks;
+    }
+
+    public long getLowPriorityTasks() {
+        return lowPriorityTasks;
+    }
+
+    public void setLowPriorityTasks(long lowPriorityTasks) {
+        this.lowPriorityTasks = lowPriorityTasks;
+    }
+
+    public long getMediumPriorityTasks() {
+        return mediumPriorityTasks;
+    }
+
+    public void setMediumPriorityTasks(long mediumPriorityTasks) {
+        this.mediumPriorityTasks = mediumPriorityTasks;
+    }
+
+    public long getHighPriorityTasks() {
+        return highPriorityTasks;
+    }
+
+    public void setHighPriorityTasks(long highPriorityTasks) {
+        this.highPriorityTasks = highPriorityTasks;
+    }
+
+    public long getCompletedLowPriority() {
+        return completedLowPriority;
+    }
+
+    public void setCompletedLowPriority(long completedLowPriority) {
+        this.completedLowPriority = completedLowPriority;
+    }
+
+    public long getCompletedMediumPriority() {
+        return completedMediumPriority;
+    }
+
+    public void setCompletedMediumPriority(long completedMediumPriority) {
+        this.completedMediumPriority = completedMediumPriority;
+    }
+
+    public long getCompletedHighPriority() {
+        return completedHighPriority;
+    }
+
+    public void setCompletedHighPriority(long completedHighPriority) {
+        this.completedHighPriority = completedHighPriority;
+    }
+
+    public long getCompletedOnTime() {
+        return completedOnTime;
+    }
+
+    public void setCompletedOnTime(long completedOnTime) {
+        this.completedOnTime = completedOnTime;
+    }
+
+    public long getOverdueTasks() {
+        return overdueTasks;
+    }
+
+    public void setOverdueTasks(long overdueTasks) {
+        this.overdueTasks = overdueTasks;
+    }
+}
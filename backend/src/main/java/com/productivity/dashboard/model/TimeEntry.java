@@ -4,10 +4,14 @@ import jakarta.persistence.*;
 import java.time.LocalDateTime;
 
 /**
- * Entity representing time tracking entries for tasks
+ * Entity representing time tracking entries for tasks.
+ * {@code runningUserId} mirrors the owner's id only while the timer runs, so the unique key on it
+ * allows at most one running timer per user (MySQL has no partial unique index).
  */
 @Entity
-@Table(name = "time_entries")
+@Table(name = "time_entries", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_time_entries_running_user", columnNames = "running_user_id")
+})
 public class TimeEntry {
     
     @Id
@@ -37,6 +41,9 @@ public class TimeEntry {
     @Column(name = "is_manual")
     private Boolean isManual = false;
     
+    @Column(name = "running_user_id")
+    private Long runningUserId;
+    
     @Column(name = "created_at")
     private LocalDateTime createdAt;
     
@@ -47,11 +54,15 @@ public class TimeEntry {
     protected void onCreate() {
         this.createdAt = LocalDateTime.now();
         this.updatedAt = LocalDateTime.now();
+        this.runningUserId = endTime == null ? user.getId() : null;
     }
     
     @PreUpdate
     protected void onUpdate() {
         this.updatedAt = LocalDateTime.now();
+        if (endTime != null) {
+            this.runningUserId = null;
+        }
     }
     
     // Constructors
@@ -130,6 +141,14 @@ public class TimeEntry {
         this.isManual = isManual;
     }
     
+    public Long getRunningUserId() {
+        return runningUserId;
+    }
+    
+    public void setRunningUserId(Long runningUserId) {
+        this.runningUserId = runningUserId;
+    }
+    
     public LocalDateTime getCreatedAt() {
         return createdAt;
     }
@@ -0,0 +1,182 @@
+package com.productivity.dashboard.model;
+
+import jakarta.persistence.*;
+import java.io.Serializable;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Entity holding minutes worked per user, task and calendar day, pre-aggregated from stopped time entries.
+ * Entries that cross midnight contribute to every day they touch. Entries without a task are kept
+ * under {@link #NO_TASK} because a nullable column cannot be part of the primary key.
+ */
+@Entity
+@Table(name = "time_entry_daily", indexes = {
+    @Index(name = "idx_time_daily_date", columnList = "work_date")
+})
+@IdClass(TimeEntryDaily.Key.class)
+public class TimeEntryDaily {
+
+    public static final long NO_TASK = 0L;
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Id
+    @Column(name = "work_date")
+    private LocalDate workDate;
+
+    @Id
+    @Column(name = "task_id")
+    private Long taskId;
+
+    @Column(name = "minutes", nullable = false)
+    private long minutes;
+
+    @Column(name = "entry_count", nullable = false)
+    private long entryCount;
+
+    // Constructors
+    public TimeEntryDaily() {
+    }
+
+    public TimeEntryDaily(Long userId, LocalDate workDate, Long taskId, long minutes, long entryCount) {
+        this.userId = userId;
+        this.workDate = workDate;
+        this.taskId = taskId;
+        this.minutes = minutes;
+        this.entryCount = entryCount;
+    }
+
+    public static long taskKey(Long taskId) {
+        return taskId != null ? taskId : NO_TASK;
+    }
+
+    /**
+     * Split an entry's minutes over the calendar days it touches. Each day gets the whole minutes
+     * elapsed up to its end, so the parts always add up to {@code totalMinutes}; an entry ending exactly
+     * at midnight does not touch the following day.
+     */
+    public static Map<LocalDate, Long> minutesByDay(LocalDateTime start, LocalDateTime end, long totalMinutes) {
+        LocalDate lastDay = end.toLocalDate();
+        if (end.isAfter(start) && end.toLocalTime().equals(LocalTime.MIDNIGHT)) {
+            lastDay = lastDay.minusDays(1);
+        }
+
+        Map<LocalDate, Long> minutes = new LinkedHashMap<>();
+        LocalDate day = start.toLocalDate();
+        long allocated = 0;
+        while (day.isBefore(lastDay)) {
+            long elapsed = Math.min(Duration.between(start, day.plusDays(1).atStartOfDay()).toMinutes(), totalMinutes);
+            minutes.put(day, elapsed - allocated);
+            allocated = elapsed;
+            day = day.plusDays(1);
+        }
+        minutes.put(day, totalMinutes - allocated);
+        return minutes;
+    }
+
+    public Key getKey() {
+        return new Key(userId, workDate, taskId);
+    }
+
+    public boolean isZero() {
+        return minutes == 0 && entryCount == 0;
+    }
+
+    // Getters and Setters
+    public Long getUserId() {
+        return userId;
+    }
+
+    public void setUserId(Long userId) {
+        this.userId = userId;
+    }
+
+    public LocalDate getWorkDate() {
+        return workDate;
+    }
+
+    public void setWorkDate(LocalDate workDate) {
+        this.workDate = workDate;
+    }
+
+    public Long getTaskId() {
+        return taskId;
+    }
+
+    public void setTaskId(Long taskId) {
+        this.taskId = taskId;
+    }
+
+    public long getMinutes() {
+        return minutes;
+    }
+
+    public void setMinutes(long minutes) {
+        this.minutes = minutes;
+    }
+
+    public long getEntryCount() {
+        return entryCount;
+    }
+
+    public void setEntryCount(long entryCount) {
+        this.entryCount = entryCount;
+    }
+
+    /**
+     * Composite primary key (user, day, task)
+     */
+    public static class Key implements Serializable {
+
+        private Long userId;
+        private LocalDate workDate;
+        private Long taskId;
+
+        public Key() {
+        }
+
+        public Key(Long userId, LocalDate workDate, Long taskId) {
+            this.userId = userId;
+            this.workDate = workDate;
+            this.taskId = taskId;
+        }
+
+        public Long getUserId() {
+            return userId;
+        }
+
+        public LocalDate getWorkDate() {
+            return workDate;
+        }
+
+        public Long getTaskId() {
+            return taskId;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) o;
+            return Objects.equals(userId, other.userId) && Objects.equals(workDate, other.workDate)
+                && Objects.equals(taskId, other.taskId);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(userId, workDate, taskId);
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.productivity.dashboard.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import java.time.LocalDateTime;
 
@@ -17,6 +18,8 @@ public class User {
     @Column(nullable = false, unique = true)
     private String email;
     
+    // Entities are returned directly by several endpoints; never serialize the hash
+    @JsonIgnore
     @Column(nullable = false)
     private String password;
     
@@ -27,6 +30,11 @@ public class User {
     @Column(name = "created_at", nullable = false)
     private LocalDateTime createdAt;
     
+    // Incremented whenever issued tokens must stop working (e.g. role change)
+    @JsonIgnore
+    @Column(name = "token_version", columnDefinition = "BIGINT DEFAULT 0 NOT NULL")
+    private Long tokenVersion = 0L;
+    
     // Constructors
     public User() {
     }
@@ -92,4 +100,12 @@ public class User {
     public void setCreatedAt(LocalDateTime createdAt) {
         this.createdAt = createdAt;
     }
+    
+    public Long getTokenVersion() {
+        return tokenVersion;
+    }
+    
+    public void setTokenVersion(Long tokenVersion) {
+        this.tokenVersion = tokenVersion;
+    }
 }
\ No newline at end of file
@@ -5,6 +5,7 @@ import com.productivity.dashboard.model.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -34,4 +35,32 @@ public interface ActivityRepository extends JpaRepository<Activity, Long> {
     
     @Query("SELECT a FROM Activity a WHERE a.createdAt >= :since ORDER BY a.createdAt DESC")
     List<Activity> findRecentActivities(@Param("since") LocalDateTime since, Pageable pageable);
+    
+    @Query("SELECT a.id FROM Activity a WHERE a.createdAt < :cutoff ORDER BY a.createdAt ASC, a.id ASC")
+    List<Long> findIdsCreatedBefore(@Param("cutoff") LocalDateTime cutoff, Pageable limit);
+    
+    @Modifying
+    @Query("DELETE FROM Activity a WHERE a.id IN :ids")
+    int deleteByIdIn(@Param("ids") List<Long> ids);
+    
+    // Keyset (seek) queries: rows strictly after the cursor in (createdAt DESC, id DESC) order, no count query.
+    // The leading createdAt <= :createdAt keeps the predicate a range scan on the created_at indexes.
+    
+    @Query("SELECT a FROM Activity a JOIN FETCH a.user WHERE a.user.id = :userId " +
+           "AND a.createdAt <= :createdAt AND (a.createdAt < :createdAt OR a.id < :id) " +
+           "ORDER BY a.createdAt DESC, a.id DESC")
+    List<Activity> findUserActivitiesBefore(@Param("userId") Long userId, @Param("createdAt") LocalDateTime createdAt,
+                                            @Param("id") Long id, Pageable limit);
+    
+    @Query("SELECT a FROM Activity a JOIN FETCH a.user WHERE a.user.id IN :userIds " +
+           "AND a.createdAt <= :createdAt AND (a.createdAt < :createdAt OR a.id < :id) " +
+           "ORDER BY a.createdAt DESC, a.id DESC")
+    List<Activity> findTeamActivitiesBefore(@Param("userIds") List<Long> userIds, @Param("createdAt") LocalDateTime createdAt,
+                                            @Param("id") Long id, Pageable limit);
+    
+    @Query("SELECT a FROM Activity a JOIN FETCH a.user " +
+           "WHERE a.createdAt <= :createdAt AND (a.createdAt < :createdAt OR a.id < :id) " +
+           "ORDER BY a.createdAt DESC, a.id DESC")
+    List<Activity> findAllActivitiesBefore(@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id,
+                                           Pageable limit);
 }
\ No newline at end of file
@@ -0,0 +1,56 @@
+package com.productivity.dashboard.repository;
+
+import com.productivity.dashboard.model.ArchivedActivity;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Repository for the activities_archive cold tier. Queries mirror the hot-tier ones in {@link ActivityRepository}
+ * so the service can fan out to both tiers and merge.
+ */
+@Repository
+public interface ArchivedActivityRepository extends JpaRepository<ArchivedActivity, Long> {
+    
+    /**
+     * Copy the given hot rows into the archive; paired with {@link ActivityRepository#deleteByIdIn} in one transaction
+     */
+    @Modifying
+    @Query(value = "INSERT INTO activities_archive (id, user_id, action, entity_type, entity_id, details, created_at, archived_at) " +
+                   "SELECT id, user_id, action, entity_type, entity_id, details, created_at, :archivedAt " +
+                   "FROM activities WHERE id IN (:ids)", nativeQuery = true)
+    int copyFromActivities(@Param("ids") List<Long> ids, @Param("archivedAt") LocalDateTime archivedAt);
+    
+    @Query("SELECT a FROM ArchivedActivity a JOIN FETCH a.user WHERE a.user.id = :userId " +
+           "AND a.createdAt BETWEEN :start AND :end ORDER BY a.createdAt DESC")
+    List<ArchivedActivity> findByUserIdAndCreatedAtBetween(@Param("userId") Long userId,
+                                                           @Param("start") LocalDateTime start,
+                                                           @Param("end") LocalDateTime end);
+    
+    @Query("SELECT COUNT(a) FROM ArchivedActivity a WHERE a.user.id = :userId AND a.createdAt >= :since")
+    Long countUserActivitiesSince(@Param("userId") Long userId, @Param("since") LocalDateTime since);
+    
+    @Query("SELECT a FROM ArchivedActivity a JOIN FETCH a.user WHERE a.user.id = :userId " +
+           "AND a.createdAt <= :createdAt AND (a.createdAt < :createdAt OR a.id < :id) " +
+           "ORDER BY a.createdAt DESC, a.id DESC")
+    List<ArchivedActivity> findUserActivitiesBefore(@Param("userId") Long userId, @Param("createdAt") LocalDateTime createdAt,
+                                                    @Param("id") Long id, Pageable limit);
+    
+    @Query("SELECT a FROM ArchivedActivity a JOIN FETCH a.user WHERE a.user.id IN :userIds " +
+           "AND a.createdAt <= :createdAt AND (a.createdAt < :createdAt OR a.id < :id) " +
+           "ORDER BY a.createdAt DESC, a.id DESC")
+    List<ArchivedActivity> findTeamActivitiesBefore(@Param("userIds") List<Long> userIds, @Param("createdAt") LocalDateTime createdAt,
+                                                    @Param("id") Long id, Pageable limit);
+    
+    @Query("SELECT a FROM ArchivedActivity a JOIN FETCH a.user " +
+           "WHERE a.createdAt <= :createdAt AND (a.createdAt < :createdAt OR a.id < :id) " +
+           "ORDER BY a.createdAt DESC, a.id DESC")
+    List<ArchivedActivity> findAllActivitiesBefore(@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id,
+                                                   Pageable limit);
+}
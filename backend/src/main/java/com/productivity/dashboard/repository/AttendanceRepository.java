@@ -33,4 +33,17 @@ public interface AttendanceRepository extends JpaRepository<Attendance, Long> {
     
     @Query("SELECT AVG(a.workHours) FROM Attendance a WHERE a.user = :user AND a.workHours IS NOT NULL AND a.date BETWEEN :startDate AND :endDate")
     Double getAverageWorkHoursByUser(@Param("user") User user, @Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
-}
\ No newline at end of file
+    
+    // Response queries fetch the user in the same statement so mapping to AttendanceDTO adds no queries
+    @Query("SELECT a FROM Attendance a JOIN FETCH a.user u WHERE u.id IN :userIds AND a.date BETWEEN :startDate AND :endDate " +
+           "ORDER BY a.date DESC, u.name")
+    List<Attendance> findWithUserByUserIdsAndDateRange(@Param("userIds") List<Long> userIds,
+                                                       @Param("startDate") LocalDate startDate,
+                                                       @Param("endDate") LocalDate endDate);
+    
+    @Query("SELECT a FROM Attendance a JOIN FETCH a.user u WHERE a.date = :date ORDER BY u.name")
+    List<Attendance> findWithUserByDate(@Param("date") LocalDate date);
+    
+    @Query("SELECT a FROM Attendance a JOIN FETCH a.user u WHERE u.id = :userId AND a.date = :date")
+    Optional<Attendance> findWithUserByUserIdAndDate(@Param("userId") Long userId, @Param("date") LocalDate date);
+}
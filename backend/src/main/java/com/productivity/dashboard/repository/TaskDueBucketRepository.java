@@ -0,0 +1,62 @@
+package com.productivity.dashboard.repository;
+
+import com.productivity.dashboard.model.TaskDueBucket;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Repository interface for the per-user open task counts by due date
+ */
+@Repository
+public interface TaskDueBucketRepository extends JpaRepository<TaskDueBucket, TaskDueBucket.Key> {
+
+    /**
+     * Atomically add a delta to one (user, due date) row without reading it first.
+     * Returns the number of rows touched (0 when the row does not exist yet).
+     */
+    @Modifying
+    @Query("UPDATE TaskDueBucket b SET b.openTasks = b.openTasks + :delta " +
+           "WHERE b.userId = :userId AND b.dueDate = :dueDate")
+    int applyDelta(@Param("userId") Long userId, @Param("dueDate") LocalDate dueDate, @Param("delta") long delta);
+
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO user_task_due (user_id, due_date, open_tasks) VALUES (:userId, :dueDate, 0)",
+           nativeQuery = true)
+    int insertEmptyIfAbsent(@Param("userId") Long userId, @Param("dueDate") LocalDate dueDate);
+
+    /**
+     * Drop a row once its last open task is gone, so the table only holds dates with open work
+     */
+    @Modifying
+    @Query("DELETE FROM TaskDueBucket b WHERE b.userId = :userId AND b.dueDate = :dueDate AND b.openTasks = 0")
+    int deleteIfEmpty(@Param("userId") Long userId, @Param("dueDate") LocalDate dueDate);
+
+    @Query("SELECT COALESCE(SUM(b.openTasks), 0) FROM TaskDueBucket b WHERE b.userId = :userId AND b.dueDate < :today")
+    long sumOverdue(@Param("userId") Long userId, @Param("today") LocalDate today);
+
+    @Query("SELECT b FROM TaskDueBucket b WHERE b.dueDate < :today AND b.openTasks <> 0")
+    List<TaskDueBucket> findOverdue(@Param("today") LocalDate today);
+
+    @Query("SELECT b FROM TaskDueBucket b WHERE b.openTasks <> 0")
+    List<TaskDueBucket> findNonEmpty();
+
+    List<TaskDueBucket> findByUserId(Long userId);
+
+    String COMPUTE_FROM_TASKS = "SELECT new com.productivity.dashboard.model.TaskDueBucket(t.assignedTo.id, " +
+           "t.dueDate, COUNT(t)) FROM Task t WHERE t.status <> 'COMPLETED' AND t.dueDate IS NOT NULL ";
+
+    /**
+     * Recompute every user's buckets from the tasks table in one grouped pass
+     */
+    @Query(COMPUTE_FROM_TASKS + "AND t.assignedTo IS NOT NULL GROUP BY t.assignedTo.id, t.dueDate")
+    List<TaskDueBucket> computeFromTasks();
+
+    @Query(COMPUTE_FROM_TASKS + "AND t.assignedTo.id = :userId GROUP BY t.assignedTo.id, t.dueDate")
+    List<TaskDueBucket> computeFromTasksForUser(@Param("userId") Long userId);
+}
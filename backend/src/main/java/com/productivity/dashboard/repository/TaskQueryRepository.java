@@ -0,0 +1,21 @@
+package com.productivity.dashboard.repository;
+
+import com.productivity.dashboard.dto.TaskCursor;
+import com.productivity.dashboard.dto.TaskFilter;
+import com.productivity.dashboard.dto.TaskSortKey;
+import com.productivity.dashboard.dto.TaskSummary;
+
+import java.util.List;
+
+/**
+ * Dynamic task listing queries, mixed into {@link TaskRepository}
+ */
+public interface TaskQueryRepository {
+
+    /**
+     * Task summaries matching the filter in (sort key, id) order, starting after the cursor
+     * (null for the first page). Rows without a due date sort last in either direction.
+     */
+    List<TaskSummary> findTaskSummaries(TaskFilter filter, TaskSortKey sortKey, boolean descending,
+                                        TaskCursor after, int limit);
+}
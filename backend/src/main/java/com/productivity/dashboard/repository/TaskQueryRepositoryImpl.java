@@ -0,0 +1,197 @@
+package com.productivity.dashboard.repository;
+
+import com.productivity.dashboard.dto.TaskCursor;
+import com.productivity.dashboard.dto.TaskFilter;
+import com.productivity.dashboard.dto.TaskSortKey;
+import com.productivity.dashboard.dto.TaskSummary;
+import com.productivity.dashboard.model.Priority;
+import com.productivity.dashboard.model.Task;
+import com.productivity.dashboard.model.TaskStatus;
+import com.productivity.dashboard.model.User;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Criteria implementation of {@link TaskQueryRepository}. Only the summary columns are selected,
+ * with the assignee's id and name taken from a left join, so no Task entity or description is loaded.
+ */
+public class TaskQueryRepositoryImpl implements TaskQueryRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<TaskSummary> findTaskSummaries(TaskFilter filter, TaskSortKey sortKey, boolean descending,
+                                               TaskCursor after, int limit) {
+        switch (sortKey) {
+            case DUE_DATE:
+                return findByDueDate(filter, descending, after, limit);
+            case PRIORITY:
+                return findByPriority(filter, descending, after, limit);
+            case CREATED_AT:
+                return select(filter, descending, limit, (cb, task, predicates, orders) -> {
+                    Path<LocalDateTime> createdAt = task.get("createdAt");
+                    orders.add(descending ? cb.desc(createdAt) : cb.asc(createdAt));
+                    if (after != null) {
+                        predicates.add(seek(cb, createdAt, LocalDateTime.parse(after.getValue()), task.get("id"),
+                                            after.getId(), descending));
+                    }
+                });
+            default:
+                return select(filter, descending, limit, (cb, task, predicates, orders) -> {
+                    if (after != null) {
+                        predicates.add(laterId(cb, task.get("id"), after.getId(), descending));
+                    }
+                });
+        }
+    }
+
+    /**
+     * Dated tasks by the raw due_date column, then undated tasks by id, as two queries. A single query
+     * would have to order on a null rank, which neither (assigned_to, due_date, id) nor
+     * (status, due_date, id) can serve.
+     */
+    private List<TaskSummary> findByDueDate(TaskFilter filter, boolean descending, TaskCursor after, int limit) {
+        List<TaskSummary> rows = new ArrayList<>();
+        boolean cursorUndated = after != null && after.getValue() == null;
+        if (!cursorUndated) {
+            rows.addAll(select(filter, descending, limit, (cb, task, predicates, orders) -> {
+                Path<LocalDate> dueDate = task.get("dueDate");
+                predicates.add(cb.isNotNull(dueDate));
+                orders.add(descending ? cb.desc(dueDate) : cb.asc(dueDate));
+                if (after != null) {
+                    predicates.add(seek(cb, dueDate, LocalDate.parse(after.getValue()), task.get("id"),
+                                        after.getId(), descending));
+                }
+            }));
+        }
+        if (rows.size() < limit) {
+            rows.addAll(select(filter, descending, limit - rows.size(), (cb, task, predicates, orders) -> {
+                predicates.add(cb.isNull(task.get("dueDate")));
+                if (cursorUndated) {
+                    predicates.add(laterId(cb, task.get("id"), after.getId(), descending));
+                }
+            }));
+        }
+        return rows;
+    }
+
+    /**
+     * One query per priority in rank order, each an equality on the priority column ordered by id,
+     * since the enum is stored as a string and sorting on it directly would be alphabetical
+     */
+    private List<TaskSummary> findByPriority(TaskFilter filter, boolean descending, TaskCursor after, int limit) {
+        List<Priority> ranked = new ArrayList<>(List.of(Priority.values()));
+        if (descending) {
+            Collections.reverse(ranked);
+        }
+        Integer cursorRank = after != null ? Integer.valueOf(after.getValue()) : null;
+        List<TaskSummary> rows = new ArrayList<>();
+        for (Priority priority : ranked) {
+            if (rows.size() >= limit) {
+                break;
+            }
+            if (filter.getPriorities() != null && !filter.getPriorities().isEmpty()
+                    && !filter.getPriorities().contains(priority)) {
+                continue;
+            }
+            int rank = priority.ordinal();
+            if (cursorRank != null && (descending ? rank > cursorRank : rank < cursorRank)) {
+                continue;
+            }
+            boolean cursorPriority = cursorRank != null && rank == cursorRank;
+            rows.addAll(select(filter, descending, limit - rows.size(), (cb, task, predicates, orders) -> {
+                predicates.add(cb.equal(task.get("priority"), priority));
+                if (cursorPriority) {
+                    predicates.add(laterId(cb, task.get("id"), after.getId(), descending));
+                }
+            }));
+        }
+        return rows;
+    }
+
+    /**
+     * Runs one summary query over the filter, with the key's own predicates and orders added ahead of
+     * the id tiebreak
+     */
+    private List<TaskSummary> select(TaskFilter filter, boolean descending, int limit, SortClause sortClause) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<TaskSummary> query = cb.createQuery(TaskSummary.class);
+        Root<Task> task = query.from(Task.class);
+        Join<Task, User> assignee = task.join("assignedTo", JoinType.LEFT);
+        query.select(cb.construct(TaskSummary.class,
+            task.get("id"), task.get("title"), task.get("status"), task.get("priority"), task.get("dueDate"),
+            task.get("completedDate"), task.get("createdAt"), assignee.get("id"), assignee.get("name"),
+            task.get("totalMinutes"), task.get("entryCount")));
+
+        List<Predicate> predicates = filterPredicates(cb, task, assignee, filter);
+        List<Order> orders = new ArrayList<>();
+        sortClause.apply(cb, task, predicates, orders);
+        Path<Long> id = task.get("id");
+        orders.add(descending ? cb.desc(id) : cb.asc(id));
+
+        query.where(predicates.toArray(new Predicate[0])).orderBy(orders);
+        return entityManager.createQuery(query).setMaxResults(limit).getResultList();
+    }
+
+    private static List<Predicate> filterPredicates(CriteriaBuilder cb, Root<Task> task, Join<Task, User> assignee,
+                                                    TaskFilter filter) {
+        List<Predicate> predicates = new ArrayList<>();
+        if (filter.getAssignedToId() != null) {
+            predicates.add(cb.equal(assignee.get("id"), filter.getAssignedToId()));
+        }
+        if (filter.getStatuses() != null && !filter.getStatuses().isEmpty()) {
+            predicates.add(task.get("status").in(filter.getStatuses()));
+        }
+        if (filter.getPriorities() != null && !filter.getPriorities().isEmpty()) {
+            predicates.add(task.get("priority").in(filter.getPriorities()));
+        }
+        Path<LocalDate> dueDate = task.get("dueDate");
+        if (filter.getDueFrom() != null) {
+            predicates.add(cb.greaterThanOrEqualTo(dueDate, filter.getDueFrom()));
+        }
+        if (filter.getDueTo() != null) {
+            predicates.add(cb.lessThanOrEqualTo(dueDate, filter.getDueTo()));
+        }
+        if (filter.isOverdue()) {
+            predicates.add(cb.lessThan(dueDate, LocalDate.now()));
+            predicates.add(cb.notEqual(task.get("status"), TaskStatus.COMPLETED));
+        }
+        return predicates;
+    }
+
+    /**
+     * Rows strictly after (value, id) in the given direction
+     */
+    private static <T extends Comparable<? super T>> Predicate seek(CriteriaBuilder cb, Expression<T> key, T value,
+                                                                    Path<Long> id, Long lastId, boolean descending) {
+        if (descending) {
+            return cb.or(cb.lessThan(key, value), cb.and(cb.equal(key, value), cb.lessThan(id, lastId)));
+        }
+        return cb.or(cb.greaterThan(key, value), cb.and(cb.equal(key, value), cb.greaterThan(id, lastId)));
+    }
+
+    private static Predicate laterId(CriteriaBuilder cb, Path<Long> id, Long lastId, boolean descending) {
+        return descending ? cb.lessThan(id, lastId) : cb.greaterThan(id, lastId);
+    }
+
+    @FunctionalInterface
+    private interface SortClause {
+        void apply(CriteriaBuilder cb, Root<Task> task, List<Predicate> predicates, List<Order> orders);
+    }
+}
@@ -1,22 +1,61 @@
 package com.productivity.dashboard.repository;
 
+import com.productivity.dashboard.dto.TaskAggregate;
+import com.productivity.dashboard.dto.TaskSearchRow;
+import com.productivity.dashboard.dto.TaskStatRow;
+import com.productivity.dashboard.dto.TaskTimeTotals;
 import com.productivity.dashboard.model.Task;
 import com.productivity.dashboard.model.TaskStatus;
 import com.productivity.dashboard.model.User;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
-public interface TaskRepository extends JpaRepository<Task, Long> {
+public interface TaskRepository extends JpaRepository<Task, Long>, TaskQueryRepository {
     
     List<Task> findByAssignedTo(User assignedTo);
     
-    List<Task> findByStatus(TaskStatus status);
+    // Response queries fetch the assignee in the same statement so mapping to TaskDTO adds no queries
+    @Query("SELECT t FROM Task t LEFT JOIN FETCH t.assignedTo")
+    List<Task> findAllWithAssignee();
     
-    List<Task> findByAssignedToAndStatus(User assignedTo, TaskStatus status);
+    @Query("SELECT t FROM Task t LEFT JOIN FETCH t.assignedTo WHERE t.status = :status")
+    List<Task> findWithAssigneeByStatus(@Param("status") TaskStatus status);
+    
+    @Query("SELECT t FROM Task t JOIN FETCH t.assignedTo a WHERE a.id = :userId")
+    List<Task> findWithAssigneeByAssigneeId(@Param("userId") Long userId);
+    
+    @Query("SELECT t FROM Task t JOIN FETCH t.assignedTo a WHERE a.id = :userId AND t.status = :status")
+    List<Task> findWithAssigneeByAssigneeIdAndStatus(@Param("userId") Long userId, @Param("status") TaskStatus status);
+    
+    @Query("SELECT t FROM Task t LEFT JOIN FETCH t.assignedTo WHERE t.id = :id")
+    Optional<Task> findWithAssigneeById(@Param("id") Long id);
+    
+    @Query("SELECT t FROM Task t LEFT JOIN FETCH t.assignedTo WHERE t.id IN :ids")
+    List<Task> findWithAssigneeByIdIn(@Param("ids") Collection<Long> ids);
+    
+    /**
+     * Single-statement status transition guarded by the version the caller saw; 0 rows means the task
+     * changed (or vanished) in the meantime. Clears the persistence context so no stale copy is flushed.
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Task t SET t.status = :status, t.completedDate = :completedDate, t.version = t.version + 1 " +
+           "WHERE t.id = :id AND t.version = :version")
+    int updateStatusIfVersion(@Param("id") Long id, @Param("version") Long version,
+                              @Param("status") TaskStatus status, @Param("completedDate") LocalDate completedDate);
     
     @Query("SELECT COUNT(t) FROM Task t WHERE t.status = 'COMPLETED'")
     long countCompletedTasks();
@@ -26,18 +65,52 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
     
     @Query("SELECT COUNT(t) FROM Task t")
     long countTotalTasks();
-    
-    List<Task> findByTitleContainingIgnoreCaseOrDescriptionContainingIgnoreCase(String title, String description);
+
+    @Query("SELECT t.assignedTo.id AS userId, t.status AS status, t.priority AS priority, COUNT(t) AS taskCount " +
+           "FROM Task t GROUP BY t.assignedTo.id, t.status, t.priority")
+    List<TaskAggregate> aggregateByAssigneeStatusAndPriority();
+
+    @Query("SELECT t.assignedTo.id AS userId, t.status AS status, t.priority AS priority, COUNT(t) AS taskCount " +
+           "FROM Task t WHERE t.assignedTo IS NULL GROUP BY t.assignedTo.id, t.status, t.priority")
+    List<TaskAggregate> aggregateUnassigned();
+
+    @Query("SELECT new com.productivity.dashboard.dto.TaskStatRow(t.assignedTo.id, t.status, t.priority, t.dueDate, t.completedDate) " +
+           "FROM Task t")
+    List<TaskStatRow> findAllStatRows();
+
+    @EntityGraph(attributePaths = "assignedTo")
+    Page<Task> findByTitleContainingIgnoreCaseOrDescriptionContainingIgnoreCase(String title, String description,
+                                                                                Pageable pageable);
+
+    @Query("SELECT t.id AS id, t.title AS title, t.description AS description FROM Task t " +
+           "WHERE t.id > :afterId ORDER BY t.id")
+    List<TaskSearchRow> findSearchRowsAfter(@Param("afterId") Long afterId, Pageable pageable);
     
     @Query("SELECT t FROM Task t WHERE t.assignedTo.id = :userId")
     List<Task> findByAssignedToId(Long userId);
     
-    @Query("SELECT t FROM Task t ORDER BY t.dueDate ASC")
-    List<Task> findAllOrderByDueDateAsc();
+    /**
+     * Atomically add to a task's time spent without reading the row or bumping its version
+     */
+    @Modifying
+    @Query("UPDATE Task t SET t.totalMinutes = t.totalMinutes + :minutes, t.entryCount = t.entryCount + :entries " +
+           "WHERE t.id = :id")
+    int addTimeTotals(@Param("id") Long id, @Param("minutes") long minutes, @Param("entries") long entries);
+    
+    @Modifying
+    @Query("UPDATE Task t SET t.totalMinutes = :minutes, t.entryCount = :entries WHERE t.id = :id")
+    int setTimeTotals(@Param("id") Long id, @Param("minutes") long minutes, @Param("entries") long entries);
     
-    @Query("SELECT t FROM Task t ORDER BY t.priority DESC")
-    List<Task> findAllOrderByPriorityDesc();
+    @Query("SELECT t.id AS taskId, t.totalMinutes AS totalMinutes, t.entryCount AS entryCount FROM Task t " +
+           "WHERE t.totalMinutes <> 0 OR t.entryCount <> 0")
+    List<TaskTimeTotals> findNonZeroTimeTotals();
     
-    @Query("SELECT t FROM Task t ORDER BY t.createdAt DESC")
-    List<Task> findAllOrderByCreatedAtDesc();
-}
\ No newline at end of file
+    /**
+     * A task's time totals, with the row locked until the transaction ends so no time entry write can
+     * add to them meanwhile
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT t.id AS taskId, t.totalMinutes AS totalMinutes, t.entryCount AS entryCount FROM Task t " +
+           "WHERE t.id = :id")
+    Optional<TaskTimeTotals> findTimeTotalsForUpdate(@Param("id") Long id);
+}
@@ -0,0 +1,79 @@
+package com.productivity.dashboard.repository;
+
+import com.productivity.dashboard.model.TaskStatsRollup;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repository interface for the per-user task statistics rollup
+ */
+@Repository
+public interface TaskStatsRollupRepository extends JpaRepository<TaskStatsRollup, Long> {
+
+    /**
+     * Atomically add a delta to a user's counters without reading the row first.
+     * Returns the number of rows touched (0 when the user has no rollup row yet).
+     */
+    @Modifying
+    @Query("UPDATE TaskStatsRollup r SET " +
+           "r.pendingTasks = r.pendingTasks + :#{#d.pendingTasks}, " +
+           "r.inProgressTasks = r.inProgressTasks + :#{#d.inProgressTasks}, " +
+           "r.completedTasks = r.completedTasks + :#{#d.completedTasks}, " +
+           "r.lowPriorityTasks = r.lowPriorityTasks + :#{#d.lowPriorityTasks}, " +
+           "r.mediumPriorityTasks = r.mediumPriorityTasks + :#{#d.mediumPriorityTasks}, " +
+           "r.highPriorityTasks = r.highPriorityTasks + :#{#d.highPriorityTasks}, " +
+           "r.completedLowPriority = r.completedLowPriority + :#{#d.completedLowPriority}, " +
+           "r.completedMediumPriority = r.completedMediumPriority + :#{#d.completedMediumPriority}, " +
+           "r.completedHighPriority = r.completedHighPriority + :#{#d.completedHighPriority}, " +
+           "r.completedOnTime = r.completedOnTime + :#{#d.completedOnTime} " +
+           "WHERE r.userId = :#{#d.userId}")
+    int applyDelta(@Param("d") TaskStatsRollup delta);
+
+    // MySQL-only statement; the H2 test profile accepts it because it runs in MODE=MySQL
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO user_task_stats (user_id, pending_tasks, in_progress_tasks, completed_tasks, " +
+                   "low_priority_tasks, medium_priority_tasks, high_priority_tasks, completed_low_priority, " +
+                   "completed_medium_priority, completed_high_priority, completed_on_time) " +
+                   "VALUES (:userId, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0)", nativeQuery = true)
+    int insertEmptyIfAbsent(@Param("userId") Long userId);
+
+    String COMPUTE_FROM_TASKS = "SELECT new com.productivity.dashboard.model.TaskStatsRollup(t.assignedTo.id, " +
+           "SUM(CASE WHEN t.status = 'PENDING' THEN 1 ELSE 0 END), " +
+           "SUM(CASE WHEN t.status = 'IN_PROGRESS' THEN 1 ELSE 0 END), " +
+           "SUM(CASE WHEN t.status = 'COMPLETED' THEN 1 ELSE 0 END), " +
+           "SUM(CASE WHEN t.priority = 'LOW' THEN 1 ELSE 0 END), " +
+           "SUM(CASE WHEN t.priority = 'MEDIUM' THEN 1 ELSE 0 END), " +
+           "SUM(CASE WHEN t.priority = 'HIGH' THEN 1 ELSE 0 END), " +
+           "SUM(CASE WHEN t.status = 'COMPLETED' AND t.priority = 'LOW' THEN 1 ELSE 0 END), " +
+           "SUM(CASE WHEN t.status = 'COMPLETED' AND t.priority = 'MEDIUM' THEN 1 ELSE 0 END), " +
+           "SUM(CASE WHEN t.status = 'COMPLETED' AND t.priority = 'HIGH' THEN 1 ELSE 0 END), " +
+           "SUM(CASE WHEN t.status = 'COMPLETED' AND t.completedDate IS NOT NULL AND t.dueDate IS NOT NULL " +
+           "AND t.completedDate <= t.dueDate THEN 1 ELSE 0 END)) ";
+
+    /**
+     * Recompute every user's counters from the tasks table in one grouped pass.
+     */
+    @Query(COMPUTE_FROM_TASKS + "FROM Task t WHERE t.assignedTo IS NOT NULL GROUP BY t.assignedTo.id")
+    List<TaskStatsRollup> computeFromTasks();
+
+    /**
+     * Recompute one user's counters; empty when the user has no tasks.
+     */
+    @Query(COMPUTE_FROM_TASKS + "FROM Task t WHERE t.assignedTo.id = :userId GROUP BY t.assignedTo.id")
+    Optional<TaskStatsRollup> computeFromTasksForUser(@Param("userId") Long userId);
+
+    /**
+     * A user's rollup row, locked until the transaction ends so no task write can apply a delta meanwhile
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT r FROM TaskStatsRollup r WHERE r.userId = :userId")
+    Optional<TaskStatsRollup> findForUpdate(@Param("userId") Long userId);
+}
@@ -0,0 +1,49 @@
+package com.productivity.dashboard.repository;
+
+import com.productivity.dashboard.model.TimeEntryDaily;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repository interface for the per-user, per-task daily time rollup
+ */
+@Repository
+public interface TimeEntryDailyRepository extends JpaRepository<TimeEntryDaily, TimeEntryDaily.Key> {
+
+    /**
+     * Atomically add a delta to one (user, day, task) row without reading it first.
+     * Returns the number of rows touched (0 when the row does not exist yet).
+     */
+    @Modifying
+    @Query("UPDATE TimeEntryDaily d SET d.minutes = d.minutes + :minutes, d.entryCount = d.entryCount + :entries " +
+           "WHERE d.userId = :userId AND d.workDate = :workDate AND d.taskId = :taskId")
+    int applyDelta(@Param("userId") Long userId, @Param("workDate") LocalDate workDate, @Param("taskId") Long taskId,
+                   @Param("minutes") long minutes, @Param("entries") long entries);
+
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO time_entry_daily (user_id, work_date, task_id, minutes, entry_count) " +
+                   "VALUES (:userId, :workDate, :taskId, 0, 0)", nativeQuery = true)
+    int insertEmptyIfAbsent(@Param("userId") Long userId, @Param("workDate") LocalDate workDate,
+                            @Param("taskId") Long taskId);
+
+    @Query("SELECT COALESCE(SUM(d.minutes), 0) FROM TimeEntryDaily d " +
+           "WHERE d.userId = :userId AND d.workDate >= :from AND d.workDate <= :to")
+    long sumMinutes(@Param("userId") Long userId, @Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    @Query("SELECT d FROM TimeEntryDaily d WHERE d.userId IN :userIds AND d.workDate >= :from AND d.workDate <= :to " +
+           "AND (d.minutes <> 0 OR d.entryCount <> 0) ORDER BY d.userId, d.workDate, d.taskId")
+    List<TimeEntryDaily> findByUsersAndDateRange(@Param("userIds") Collection<Long> userIds,
+                                                 @Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    List<TimeEntryDaily> findByUserId(Long userId);
+
+    @Query("SELECT DISTINCT d.userId FROM TimeEntryDaily d")
+    List<Long> findUserIds();
+}
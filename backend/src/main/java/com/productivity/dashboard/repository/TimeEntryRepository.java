@@ -1,8 +1,16 @@
 package com.productivity.dashboard.repository;
 
+import com.productivity.dashboard.dto.StaleTimer;
+import com.productivity.dashboard.dto.TaskTimeTotals;
+import com.productivity.dashboard.dto.TimeEntryInterval;
+import com.productivity.dashboard.dto.TimeEntrySpan;
 import com.productivity.dashboard.model.TimeEntry;
 import com.productivity.dashboard.model.User;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -19,8 +27,31 @@ public interface TimeEntryRepository extends JpaRepository<TimeEntry, Long> {
     
     List<TimeEntry> findByUserOrderByStartTimeDesc(User user);
     
-    @Query("SELECT t FROM TimeEntry t WHERE t.user = :user AND t.endTime IS NULL")
-    Optional<TimeEntry> findRunningTimerByUser(@Param("user") User user);
+    /**
+     * The user's running timer, looked up through the unique running_user_id key
+     */
+    @Query("SELECT t FROM TimeEntry t JOIN FETCH t.user LEFT JOIN FETCH t.task WHERE t.runningUserId = :userId")
+    Optional<TimeEntry> findRunningTimerByUserId(@Param("userId") Long userId);
+    
+    /**
+     * The user's running timer, locked and read as last committed, for stopping it
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT t FROM TimeEntry t JOIN FETCH t.user LEFT JOIN FETCH t.task WHERE t.runningUserId = :userId")
+    Optional<TimeEntry> findRunningTimerByUserIdForUpdate(@Param("userId") Long userId);
+    
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT t FROM TimeEntry t JOIN FETCH t.user LEFT JOIN FETCH t.task WHERE t.id = :id")
+    Optional<TimeEntry> findByIdForUpdate(@Param("id") Long id);
+    
+    @Query("SELECT t.user.id FROM TimeEntry t WHERE t.id = :id")
+    Optional<Long> findUserIdById(@Param("id") Long id);
+    
+    /**
+     * Every entry without an end time, including legacy rows that predate the running_user_id key
+     */
+    @Query("SELECT t FROM TimeEntry t JOIN FETCH t.user LEFT JOIN FETCH t.task WHERE t.endTime IS NULL ORDER BY t.startTime DESC")
+    List<TimeEntry> findAllRunning();
     
     @Query("SELECT t FROM TimeEntry t WHERE t.user = :user AND t.startTime >= :start AND t.startTime <= :end ORDER BY t.startTime DESC")
     List<TimeEntry> findByUserAndDateRange(@Param("user") User user, @Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
@@ -33,4 +64,67 @@ public interface TimeEntryRepository extends JpaRepository<TimeEntry, Long> {
     
     @Query("SELECT t FROM TimeEntry t WHERE t.task.id = :taskId ORDER BY t.startTime DESC")
     List<TimeEntry> findByTaskId(@Param("taskId") Long taskId);
-}
\ No newline at end of file
+    
+    /**
+     * Stopped entries of one user, used to recompute that user's daily rollup rows
+     */
+    @Query("SELECT tk.id AS taskId, t.startTime AS startTime, t.endTime AS endTime, " +
+           "t.durationMinutes AS durationMinutes FROM TimeEntry t LEFT JOIN t.task tk " +
+           "WHERE t.user.id = :userId AND t.endTime IS NOT NULL")
+    List<TimeEntrySpan> findStoppedSpansByUserId(@Param("userId") Long userId);
+    
+    /**
+     * Stopped entries of one user that overlap [start, end)
+     */
+    @Query("SELECT tk.id AS taskId, t.startTime AS startTime, t.endTime AS endTime, " +
+           "t.durationMinutes AS durationMinutes FROM TimeEntry t LEFT JOIN t.task tk " +
+           "WHERE t.user.id = :userId AND t.endTime IS NOT NULL AND t.startTime < :end AND t.endTime > :start")
+    List<TimeEntrySpan> findStoppedSpansOverlapping(@Param("userId") Long userId, @Param("start") LocalDateTime start,
+                                                    @Param("end") LocalDateTime end);
+    
+    @Query("SELECT DISTINCT t.user.id FROM TimeEntry t WHERE t.endTime IS NOT NULL")
+    List<Long> findUserIdsWithStoppedEntries();
+    
+    @Query("SELECT t.id AS id, t.startTime AS startTime, t.endTime AS endTime FROM TimeEntry t WHERE t.user.id = :userId")
+    List<TimeEntryInterval> findIntervalsByUserId(@Param("userId") Long userId);
+    
+    /**
+     * Running timers started before the cutoff, oldest first
+     */
+    @Query("SELECT t.id AS id, t.user.id AS userId, t.task.id AS taskId, t.startTime AS startTime FROM TimeEntry t " +
+           "WHERE t.endTime IS NULL AND t.startTime < :cutoff ORDER BY t.startTime ASC, t.id ASC")
+    List<StaleTimer> findStaleRunning(@Param("cutoff") LocalDateTime cutoff, Pageable limit);
+    
+    /**
+     * Those of the given timers that are still running, locked and read as last committed
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT t.id AS id, t.user.id AS userId, t.task.id AS taskId, t.startTime AS startTime FROM TimeEntry t " +
+           "WHERE t.id IN :ids AND t.endTime IS NULL ORDER BY t.startTime ASC, t.id ASC")
+    List<StaleTimer> findRunningByIdsForUpdate(@Param("ids") List<Long> ids);
+    
+    /**
+     * Close the given running timers at start + maxMinutes in one statement. Bulk updates skip the
+     * entity callbacks, so running_user_id and updated_at are set here.
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE TimeEntry t SET t.endTime = timestampadd(minute, :maxMinutes, t.startTime), " +
+           "t.durationMinutes = :maxMinutes, t.runningUserId = NULL, t.updatedAt = :now " +
+           "WHERE t.id IN :ids AND t.endTime IS NULL")
+    int closeRunning(@Param("ids") List<Long> ids, @Param("maxMinutes") long maxMinutes,
+                     @Param("now") LocalDateTime now);
+    
+    /**
+     * Time spent per task recomputed from stopped entries in one grouped pass
+     */
+    @Query("SELECT t.task.id AS taskId, COALESCE(SUM(t.durationMinutes), 0) AS totalMinutes, COUNT(t) AS entryCount " +
+           "FROM TimeEntry t WHERE t.task IS NOT NULL AND t.endTime IS NOT NULL GROUP BY t.task.id")
+    List<TaskTimeTotals> computeTaskTimeTotals();
+    
+    /**
+     * One task's time spent; empty when it has no stopped entries
+     */
+    @Query("SELECT t.task.id AS taskId, COALESCE(SUM(t.durationMinutes), 0) AS totalMinutes, COUNT(t) AS entryCount " +
+           "FROM TimeEntry t WHERE t.task.id = :taskId AND t.endTime IS NOT NULL GROUP BY t.task.id")
+    Optional<TaskTimeTotals> computeTaskTimeTotals(@Param("taskId") Long taskId);
+}
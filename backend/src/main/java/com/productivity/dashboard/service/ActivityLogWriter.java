@@ -0,0 +1,300 @@
+package com.productivity.dashboard.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Asynchronous, batched writer for the activities table.
+ * Callers enqueue onto a bounded lock-free queue (after their transaction commits, so rolled back
+ * work leaves no audit rows); a single flusher thread drains it with JDBC batch inserts whenever
+ * a batch fills up or the flush interval elapses. When the queue is full the overflow policy either
+ * writes the row on the caller's thread ({@code caller-runs}) or drops it ({@code drop}).
+ * The queue is drained before the application context closes, and entries submitted while it closes
+ * are written on the caller's thread. A failed batch is retried row by row, so only the bad rows are lost.
+ */
+@Component
+public class ActivityLogWriter {
+
+    private static final Logger logger = LoggerFactory.getLogger(ActivityLogWriter.class);
+
+    private static final String INSERT_SQL =
+        "INSERT INTO activities (user_id, action, entity_type, entity_id, details, created_at) VALUES (?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate batchTransaction;
+    private final ConcurrentLinkedQueue<Entry> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger queued = new AtomicInteger();
+
+    private final boolean async;
+    private final int capacity;
+    private final int batchSize;
+    private final long flushIntervalNanos;
+    private final long shutdownTimeoutMillis;
+    private final boolean dropOnOverflow;
+
+    private final Counter written;
+    private final Counter dropped;
+    private final Counter failed;
+    private final Counter overflowed;
+    private final Timer flushTimer;
+
+    private volatile boolean running;
+    private Thread flusher;
+
+    public ActivityLogWriter(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                             MeterRegistry meterRegistry,
+                             @Value("${activity.writer.mode:async}") String mode,
+                             @Value("${activity.writer.queue-capacity:10000}") int capacity,
+                             @Value("${activity.writer.batch-size:200}") int batchSize,
+                             @Value("${activity.writer.flush-interval-ms:500}") long flushIntervalMillis,
+                             @Value("${activity.writer.shutdown-timeout-ms:10000}") long shutdownTimeoutMillis,
+                             @Value("${activity.writer.overflow:caller-runs}") String overflow) {
+        this.jdbcTemplate = jdbcTemplate;
+        // A batch commits or fails as a whole, so the row-by-row retry cannot insert a row twice. Always a
+        // new transaction: writes also run from afterCommit, when the caller's transaction is finished
+        this.batchTransaction = new TransactionTemplate(transactionManager);
+        this.batchTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.async = !"sync".equalsIgnoreCase(mode);
+        this.capacity = Math.max(1, capacity);
+        this.batchSize = Math.max(1, batchSize);
+        this.flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(1, flushIntervalMillis));
+        this.shutdownTimeoutMillis = shutdownTimeoutMillis;
+        this.dropOnOverflow = "drop".equalsIgnoreCase(overflow);
+
+        this.written = Counter.builder("activity.writer.written").register(meterRegistry);
+        this.dropped = Counter.builder("activity.writer.dropped").register(meterRegistry);
+        this.failed = Counter.builder("activity.writer.failed").register(meterRegistry);
+        this.overflowed = Counter.builder("activity.writer.overflow").register(meterRegistry);
+        this.flushTimer = Timer.builder("activity.writer.flush").register(meterRegistry);
+        meterRegistry.gauge("activity.writer.queue.depth", queued);
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!async) {
+            logger.info("Activity writer running in synchronous mode");
+            return;
+        }
+        running = true;
+        flusher = new Thread(this::runFlusher, "activity-writer");
+        flusher.setDaemon(true);
+        flusher.start();
+        logger.info("Activity writer started - capacity: {}, batch size: {}, flush interval: {} ms, overflow: {}",
+            capacity, batchSize, TimeUnit.NANOSECONDS.toMillis(flushIntervalNanos),
+            dropOnOverflow ? "drop" : "caller-runs");
+    }
+
+    /**
+     * Whether activities go through the queue; when false callers keep writing them synchronously
+     */
+    public boolean isAsync() {
+        return async;
+    }
+
+    /**
+     * Queue an activity row; deferred until commit when called inside a transaction
+     */
+    public void submit(Long userId, String action, String entityType, Long entityId, String details) {
+        Entry entry = new Entry(userId, action, entityType, entityId, details);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    enqueue(entry);
+                }
+            });
+        } else {
+            enqueue(entry);
+        }
+    }
+
+    /**
+     * Queue a batch of activity rows produced by one operation; deferred until commit like {@link #submit}.
+     * Without the background flusher (sync mode or shutdown) the batch is written as one JDBC batch.
+     */
+    public void submitAll(List<Entry> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+        List<Entry> batch = List.copyOf(entries);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    enqueueAll(batch);
+                }
+            });
+        } else {
+            enqueueAll(batch);
+        }
+    }
+
+    private void enqueueAll(List<Entry> batch) {
+        if (!running) {
+            write(batch);
+            return;
+        }
+        for (Entry entry : batch) {
+            enqueue(entry);
+        }
+    }
+
+    private void enqueue(Entry entry) {
+        if (!running) {
+            // Not started or already draining for shutdown: write on the caller's thread
+            write(List.of(entry));
+            return;
+        }
+        if (queued.incrementAndGet() > capacity) {
+            queued.decrementAndGet();
+            overflowed.increment();
+            if (dropOnOverflow) {
+                dropped.increment();
+                logger.warn("Activity queue full, dropped activity: {} for user ID: {}", entry.action, entry.userId);
+            } else {
+                write(List.of(entry));
+            }
+            return;
+        }
+        queue.offer(entry);
+        if (!running) {
+            // Shutdown began after the check above and its final drain may already have run:
+            // write whatever is still queued on this thread so the entry is not left behind
+            drainAndWrite(new ArrayList<>(batchSize));
+            return;
+        }
+        if (queued.get() >= batchSize) {
+            LockSupport.unpark(flusher);
+        }
+    }
+
+    private void runFlusher() {
+        List<Entry> batch = new ArrayList<>(batchSize);
+        long lastFlush = System.nanoTime();
+        while (running) {
+            long waited = System.nanoTime() - lastFlush;
+            if (queued.get() < batchSize && waited < flushIntervalNanos) {
+                LockSupport.parkNanos(this, flushIntervalNanos - waited);
+                continue;
+            }
+            drainAndWrite(batch);
+            lastFlush = System.nanoTime();
+        }
+    }
+
+    /**
+     * Write everything currently queued, batch by batch
+     */
+    private void drainAndWrite(List<Entry> batch) {
+        Entry entry;
+        while ((entry = queue.poll()) != null) {
+            queued.decrementAndGet();
+            batch.add(entry);
+            if (batch.size() == batchSize) {
+                write(batch);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            write(batch);
+            batch.clear();
+        }
+    }
+
+    private void write(List<Entry> batch) {
+        long start = System.nanoTime();
+        try {
+            batchTransaction.executeWithoutResult(status ->
+                jdbcTemplate.batchUpdate(INSERT_SQL, batch, batch.size(), (ps, e) -> {
+                    ps.setLong(1, e.userId);
+                    ps.setString(2, e.action);
+                    ps.setString(3, e.entityType);
+                    if (e.entityId != null) {
+                        ps.setLong(4, e.entityId);
+                    } else {
+                        ps.setNull(4, Types.BIGINT);
+                    }
+                    ps.setString(5, e.details);
+                    ps.setTimestamp(6, Timestamp.valueOf(e.createdAt));
+                }));
+            written.increment(batch.size());
+        } catch (Exception e) {
+            if (batch.size() > 1) {
+                // Keep one bad row (e.g. a user deleted meanwhile) from losing the rest of the batch
+                logger.warn("Activity batch of {} failed, retrying one by one - Error: {}", batch.size(), e.getMessage());
+                for (Entry entry : batch) {
+                    write(List.of(entry));
+                }
+                return;
+            }
+            failed.increment();
+            logger.error("Failed to write activity: {} for user ID: {} - Error: {}",
+                batch.get(0).action, batch.get(0).userId, e.getMessage(), e);
+        } finally {
+            flushTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (!async) {
+            return;
+        }
+        running = false;
+        LockSupport.unpark(flusher);
+        try {
+            flusher.join(shutdownTimeoutMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        // Anything enqueued after the flusher's last pass is written here
+        int remaining = queued.get();
+        drainAndWrite(new ArrayList<>(batchSize));
+        logger.info("Activity writer stopped - drained {} queued activities", remaining);
+    }
+
+    /**
+     * One activities row, timestamped when it is created
+     */
+    public static final class Entry {
+
+        private final Long userId;
+        private final String action;
+        private final String entityType;
+        private final Long entityId;
+        private final String details;
+        private final LocalDateTime createdAt;
+
+        public Entry(Long userId, String action, String entityType, Long entityId, String details) {
+            this.userId = userId;
+            this.action = action;
+            this.entityType = entityType;
+            this.entityId = entityId;
+            this.details = details;
+            this.createdAt = LocalDateTime.now();
+        }
+    }
+}
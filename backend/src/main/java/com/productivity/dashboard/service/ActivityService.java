@@ -1,6 +1,7 @@
 package com.productivity.dashboard.service;
 
 import com.productivity.dashboard.dto.ActivityDTO;
+import com.productivity.dashboard.dto.CursorSlice;
 import com.productivity.dashboard.model.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -18,6 +19,11 @@ public interface ActivityService {
      */
     void logActivity(User user, String action, String entityType, Long entityId, String details);
     
+    /**
+     * Log a batch of activities from one bulk operation as a single JDBC batch, after the caller commits
+     */
+    void logActivities(List<ActivityLogWriter.Entry> entries);
+    
     /**
      * Get paginated activities for a specific user
      */
@@ -33,6 +39,21 @@ public interface ActivityService {
      */
     Page<ActivityDTO> getAllActivities(Pageable pageable);
     
+    /**
+     * Get a user's activity feed page after the given cursor (null for the first page)
+     */
+    CursorSlice<ActivityDTO> getUserActivityFeed(Long userId, String cursor, int size);
+    
+    /**
+     * Get a team's activity feed page after the given cursor (null for the first page)
+     */
+    CursorSlice<ActivityDTO> getTeamActivityFeed(List<Long> userIds, String cursor, int size);
+    
+    /**
+     * Get the global activity feed page after the given cursor (null for the first page)
+     */
+    CursorSlice<ActivityDTO> getAllActivityFeed(String cursor, int size);
+    
     /**
      * Get user activities within a date range
      */
@@ -47,4 +68,9 @@ public interface ActivityService {
      * Get recent activities for activity feed
      */
     List<ActivityDTO> getRecentActivities(int limit);
+    
+    /**
+     * Move up to batchSize activities created before the cutoff into the archive tier; returns the number moved
+     */
+    int archiveBatch(LocalDateTime cutoff, int batchSize);
 }
\ No newline at end of file
@@ -1,14 +1,19 @@
 package com.productivity.dashboard.service;
 
+import com.productivity.dashboard.dto.ActivityCursor;
 import com.productivity.dashboard.dto.ActivityDTO;
+import com.productivity.dashboard.dto.CursorSlice;
 import com.productivity.dashboard.exception.NotFoundException;
 import com.productivity.dashboard.model.Activity;
+import com.productivity.dashboard.model.ArchivedActivity;
 import com.productivity.dashboard.model.User;
 import com.productivity.dashboard.repository.ActivityRepository;
+import com.productivity.dashboard.repository.ArchivedActivityRepository;
 import com.productivity.dashboard.repository.UserRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -16,6 +21,8 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -28,17 +35,37 @@ public class ActivityServiceImpl implements ActivityService {
     
     private static final Logger logger = LoggerFactory.getLogger(ActivityServiceImpl.class);
     
+    private static final int MAX_FEED_SIZE = 100;
+    
+    private static final Comparator<ActivityDTO> FEED_ORDER = Comparator
+        .comparing(ActivityDTO::getCreatedAt).thenComparing(ActivityDTO::getId).reversed();
+    
     @Autowired
     private ActivityRepository activityRepository;
     
     @Autowired
     private UserRepository userRepository;
     
+    @Autowired
+    private ArchivedActivityRepository archivedActivityRepository;
+    
+    @Autowired
+    private ActivityLogWriter activityLogWriter;
+    
+    @Value("${activity.retention.hot-days:90}")
+    private int hotDays;
+    
     @Override
     public void logActivity(User user, String action, String entityType, Long entityId, String details) {
         logger.debug("Logging activity - User: {}, Action: {}, EntityType: {}, EntityId: {}", 
             user.getEmail(), action, entityType, entityId);
         
+        if (activityLogWriter.isAsync()) {
+            // Batched by the background writer once the caller's transaction commits
+            activityLogWriter.submit(user.getId(), action, entityType, entityId, details);
+            return;
+        }
+        
         try {
             Activity activity = new Activity(user, action, entityType, entityId, details);
             activityRepository.save(activity);
@@ -49,6 +76,12 @@ public class ActivityServiceImpl implements ActivityService {
         }
     }
     
+    @Override
+    public void logActivities(List<ActivityLogWriter.Entry> entries) {
+        logger.debug("Logging {} activities as a batch", entries.size());
+        activityLogWriter.submitAll(entries);
+    }
+    
     @Override
     @Transactional(readOnly = true)
     public Page<ActivityDTO> getUserActivities(Long userId, Pageable pageable) {
@@ -91,6 +124,32 @@ public class ActivityServiceImpl implements ActivityService {
         return activities.map(this::convertToDTO);
     }
     
+    @Override
+    @Transactional(readOnly = true)
+    public CursorSlice<ActivityDTO> getUserActivityFeed(Long userId, String cursor, int size) {
+        logger.info("Fetching activity feed for user ID: {}, size: {}", userId, size);
+        return feed(cursor, size,
+            (createdAt, id, limit) -> activityRepository.findUserActivitiesBefore(userId, createdAt, id, limit),
+            (createdAt, id, limit) -> archivedActivityRepository.findUserActivitiesBefore(userId, createdAt, id, limit));
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public CursorSlice<ActivityDTO> getTeamActivityFeed(List<Long> userIds, String cursor, int size) {
+        logger.info("Fetching team activity feed for {} users, size: {}", userIds.size(), size);
+        return feed(cursor, size,
+            (createdAt, id, limit) -> activityRepository.findTeamActivitiesBefore(userIds, createdAt, id, limit),
+            (createdAt, id, limit) -> archivedActivityRepository.findTeamActivitiesBefore(userIds, createdAt, id, limit));
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public CursorSlice<ActivityDTO> getAllActivityFeed(String cursor, int size) {
+        logger.info("Fetching global activity feed, size: {}", size);
+        return feed(cursor, size, activityRepository::findAllActivitiesBefore,
+                    archivedActivityRepository::findAllActivitiesBefore);
+    }
+    
     @Override
     @Transactional(readOnly = true)
     public List<ActivityDTO> getUserActivitiesInRange(Long userId, LocalDateTime start, LocalDateTime end) {
@@ -102,13 +161,20 @@ public class ActivityServiceImpl implements ActivityService {
                 return new NotFoundException("User not found");
             });
         
-        List<Activity> activities = activityRepository
-            .findByUserAndCreatedAtBetweenOrderByCreatedAtDesc(user, start, end);
+        List<ActivityDTO> activities = activityRepository
+            .findByUserAndCreatedAtBetweenOrderByCreatedAtDesc(user, start, end).stream()
+            .map(this::convertToDTO)
+            .collect(Collectors.toCollection(ArrayList::new));
+        
+        // Only ranges reaching past the hot window touch the archive
+        if (start.isBefore(hotCutoff())) {
+            archivedActivityRepository.findByUserIdAndCreatedAtBetween(userId, start, end)
+                .forEach(archived -> activities.add(convertToDTO(archived)));
+            activities.sort(FEED_ORDER);
+        }
         logger.debug("Found {} activities in date range for user: {}", activities.size(), user.getEmail());
         
-        return activities.stream()
-            .map(this::convertToDTO)
-            .collect(Collectors.toList());
+        return activities;
     }
     
     @Override
@@ -123,6 +189,9 @@ public class ActivityServiceImpl implements ActivityService {
             });
         
         Long count = activityRepository.countUserActivitiesSince(user, since);
+        if (since.isBefore(hotCutoff())) {
+            count += archivedActivityRepository.countUserActivitiesSince(userId, since);
+        }
         logger.debug("User {} has {} activities since {}", user.getEmail(), count, since);
         
         return count;
@@ -144,6 +213,66 @@ public class ActivityServiceImpl implements ActivityService {
             .collect(Collectors.toList());
     }
     
+    @Override
+    public int archiveBatch(LocalDateTime cutoff, int batchSize) {
+        List<Long> ids = activityRepository.findIdsCreatedBefore(cutoff, PageRequest.of(0, batchSize));
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        // Copy and delete in the same transaction, so a row is never in both tiers or in neither
+        archivedActivityRepository.copyFromActivities(ids, LocalDateTime.now());
+        activityRepository.deleteByIdIn(ids);
+        logger.debug("Archived {} activities created before {}", ids.size(), cutoff);
+        return ids.size();
+    }
+    
+    /**
+     * Rows created at or after this instant are always in the hot table
+     */
+    private LocalDateTime hotCutoff() {
+        return LocalDateTime.now().minusDays(hotDays);
+    }
+    
+    /**
+     * Read one feed page from the hot tier, merging in the archive only when the page reaches past the hot window
+     */
+    private CursorSlice<ActivityDTO> feed(String cursor, int size, SeekQuery<Activity> hot,
+                                          SeekQuery<ArchivedActivity> archive) {
+        ActivityCursor after = ActivityCursor.decode(cursor);
+        int limit = feedSize(size);
+        Pageable window = PageRequest.of(0, limit + 1);
+        
+        List<ActivityDTO> rows = hot.find(after.getCreatedAt(), after.getId(), window).stream()
+            .map(this::convertToDTO)
+            .collect(Collectors.toCollection(ArrayList::new));
+        // Archived rows are all older than the hot cutoff, so a full page that ends inside the hot window is final
+        if (rows.size() <= limit || rows.get(rows.size() - 1).getCreatedAt().isBefore(hotCutoff())) {
+            archive.find(after.getCreatedAt(), after.getId(), window)
+                .forEach(archived -> rows.add(convertToDTO(archived)));
+            rows.sort(FEED_ORDER);
+        }
+        return toSlice(rows, limit);
+    }
+    
+    private static int feedSize(int size) {
+        return Math.max(1, Math.min(size, MAX_FEED_SIZE));
+    }
+    
+    /**
+     * Build a slice from a query that fetched one row more than the page size; the extra row only signals hasNext
+     */
+    private CursorSlice<ActivityDTO> toSlice(List<ActivityDTO> rows, int limit) {
+        boolean hasNext = rows.size() > limit;
+        List<ActivityDTO> page = hasNext ? new ArrayList<>(rows.subList(0, limit)) : rows;
+        String nextCursor = null;
+        if (hasNext) {
+            ActivityDTO last = page.get(page.size() - 1);
+            nextCursor = new ActivityCursor(last.getCreatedAt(), last.getId()).encode();
+        }
+        logger.debug("Activity feed page with {} items, hasNext: {}", page.size(), hasNext);
+        return new CursorSlice<>(page, nextCursor);
+    }
+    
     private ActivityDTO convertToDTO(Activity activity) {
         ActivityDTO dto = new ActivityDTO();
         dto.setId(activity.getId());
@@ -157,4 +286,26 @@ public class ActivityServiceImpl implements ActivityService {
         dto.setCreatedAt(activity.getCreatedAt());
         return dto;
     }
+    
+    private ActivityDTO convertToDTO(ArchivedActivity activity) {
+        ActivityDTO dto = new ActivityDTO();
+        dto.setId(activity.getId());
+        dto.setUserId(activity.getUser().getId());
+        dto.setUserName(activity.getUser().getName());
+        dto.setUserEmail(activity.getUser().getEmail());
+        dto.setAction(activity.getAction());
+        dto.setEntityType(activity.getEntityType());
+        dto.setEntityId(activity.getEntityId());
+        dto.setDetails(activity.getDetails());
+        dto.setCreatedAt(activity.getCreatedAt());
+        return dto;
+    }
+    
+    /**
+     * Keyset query shape shared by the hot and archive repositories
+     */
+    @FunctionalInterface
+    private interface SeekQuery<T> {
+        List<T> find(LocalDateTime createdAt, Long id, Pageable limit);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,43 @@
+package com.productivity.dashboard.service;
+
+import com.productivity.dashboard.model.AttendanceStatus;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+/**
+ * Attendance rules applied in-process on the write path: a check-in after the work start plus the grace
+ * period is LATE, and a day with fewer than the half-day hours worked ends as HALF_DAY.
+ */
+@Component
+public class AttendancePolicy {
+
+    private final LocalTime lateAfter;
+    private final double halfDayHours;
+
+    public AttendancePolicy(@Value("${attendance.work-start:09:00}") String workStart,
+                            @Value("${attendance.late-grace-minutes:15}") long lateGraceMinutes,
+                            @Value("${attendance.half-day-hours:4}") double halfDayHours) {
+        this.lateAfter = LocalTime.parse(workStart).plusMinutes(lateGraceMinutes);
+        this.halfDayHours = halfDayHours;
+    }
+
+    public AttendanceStatus statusAtCheckIn(LocalDateTime checkInTime) {
+        return checkInTime.toLocalTime().isAfter(lateAfter) ? AttendanceStatus.LATE : AttendanceStatus.PRESENT;
+    }
+
+    public AttendanceStatus statusAtCheckOut(AttendanceStatus current, double workHours) {
+        return workHours < halfDayHours ? AttendanceStatus.HALF_DAY : current;
+    }
+
+    /**
+     * Hours between check-in and check-out, rounded to two decimals
+     */
+    public double workHours(LocalDateTime checkInTime, LocalDateTime checkOutTime) {
+        long minutes = Math.max(Duration.between(checkInTime, checkOutTime).toMinutes(), 0);
+        return Math.round(minutes / 60.0 * 100) / 100.0;
+    }
+}
@@ -0,0 +1,38 @@
+package com.productivity.dashboard.service;
+
+import com.productivity.dashboard.dto.AttendanceDTO;
+import com.productivity.dashboard.model.User;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Service interface for daily attendance
+ */
+public interface AttendanceService {
+    
+    /**
+     * Check the current user in for today; repeating it returns the original check-in
+     */
+    AttendanceDTO checkIn(User user, String notes);
+    
+    /**
+     * Check the current user out for today; repeating it returns the original check-out
+     */
+    AttendanceDTO checkOut(User user);
+    
+    /**
+     * Get today's attendance of a user, or null when there is none yet
+     */
+    AttendanceDTO getToday(User user);
+    
+    /**
+     * Get attendance of users within a date range (dates inclusive)
+     */
+    List<AttendanceDTO> getAttendance(List<Long> userIds, LocalDate startDate, LocalDate endDate);
+    
+    /**
+     * Get everyone's attendance on one day
+     */
+    List<AttendanceDTO> getAttendanceByDate(LocalDate date);
+}
@@ -0,0 +1,135 @@
+package com.productivity.dashboard.service;
+
+import com.productivity.dashboard.dto.AttendanceDTO;
+import com.productivity.dashboard.exception.BadRequestException;
+import com.productivity.dashboard.exception.NotFoundException;
+import com.productivity.dashboard.model.Attendance;
+import com.productivity.dashboard.model.AttendanceStatus;
+import com.productivity.dashboard.model.User;
+import com.productivity.dashboard.repository.AttendanceRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Service implementation for daily attendance.
+ * Check-ins and check-outs go through the batching {@link AttendanceWriter}; reads use the repository.
+ */
+@Service
+@Transactional
+public class AttendanceServiceImpl implements AttendanceService {
+    
+    private static final Logger logger = LoggerFactory.getLogger(AttendanceServiceImpl.class);
+    
+    @Autowired
+    private AttendanceRepository attendanceRepository;
+    
+    @Autowired
+    private AttendanceWriter attendanceWriter;
+    
+    @Autowired
+    private AttendancePolicy attendancePolicy;
+    
+    @Autowired
+    private ActivityService activityService;
+    
+    /**
+     * Runs outside a transaction so a request waiting for its batch does not hold a pooled connection
+     */
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public AttendanceDTO checkIn(User user, String notes) {
+        // Whole seconds, so the time read back compares equal whatever the column precision
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+        AttendanceStatus status = attendancePolicy.statusAtCheckIn(now);
+        logger.debug("Checking in user: {} at {} ({})", user.getEmail(), now, status);
+        
+        AttendanceDTO attendance;
+        try {
+            attendance = attendanceWriter.checkIn(user.getId(), now.toLocalDate(), now, status, notes);
+        } catch (DataIntegrityViolationException e) {
+            attendance = null;
+        }
+        if (attendance == null) {
+            // The user was deleted since the token was issued: MySQL's INSERT IGNORE turns the foreign key
+            // error into a warning and writes nothing, other databases raise it
+            logger.warn("Check-in wrote no row for user: {}", user.getEmail());
+            throw new NotFoundException("User not found");
+        }
+        if (now.equals(attendance.getCheckInTime())) {
+            activityService.logActivity(user, "CHECKED_IN", "Attendance", attendance.getId(),
+                "Checked in at " + now.toLocalTime() + (status == AttendanceStatus.LATE ? " (late)" : ""));
+        }
+        return attendance;
+    }
+    
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public AttendanceDTO checkOut(User user) {
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+        logger.debug("Checking out user: {} at {}", user.getEmail(), now);
+        
+        AttendanceDTO attendance = attendanceWriter.checkOut(user.getId(), now.toLocalDate(), now);
+        if (attendance == null || attendance.getCheckInTime() == null) {
+            logger.warn("Check-out without check-in for user: {}", user.getEmail());
+            throw new BadRequestException("You have not checked in today");
+        }
+        if (now.equals(attendance.getCheckOutTime())) {
+            activityService.logActivity(user, "CHECKED_OUT", "Attendance", attendance.getId(),
+                "Checked out at " + now.toLocalTime() + " - Work hours: " + attendance.getWorkHours());
+        }
+        return attendance;
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public AttendanceDTO getToday(User user) {
+        return attendanceRepository.findWithUserByUserIdAndDate(user.getId(), LocalDate.now())
+            .map(this::convertToDTO)
+            .orElse(null);
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public List<AttendanceDTO> getAttendance(List<Long> userIds, LocalDate startDate, LocalDate endDate) {
+        if (endDate.isBefore(startDate)) {
+            throw new BadRequestException("End date cannot be before start date");
+        }
+        logger.debug("Fetching attendance for {} users from {} to {}", userIds.size(), startDate, endDate);
+        return attendanceRepository.findWithUserByUserIdsAndDateRange(userIds, startDate, endDate).stream()
+            .map(this::convertToDTO)
+            .collect(Collectors.toList());
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public List<AttendanceDTO> getAttendanceByDate(LocalDate date) {
+        return attendanceRepository.findWithUserByDate(date).stream()
+            .map(this::convertToDTO)
+            .collect(Collectors.toList());
+    }
+    
+    private AttendanceDTO convertToDTO(Attendance attendance) {
+        AttendanceDTO dto = new AttendanceDTO();
+        dto.setId(attendance.getId());
+        dto.setUserId(attendance.getUser().getId());
+        dto.setUserName(attendance.getUser().getName());
+        dto.setDate(attendance.getDate());
+        dto.setCheckInTime(attendance.getCheckInTime());
+        dto.setCheckOutTime(attendance.getCheckOutTime());
+        dto.setStatus(attendance.getStatus());
+        dto.setWorkHours(attendance.getWorkHours());
+        dto.setNotes(attendance.getNotes());
+        return dto;
+    }
+}
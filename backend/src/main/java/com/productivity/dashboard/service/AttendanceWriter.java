@@ -0,0 +1,352 @@
+package com.productivity.dashboard.service;
+
+import com.productivity.dashboard.dto.AttendanceDTO;
+import com.productivity.dashboard.exception.TooManyRequestsException;
+import com.productivity.dashboard.model.AttendanceStatus;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Group-commit writer for check-ins and check-outs, built for the morning burst.
+ * Request threads enqueue a command and wait for it; a single flusher thread takes whatever is queued
+ * (lingering briefly for more), applies the whole batch with a few JDBC batch statements and reads the
+ * resulting rows back in one query. Check-in is an idempotent upsert on the unique (user_id, date) key:
+ * INSERT IGNORE, then fill in a row that existed without a check-in; the first check-in of the day wins.
+ * Check-out only touches a row that is checked in and not yet checked out, so repeating either is harmless
+ * and a request that timed out can simply be retried.
+ */
+@Component
+public class AttendanceWriter {
+
+    private static final Logger logger = LoggerFactory.getLogger(AttendanceWriter.class);
+
+    private static final String INSERT_CHECK_IN_SQL =
+        "INSERT IGNORE INTO attendance (user_id, date, check_in_time, status, notes, created_at, updated_at) " +
+        "VALUES (?, ?, ?, ?, ?, ?, ?)";
+    // Rows created without a check-in (e.g. marked absent or on leave beforehand)
+    private static final String UPDATE_CHECK_IN_SQL =
+        "UPDATE attendance SET check_in_time = ?, status = ?, notes = COALESCE(?, notes), updated_at = ? " +
+        "WHERE user_id = ? AND date = ? AND check_in_time IS NULL";
+    private static final String UPDATE_CHECK_OUT_SQL =
+        "UPDATE attendance SET check_out_time = ?, work_hours = ?, status = ?, updated_at = ? " +
+        "WHERE user_id = ? AND date = ? AND check_in_time IS NOT NULL AND check_out_time IS NULL";
+    private static final String SELECT_SQL =
+        "SELECT a.id, a.user_id, u.name AS user_name, a.date, a.check_in_time, a.check_out_time, a.status, " +
+        "a.work_hours, a.notes FROM attendance a JOIN users u ON u.id = a.user_id WHERE a.date = ? AND a.user_id IN (%s)";
+
+    private enum Kind { CHECK_IN, CHECK_OUT }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final AttendancePolicy attendancePolicy;
+    private final ConcurrentLinkedQueue<Command> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger queued = new AtomicInteger();
+
+    private final int capacity;
+    private final int batchSize;
+    private final long lingerNanos;
+    private final long timeoutMillis;
+    private final long shutdownTimeoutMillis;
+
+    private final Counter failed;
+    private final DistributionSummary batchSizes;
+    private final Timer flushTimer;
+
+    private volatile boolean running;
+    private Thread flusher;
+
+    public AttendanceWriter(JdbcTemplate jdbcTemplate, AttendancePolicy attendancePolicy, MeterRegistry meterRegistry,
+                            @Value("${attendance.writer.queue-capacity:5000}") int capacity,
+                            @Value("${attendance.writer.batch-size:200}") int batchSize,
+                            @Value("${attendance.writer.linger-ms:5}") long lingerMillis,
+                            @Value("${attendance.writer.timeout-ms:5000}") long timeoutMillis,
+                            @Value("${attendance.writer.shutdown-timeout-ms:10000}") long shutdownTimeoutMillis) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.attendancePolicy = attendancePolicy;
+        this.capacity = Math.max(1, capacity);
+        this.batchSize = Math.max(1, batchSize);
+        this.lingerNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, lingerMillis));
+        this.timeoutMillis = timeoutMillis;
+        this.shutdownTimeoutMillis = shutdownTimeoutMillis;
+
+        this.failed = Counter.builder("attendance.writer.failed").register(meterRegistry);
+        this.batchSizes = DistributionSummary.builder("attendance.writer.batch.size").register(meterRegistry);
+        this.flushTimer = Timer.builder("attendance.writer.flush").register(meterRegistry);
+        meterRegistry.gauge("attendance.writer.queue.depth", queued);
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        flusher = new Thread(this::runFlusher, "attendance-writer");
+        flusher.setDaemon(true);
+        flusher.start();
+        logger.info("Attendance writer started - capacity: {}, batch size: {}, linger: {} ms",
+            capacity, batchSize, TimeUnit.NANOSECONDS.toMillis(lingerNanos));
+    }
+
+    /**
+     * Record a check-in and return the stored row, which keeps the earlier time if the user already checked in;
+     * null when no row could be written (the user no longer exists)
+     */
+    public AttendanceDTO checkIn(Long userId, LocalDate date, LocalDateTime checkInTime, AttendanceStatus status,
+                                 String notes) {
+        return submit(new Command(Kind.CHECK_IN, userId, date, checkInTime, status, notes));
+    }
+
+    /**
+     * Record a check-out and return the stored row; null when there is no row for the day
+     */
+    public AttendanceDTO checkOut(Long userId, LocalDate date, LocalDateTime checkOutTime) {
+        return submit(new Command(Kind.CHECK_OUT, userId, date, checkOutTime, null, null));
+    }
+
+    private AttendanceDTO submit(Command command) {
+        if (!running) {
+            // Shutting down: write on the caller's thread
+            process(List.of(command));
+        } else {
+            int depth = queued.incrementAndGet();
+            if (depth > capacity) {
+                queued.decrementAndGet();
+                throw new TooManyRequestsException("Too many attendance updates in progress, please try again shortly", 1);
+            }
+            queue.offer(command);
+            if (depth == 1 || depth >= batchSize) {
+                LockSupport.unpark(flusher);
+            }
+        }
+
+        try {
+            return command.result.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            throw new TooManyRequestsException("Attendance update is taking longer than expected, please try again", 1);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for the attendance update", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private void runFlusher() {
+        List<Command> batch = new ArrayList<>(batchSize);
+        while (running) {
+            if (queued.get() == 0) {
+                LockSupport.park(this);
+                continue;
+            }
+            // Give the rest of a burst a moment to arrive so it shares the batch
+            long deadline = System.nanoTime() + lingerNanos;
+            long remaining;
+            while (running && queued.get() < batchSize && (remaining = deadline - System.nanoTime()) > 0) {
+                LockSupport.parkNanos(this, remaining);
+            }
+            drain(batch);
+        }
+    }
+
+    /**
+     * Process up to one batch of queued commands
+     */
+    private void drain(List<Command> batch) {
+        Command command;
+        while (batch.size() < batchSize && (command = queue.poll()) != null) {
+            queued.decrementAndGet();
+            batch.add(command);
+        }
+        if (!batch.isEmpty()) {
+            process(batch);
+            batch.clear();
+        }
+    }
+
+    private void process(List<Command> batch) {
+        long start = System.nanoTime();
+        try {
+            Map<LocalDate, Map<Long, AttendanceDTO>> rows = apply(batch);
+            for (Command command : batch) {
+                command.result.complete(rows.getOrDefault(command.date, Collections.emptyMap()).get(command.userId));
+            }
+            batchSizes.record(batch.size());
+        } catch (Exception e) {
+            if (batch.size() > 1) {
+                // Keep one bad command (e.g. a user deleted meanwhile) from failing the others
+                logger.warn("Attendance batch of {} failed, retrying one by one - Error: {}", batch.size(), e.getMessage());
+                for (Command command : batch) {
+                    process(List.of(command));
+                }
+                return;
+            }
+            failed.increment();
+            logger.error("Failed to write attendance for user ID: {} - Error: {}", batch.get(0).userId, e.getMessage(), e);
+            batch.get(0).result.completeExceptionally(e);
+        } finally {
+            flushTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private Map<LocalDate, Map<Long, AttendanceDTO>> apply(List<Command> batch) {
+        List<Command> checkIns = new ArrayList<>();
+        List<Command> checkOuts = new ArrayList<>();
+        for (Command command : batch) {
+            (command.kind == Kind.CHECK_IN ? checkIns : checkOuts).add(command);
+        }
+
+        if (!checkIns.isEmpty()) {
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+            jdbcTemplate.batchUpdate(INSERT_CHECK_IN_SQL, checkIns, checkIns.size(), (ps, c) -> {
+                ps.setLong(1, c.userId);
+                ps.setDate(2, Date.valueOf(c.date));
+                ps.setTimestamp(3, Timestamp.valueOf(c.time));
+                ps.setString(4, c.status.name());
+                ps.setString(5, c.notes);
+                ps.setTimestamp(6, now);
+                ps.setTimestamp(7, now);
+            });
+            jdbcTemplate.batchUpdate(UPDATE_CHECK_IN_SQL, checkIns, checkIns.size(), (ps, c) -> {
+                ps.setTimestamp(1, Timestamp.valueOf(c.time));
+                ps.setString(2, c.status.name());
+                ps.setString(3, c.notes);
+                ps.setTimestamp(4, now);
+                ps.setLong(5, c.userId);
+                ps.setDate(6, Date.valueOf(c.date));
+            });
+        }
+
+        if (!checkOuts.isEmpty()) {
+            // Status and hours depend on the check-in time, so read the rows first; the update is still
+            // guarded on check_out_time, and this thread is the only writer of these rows
+            Map<LocalDate, Map<Long, AttendanceDTO>> current = load(checkOuts);
+            List<Object[]> updates = new ArrayList<>(checkOuts.size());
+            for (Command c : checkOuts) {
+                AttendanceDTO row = current.getOrDefault(c.date, Collections.emptyMap()).get(c.userId);
+                if (row == null || row.getCheckInTime() == null || row.getCheckOutTime() != null) {
+                    continue;
+                }
+                double workHours = attendancePolicy.workHours(row.getCheckInTime(), c.time);
+                AttendanceStatus status = attendancePolicy.statusAtCheckOut(row.getStatus(), workHours);
+                updates.add(new Object[] {
+                    Timestamp.valueOf(c.time), workHours, status.name(), Timestamp.valueOf(LocalDateTime.now()),
+                    c.userId, Date.valueOf(c.date)
+                });
+            }
+            if (!updates.isEmpty()) {
+                jdbcTemplate.batchUpdate(UPDATE_CHECK_OUT_SQL, updates);
+            }
+        }
+
+        return load(batch);
+    }
+
+    /**
+     * Read the rows the commands refer to, one query per distinct date
+     */
+    private Map<LocalDate, Map<Long, AttendanceDTO>> load(List<Command> commands) {
+        Map<LocalDate, Set<Long>> userIdsByDate = new HashMap<>();
+        for (Command c : commands) {
+            userIdsByDate.computeIfAbsent(c.date, date -> new LinkedHashSet<>()).add(c.userId);
+        }
+
+        Map<LocalDate, Map<Long, AttendanceDTO>> rows = new HashMap<>();
+        for (Map.Entry<LocalDate, Set<Long>> entry : userIdsByDate.entrySet()) {
+            List<Object> parameters = new ArrayList<>(entry.getValue().size() + 1);
+            parameters.add(Date.valueOf(entry.getKey()));
+            parameters.addAll(entry.getValue());
+            String sql = String.format(SELECT_SQL, String.join(",", Collections.nCopies(entry.getValue().size(), "?")));
+            Map<Long, AttendanceDTO> byUser = new HashMap<>();
+            jdbcTemplate.query(sql, rs -> {
+                AttendanceDTO row = toDTO(rs);
+                byUser.put(row.getUserId(), row);
+            }, parameters.toArray());
+            rows.put(entry.getKey(), byUser);
+        }
+        return rows;
+    }
+
+    private static AttendanceDTO toDTO(ResultSet rs) throws SQLException {
+        AttendanceDTO dto = new AttendanceDTO();
+        dto.setId(rs.getLong("id"));
+        dto.setUserId(rs.getLong("user_id"));
+        dto.setUserName(rs.getString("user_name"));
+        dto.setDate(rs.getDate("date").toLocalDate());
+        Timestamp checkIn = rs.getTimestamp("check_in_time");
+        dto.setCheckInTime(checkIn != null ? checkIn.toLocalDateTime() : null);
+        Timestamp checkOut = rs.getTimestamp("check_out_time");
+        dto.setCheckOutTime(checkOut != null ? checkOut.toLocalDateTime() : null);
+        dto.setStatus(AttendanceStatus.valueOf(rs.getString("status")));
+        dto.setWorkHours(rs.getObject("work_hours") != null ? rs.getDouble("work_hours") : null);
+        dto.setNotes(rs.getString("notes"));
+        return dto;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+        LockSupport.unpark(flusher);
+        try {
+            flusher.join(shutdownTimeoutMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        // Anything enqueued after the flusher's last pass is written here
+        List<Command> batch = new ArrayList<>(batchSize);
+        while (!queue.isEmpty()) {
+            drain(batch);
+        }
+        logger.info("Attendance writer stopped");
+    }
+
+    private static final class Command {
+
+        private final Kind kind;
+        private final Long userId;
+        private final LocalDate date;
+        private final LocalDateTime time;
+        private final AttendanceStatus status;
+        private final String notes;
+        private final CompletableFuture<AttendanceDTO> result = new CompletableFuture<>();
+
+        private Command(Kind kind, Long userId, LocalDate date, LocalDateTime time, AttendanceStatus status,
+                        String notes) {
+            this.kind = kind;
+            this.userId = userId;
+            this.date = date;
+            this.time = time;
+            this.status = status;
+            this.notes = notes;
+        }
+    }
+}
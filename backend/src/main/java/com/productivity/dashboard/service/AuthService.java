@@ -4,11 +4,18 @@ import com.productivity.dashboard.dto.LoginRequest;
 import com.productivity.dashboard.dto.RegisterRequest;
 import com.productivity.dashboard.model.User;
 
+import java.util.concurrent.CompletableFuture;
+
 public interface AuthService {
     
     User register(RegisterRequest request);
     
     String login(LoginRequest request);
     
+    /**
+     * Rate-limit the attempt, then run the credential check on the bounded login pool
+     */
+    CompletableFuture<String> loginAsync(LoginRequest request, String clientIp);
+    
     User getCurrentUser();
 }
@@ -4,20 +4,30 @@ import com.productivity.dashboard.dto.LoginRequest;
 import com.productivity.dashboard.dto.RegisterRequest;
 import com.productivity.dashboard.exception.BadRequestException;
 import com.productivity.dashboard.exception.NotFoundException;
+import com.productivity.dashboard.exception.TooManyRequestsException;
 import com.productivity.dashboard.exception.UnauthorizedException;
 import com.productivity.dashboard.model.User;
 import com.productivity.dashboard.repository.UserRepository;
+import com.productivity.dashboard.config.CurrentUserResolver;
 import com.productivity.dashboard.config.JwtUtil;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
 
 @Service
 public class AuthServiceImpl implements AuthService {
@@ -39,6 +49,22 @@ public class AuthServiceImpl implements AuthService {
     @Autowired
     private ActivityService activityService;
 
+    @Autowired
+    private CurrentUserResolver currentUserResolver;
+
+    @Autowired
+    private UserCache userCache;
+
+    @Autowired
+    private LoginRateLimiter loginRateLimiter;
+
+    @Autowired
+    @Qualifier("loginExecutor")
+    private ExecutorService loginExecutor;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
     @Override
     public User register(RegisterRequest request) {
         logger.info("Attempting to register new user with email: {}", request.getEmail());
@@ -57,6 +83,7 @@ public class AuthServiceImpl implements AuthService {
         user.setRole(request.getRole());
 
         User savedUser = userRepository.save(user);
+        userCache.evictEmail(savedUser.getEmail());
         logger.info("User registered successfully: {} with role: {}", savedUser.getEmail(), savedUser.getRole());
 
         // Log activity
@@ -82,23 +109,47 @@ public class AuthServiceImpl implements AuthService {
         }
 
         // Generate JWT token
-        User user = userRepository.findByEmail(request.getEmail())
+        User user = userCache.findByEmail(request.getEmail())
                 .orElseThrow(() -> new NotFoundException("User not found"));
 
-        String token = jwtUtil.generateToken(user.getEmail());
+        String token = jwtUtil.generateToken(user);
         logger.info("JWT token generated successfully for user: {}", user.getEmail());
         return token;
     }
 
+    @Override
+    public CompletableFuture<String> loginAsync(LoginRequest request, String clientIp) {
+        loginRateLimiter.acquire(request.getEmail(), clientIp);
+
+        long start = System.nanoTime();
+        try {
+            return CompletableFuture.supplyAsync(() -> login(request), loginExecutor)
+                    .whenComplete((token, ex) -> recordLoginLatency(start, ex == null ? "success" : "failure"));
+        } catch (RejectedExecutionException e) {
+            recordLoginLatency(start, "rejected");
+            logger.warn("Login pool saturated, rejecting login for user: {}", request.getEmail());
+            throw new TooManyRequestsException("Login service is busy, please try again shortly", 1);
+        }
+    }
+
+    /**
+     * Submit-to-completion latency, so queueing time on the login pool is included
+     */
+    private void recordLoginLatency(long start, String outcome) {
+        Timer.builder("auth.login.latency")
+                .description("Login latency including time queued for the login pool")
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+
     @Override
     public User getCurrentUser() {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        String email = authentication.getName();
-        logger.debug("Fetching current user: {}", email);
-        return userRepository.findByEmail(email)
-                .orElseThrow(() -> {
-                    logger.error("Current user not found: {}", email);
-                    return new NotFoundException("User not found");
-                });
+        // Memoized per request; outside a web request resolve directly
+        if (RequestContextHolder.getRequestAttributes() != null) {
+            return currentUserResolver.get();
+        }
+        return CurrentUserResolver.load(userCache);
     }
 }
\ No newline at end of file
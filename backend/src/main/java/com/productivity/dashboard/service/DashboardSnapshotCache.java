@@ -0,0 +1,185 @@
+package com.productivity.dashboard.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.productivity.dashboard.event.TaskBatchChangedEvent;
+import com.productivity.dashboard.event.TaskChangedEvent;
+import com.productivity.dashboard.event.TimeEntryChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.DigestUtils;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * In-memory cache of computed dashboard payloads, keyed by scope (global or per user).
+ * Entries expire after a TTL and are invalidated explicitly once a task or time entry write commits.
+ * Each snapshot carries a content hash that the controller uses as its ETag.
+ * Counters: {@code dashboard.cache.requests} (result=hit|miss) and {@code dashboard.cache.evictions}
+ * (cause=expired|invalidated).
+ */
+@Component
+public class DashboardSnapshotCache {
+
+    public static final String GLOBAL_SUMMARY = "global:summary";
+    public static final String GLOBAL_ENHANCED = "global:enhanced";
+
+    private static final Logger logger = LoggerFactory.getLogger(DashboardSnapshotCache.class);
+
+    private final ConcurrentHashMap<String, Snapshot<?>> snapshots = new ConcurrentHashMap<>();
+    // Bumped on every invalidation; a snapshot computed under an older version is never stored
+    private final ConcurrentHashMap<String, Long> versions = new ConcurrentHashMap<>();
+
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final long ttlNanos;
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter expirations;
+    private final Counter invalidations;
+
+    public DashboardSnapshotCache(ObjectMapper objectMapper, MeterRegistry meterRegistry,
+                                  @Value("${dashboard.cache.enabled:true}") boolean enabled,
+                                  @Value("${dashboard.cache.ttl-seconds:30}") long ttlSeconds) {
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.ttlNanos = TimeUnit.SECONDS.toNanos(ttlSeconds);
+        this.hits = counter(meterRegistry, "dashboard.cache.requests", "result", "hit");
+        this.misses = counter(meterRegistry, "dashboard.cache.requests", "result", "miss");
+        this.expirations = counter(meterRegistry, "dashboard.cache.evictions", "cause", "expired");
+        this.invalidations = counter(meterRegistry, "dashboard.cache.evictions", "cause", "invalidated");
+        meterRegistry.gaugeMapSize("dashboard.cache.size", Tags.empty(), snapshots);
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String name, String tag, String value) {
+        return Counter.builder(name).tag(tag, value).register(meterRegistry);
+    }
+
+    public static String personalScope(Long userId) {
+        return "user:" + userId;
+    }
+
+    /**
+     * Return the cached snapshot for a scope, computing and storing it with the loader on a miss
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Snapshot<T> get(String scope, Supplier<T> loader) {
+        if (!enabled) {
+            return snapshot(loader.get());
+        }
+
+        long now = System.nanoTime();
+        Snapshot<T> cached = (Snapshot<T>) snapshots.get(scope);
+        if (cached != null) {
+            if (now - cached.createdAt < ttlNanos) {
+                hits.increment();
+                return cached;
+            }
+            if (snapshots.remove(scope, cached)) {
+                expirations.increment();
+            }
+        }
+
+        misses.increment();
+        long version = versions.getOrDefault(scope, 0L);
+        Snapshot<T> computed = snapshot(loader.get());
+        // Store under the versions lock so an invalidation that raced with the load wins
+        versions.compute(scope, (key, current) -> {
+            if ((current == null ? 0L : current) == version) {
+                snapshots.put(scope, computed);
+            }
+            return current;
+        });
+        return computed;
+    }
+
+    public void invalidate(String scope) {
+        versions.merge(scope, 1L, Long::sum);
+        if (snapshots.remove(scope) != null) {
+            invalidations.increment();
+            logger.debug("Invalidated dashboard snapshot: {}", scope);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        invalidate(GLOBAL_SUMMARY);
+        invalidate(GLOBAL_ENHANCED);
+        if (event.getBefore() != null && event.getBefore().getAssigneeId() != null) {
+            invalidate(personalScope(event.getBefore().getAssigneeId()));
+        }
+        if (event.getAfter() != null && event.getAfter().getAssigneeId() != null) {
+            invalidate(personalScope(event.getAfter().getAssigneeId()));
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskBatchChanged(TaskBatchChangedEvent event) {
+        event.getChanges().forEach(this::onTaskChanged);
+    }
+
+    /**
+     * Time entries only feed the owner's personal view, so the global snapshots stay warm
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTimeEntryChanged(TimeEntryChangedEvent event) {
+        invalidate(personalScope(event.getUserId()));
+    }
+
+    private <T> Snapshot<T> snapshot(T value) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(value);
+            return new Snapshot<>(value, "\"" + DigestUtils.md5DigestAsHex(json) + "\"", System.nanoTime());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize dashboard snapshot", e);
+        }
+    }
+
+    /**
+     * Computed dashboard payload with its strong ETag (quoted content hash)
+     */
+    public static final class Snapshot<T> {
+
+        private final T value;
+        private final String etag;
+        private final long createdAt;
+
+        private Snapshot(T value, String etag, long createdAt) {
+            this.value = value;
+            this.etag = etag;
+            this.createdAt = createdAt;
+        }
+
+        public T getValue() {
+            return value;
+        }
+
+        public String getEtag() {
+            return etag;
+        }
+
+        public boolean matches(String ifNoneMatch) {
+            if (ifNoneMatch == null) {
+                return false;
+            }
+            for (String candidate : ifNoneMatch.split(",")) {
+                String tag = candidate.trim();
+                if (tag.startsWith("W/")) {
+                    tag = tag.substring(2);
+                }
+                if (tag.equals("*") || tag.equals(etag)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
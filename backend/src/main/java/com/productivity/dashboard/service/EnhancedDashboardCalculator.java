@@ -0,0 +1,161 @@
+package com.productivity.dashboard.service;
+
+import com.productivity.dashboard.dto.EnhancedDashboardSummary;
+import com.productivity.dashboard.dto.TaskStatRow;
+import com.productivity.dashboard.dto.UserTaskStats;
+import com.productivity.dashboard.model.User;
+import com.productivity.dashboard.repository.TaskRepository;
+import com.productivity.dashboard.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Computes the enhanced dashboard from one bulk fetch of task statistic rows.
+ * Rows are partitioned by assignee and each partition is reduced to a {@link TaskStatsAccumulator}
+ * on a bounded ForkJoinPool; the per-user accumulators are then merged into the team totals.
+ * Phase timings are published as the {@code dashboard.enhanced.phase} timer.
+ */
+@Component
+public class EnhancedDashboardCalculator {
+
+    private static final Logger logger = LoggerFactory.getLogger(EnhancedDashboardCalculator.class);
+
+    private final TaskRepository taskRepository;
+    private final UserRepository userRepository;
+    private final ForkJoinPool pool;
+    private final int parallelism;
+    private final Timer fetchTimer;
+    private final Timer computeTimer;
+    private final Timer mergeTimer;
+
+    public EnhancedDashboardCalculator(TaskRepository taskRepository, UserRepository userRepository,
+                                       MeterRegistry meterRegistry,
+                                       @Value("${dashboard.compute.parallelism:4}") int parallelism) {
+        this.taskRepository = taskRepository;
+        this.userRepository = userRepository;
+        this.parallelism = Math.max(1, parallelism);
+        this.pool = new ForkJoinPool(this.parallelism);
+        this.fetchTimer = phaseTimer(meterRegistry, "fetch");
+        this.computeTimer = phaseTimer(meterRegistry, "compute");
+        this.mergeTimer = phaseTimer(meterRegistry, "merge");
+    }
+
+    private static Timer phaseTimer(MeterRegistry meterRegistry, String phase) {
+        return Timer.builder("dashboard.enhanced.phase")
+            .description("Time spent per phase of the enhanced dashboard computation")
+            .tag("phase", phase)
+            .register(meterRegistry);
+    }
+
+    public EnhancedDashboardSummary compute() {
+        LocalDate today = LocalDate.now();
+
+        // Phase 1: bulk fetch users and task rows, partitioned by assignee
+        long start = System.nanoTime();
+        List<User> users = userRepository.findAll();
+        Map<Long, List<TaskStatRow>> partitions = new HashMap<>();
+        TaskStatsAccumulator unassigned = new TaskStatsAccumulator(today);
+        for (TaskStatRow row : taskRepository.findAllStatRows()) {
+            if (row.getUserId() == null) {
+                unassigned.accept(row.getStatus(), row.getPriority(), row.getDueDate(), row.getCompletedDate());
+            } else {
+                partitions.computeIfAbsent(row.getUserId(), id -> new ArrayList<>()).add(row);
+            }
+        }
+        long fetched = System.nanoTime();
+        fetchTimer.record(fetched - start, TimeUnit.NANOSECONDS);
+
+        // Phase 2: reduce each user's partition on the bounded pool
+        TaskStatsAccumulator[] perUser = computePerUser(users, partitions, today);
+        long computed = System.nanoTime();
+        computeTimer.record(computed - fetched, TimeUnit.NANOSECONDS);
+
+        // Phase 3: merge into team totals and per-user stats
+        TaskStatsAccumulator totals = new TaskStatsAccumulator(today).merge(unassigned);
+        Map<String, Double> productivityScores = new HashMap<>();
+        List<UserTaskStats> userStatsList = new ArrayList<>(users.size());
+        for (int i = 0; i < users.size(); i++) {
+            User user = users.get(i);
+            UserTaskStats stats = perUser[i].toUserTaskStats(user.getId(), user.getName());
+            userStatsList.add(stats);
+            productivityScores.put(user.getName(), stats.getCompletionRate());
+            totals.merge(perUser[i]);
+        }
+        // Tasks assigned to ids that are not in the user list still count towards the team totals
+        for (User user : users) {
+            partitions.remove(user.getId());
+        }
+        for (List<TaskStatRow> orphaned : partitions.values()) {
+            totals.merge(reduce(orphaned, today));
+        }
+        long merged = System.nanoTime();
+        mergeTimer.record(merged - computed, TimeUnit.NANOSECONDS);
+
+        logger.debug("Enhanced dashboard computed for {} users - fetch: {} ms, compute: {} ms, merge: {} ms",
+            users.size(), TimeUnit.NANOSECONDS.toMillis(fetched - start),
+            TimeUnit.NANOSECONDS.toMillis(computed - fetched), TimeUnit.NANOSECONDS.toMillis(merged - computed));
+
+        return new EnhancedDashboardSummary(totals.getTotal(), totals.getCompleted(), totals.getPending(),
+                                           totals.getInProgress(), totals.getOnTimePercent(), productivityScores,
+                                           userStatsList, totals.getOverdue(), totals.getOpenHighPriority());
+    }
+
+    private TaskStatsAccumulator[] computePerUser(List<User> users, Map<Long, List<TaskStatRow>> partitions,
+                                                  LocalDate today) {
+        TaskStatsAccumulator[] results = new TaskStatsAccumulator[users.size()];
+        int chunkSize = Math.max(1, (users.size() + parallelism * 4 - 1) / (parallelism * 4));
+
+        List<Callable<Void>> chunks = new ArrayList<>();
+        for (int from = 0; from < users.size(); from += chunkSize) {
+            int chunkStart = from;
+            int chunkEnd = Math.min(users.size(), from + chunkSize);
+            chunks.add(() -> {
+                for (int i = chunkStart; i < chunkEnd; i++) {
+                    results[i] = reduce(partitions.getOrDefault(users.get(i).getId(), List.of()), today);
+                }
+                return null;
+            });
+        }
+
+        try {
+            for (Future<Void> future : pool.invokeAll(chunks)) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Enhanced dashboard computation interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Enhanced dashboard computation failed", e.getCause());
+        }
+        return results;
+    }
+
+    private static TaskStatsAccumulator reduce(List<TaskStatRow> rows, LocalDate today) {
+        TaskStatsAccumulator accumulator = new TaskStatsAccumulator(today);
+        for (TaskStatRow row : rows) {
+            accumulator.accept(row.getStatus(), row.getPriority(), row.getDueDate(), row.getCompletedDate());
+        }
+        return accumulator;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdown();
+    }
+}
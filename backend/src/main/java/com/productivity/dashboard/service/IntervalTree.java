@@ -0,0 +1,188 @@
+package com.productivity.dashboard.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.LongPredicate;
+
+/**
+ * Augmented interval tree over half-open [start, end) ranges of longs, each tagged with an id.
+ * It is a treap ordered by (start, id) whose nodes also keep the largest end in their subtree,
+ * so inserts, removals and "does anything overlap" queries take expected O(log n).
+ * Not thread-safe; callers synchronize.
+ */
+final class IntervalTree {
+
+    private static final class Node {
+
+        final long id;
+        final long start;
+        final long end;
+        final int priority = ThreadLocalRandom.current().nextInt();
+        long maxEnd;
+        Node left;
+        Node right;
+
+        Node(long id, long start, long end) {
+            this.id = id;
+            this.start = start;
+            this.end = end;
+            this.maxEnd = end;
+        }
+    }
+
+    private Node root;
+    private int size;
+
+    int size() {
+        return size;
+    }
+
+    void insert(long id, long start, long end) {
+        root = insert(root, new Node(id, start, end));
+        size++;
+    }
+
+    /**
+     * Remove the interval with this id; {@code start} must be the start it was inserted with
+     */
+    boolean remove(long id, long start) {
+        int before = size;
+        root = remove(root, id, start);
+        return size < before;
+    }
+
+    /**
+     * Id of some interval overlapping [start, end), or null when there is none
+     */
+    Long findAny(long start, long end) {
+        Node node = root;
+        while (node != null) {
+            if (node.start < end && node.end > start) {
+                return node.id;
+            }
+            // If the left subtree reaches past start, any overlap is guaranteed to be on that side
+            node = node.left != null && node.left.maxEnd > start ? node.left : node.right;
+        }
+        return null;
+    }
+
+    /**
+     * Ids of up to {@code limit} intervals overlapping [start, end), in start order
+     */
+    List<Long> findAll(long start, long end, int limit) {
+        return findAll(start, end, limit, id -> true);
+    }
+
+    /**
+     * Ids of up to {@code limit} intervals overlapping [start, end) whose id passes {@code filter}, in start
+     * order; rejected ids do not count towards the limit
+     */
+    List<Long> findAll(long start, long end, int limit, LongPredicate filter) {
+        List<Long> ids = new ArrayList<>();
+        collect(root, start, end, limit, filter, ids);
+        return ids;
+    }
+
+    private static void collect(Node node, long start, long end, int limit, LongPredicate filter, List<Long> ids) {
+        if (node == null || node.maxEnd <= start || ids.size() >= limit) {
+            return;
+        }
+        collect(node.left, start, end, limit, filter, ids);
+        // Everything to the right starts at or after this node
+        if (node.start < end && ids.size() < limit) {
+            if (node.end > start && filter.test(node.id)) {
+                ids.add(node.id);
+            }
+            collect(node.right, start, end, limit, filter, ids);
+        }
+    }
+
+    private static Node insert(Node node, Node added) {
+        if (node == null) {
+            return added;
+        }
+        if (added.priority > node.priority) {
+            Node[] parts = split(node, added.start, added.id);
+            added.left = parts[0];
+            added.right = parts[1];
+            return update(added);
+        }
+        if (before(added.start, added.id, node)) {
+            node.left = insert(node.left, added);
+        } else {
+            node.right = insert(node.right, added);
+        }
+        return update(node);
+    }
+
+    private Node remove(Node node, long id, long start) {
+        if (node == null) {
+            return null;
+        }
+        if (node.id == id && node.start == start) {
+            size--;
+            return merge(node.left, node.right);
+        }
+        if (before(start, id, node)) {
+            node.left = remove(node.left, id, start);
+        } else {
+            node.right = remove(node.right, id, start);
+        }
+        return update(node);
+    }
+
+    /**
+     * Split into the nodes ordered before (start, id) and the rest
+     */
+    private static Node[] split(Node node, long start, long id) {
+        if (node == null) {
+            return new Node[2];
+        }
+        if (before(node.start, node.id, start, id)) {
+            Node[] parts = split(node.right, start, id);
+            node.right = parts[0];
+            parts[0] = update(node);
+            return parts;
+        }
+        Node[] parts = split(node.left, start, id);
+        node.left = parts[1];
+        parts[1] = update(node);
+        return parts;
+    }
+
+    private static Node merge(Node left, Node right) {
+        if (left == null) {
+            return right;
+        }
+        if (right == null) {
+            return left;
+        }
+        if (left.priority > right.priority) {
+            left.right = merge(left.right, right);
+            return update(left);
+        }
+        right.left = merge(left, right.left);
+        return update(right);
+    }
+
+    private static Node update(Node node) {
+        long maxEnd = node.end;
+        if (node.left != null && node.left.maxEnd > maxEnd) {
+            maxEnd = node.left.maxEnd;
+        }
+        if (node.right != null && node.right.maxEnd > maxEnd) {
+            maxEnd = node.right.maxEnd;
+        }
+        node.maxEnd = maxEnd;
+        return node;
+    }
+
+    private static boolean before(long start, long id, Node node) {
+        return before(start, id, node.start, node.id);
+    }
+
+    private static boolean before(long start, long id, long otherStart, long otherId) {
+        return start < otherStart || (start == otherStart && id < otherId);
+    }
+}
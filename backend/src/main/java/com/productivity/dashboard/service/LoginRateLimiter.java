@@ -0,0 +1,111 @@
+package com.productivity.dashboard.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.productivity.dashboard.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token-bucket rate limits for login attempts, keyed by email and by client IP.
+ * Buckets refill continuously to their per-minute capacity and are dropped once idle,
+ * so memory stays bounded by the number of recently active keys.
+ */
+@Component
+public class LoginRateLimiter {
+
+    private static final Logger logger = LoggerFactory.getLogger(LoginRateLimiter.class);
+
+    private final Cache<String, TokenBucket> emailBuckets;
+    private final Cache<String, TokenBucket> ipBuckets;
+    private final int perEmailPerMinute;
+    private final int perIpPerMinute;
+    private final Counter limitedByEmail;
+    private final Counter limitedByIp;
+
+    public LoginRateLimiter(MeterRegistry meterRegistry,
+                            @Value("${login.rate-limit.per-email-per-minute:10}") int perEmailPerMinute,
+                            @Value("${login.rate-limit.per-ip-per-minute:60}") int perIpPerMinute) {
+        this.perEmailPerMinute = Math.max(1, perEmailPerMinute);
+        this.perIpPerMinute = Math.max(1, perIpPerMinute);
+        this.emailBuckets = buckets();
+        this.ipBuckets = buckets();
+        this.limitedByEmail = Counter.builder("auth.login.rate_limited").tag("key", "email").register(meterRegistry);
+        this.limitedByIp = Counter.builder("auth.login.rate_limited").tag("key", "ip").register(meterRegistry);
+    }
+
+    private static Cache<String, TokenBucket> buckets() {
+        return Caffeine.newBuilder()
+            .maximumSize(100_000)
+            .expireAfterAccess(Duration.ofMinutes(5))
+            .build();
+    }
+
+    /**
+     * Consume one attempt for the email and the client IP, or throw when either is exhausted
+     */
+    public void acquire(String email, String clientIp) {
+        if (clientIp != null) {
+            TokenBucket bucket = ipBuckets.get(clientIp, key -> new TokenBucket(perIpPerMinute));
+            if (!bucket.tryConsume()) {
+                limitedByIp.increment();
+                logger.warn("Login rate limit exceeded for IP: {}", clientIp);
+                throw new TooManyRequestsException("Too many login attempts, please try again later",
+                                                   bucket.secondsUntilNextToken());
+            }
+        }
+        if (email != null) {
+            TokenBucket bucket = emailBuckets.get(email.toLowerCase(Locale.ROOT), key -> new TokenBucket(perEmailPerMinute));
+            if (!bucket.tryConsume()) {
+                limitedByEmail.increment();
+                logger.warn("Login rate limit exceeded for email: {}", email);
+                throw new TooManyRequestsException("Too many login attempts, please try again later",
+                                                   bucket.secondsUntilNextToken());
+            }
+        }
+    }
+
+    private static final class TokenBucket {
+
+        private final double capacity;
+        private final double refillPerNano;
+        private double tokens;
+        private long lastRefill;
+
+        private TokenBucket(int perMinute) {
+            this.capacity = perMinute;
+            this.refillPerNano = perMinute / (double) TimeUnit.MINUTES.toNanos(1);
+            this.tokens = perMinute;
+            this.lastRefill = System.nanoTime();
+        }
+
+        synchronized boolean tryConsume() {
+            refill();
+            if (tokens >= 1) {
+                tokens -= 1;
+                return true;
+            }
+            return false;
+        }
+
+        synchronized long secondsUntilNextToken() {
+            refill();
+            double missingNanos = (1 - tokens) / refillPerNano;
+            return Math.max(1, (long) Math.ceil(missingNanos / TimeUnit.SECONDS.toNanos(1)));
+        }
+
+        private void refill() {
+            long now = System.nanoTime();
+            tokens = Math.min(capacity, tokens + (now - lastRefill) * refillPerNano);
+            lastRefill = now;
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.productivity.dashboard.service;
+
+import com.productivity.dashboard.dto.TimeEntryDTO;
+import com.productivity.dashboard.event.TimeEntryChangedEvent;
+import com.productivity.dashboard.event.TimeEntrySnapshot;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Collection;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * In-memory presence cache of running timers keyed by user id, so polling for the header clock
+ * does not reach the database. An empty value means the user is known to have no running timer;
+ * a missing key means unknown and is resolved with the loader. The unique running_user_id key on
+ * time_entries stays the source of truth: this cache only mirrors committed state.
+ * Counter: {@code time.running.cache.requests} (result=hit|miss).
+ */
+@Component
+public class RunningTimerRegistry {
+
+    private static final Logger logger = LoggerFactory.getLogger(RunningTimerRegistry.class);
+
+    private final ConcurrentHashMap<Long, Optional<TimeEntryDTO>> runningByUser = new ConcurrentHashMap<>();
+    // Bumped on every change; a value loaded under an older version is never stored
+    private final ConcurrentHashMap<Long, Long> versions = new ConcurrentHashMap<>();
+
+    private final boolean enabled;
+    private final Counter hits;
+    private final Counter misses;
+
+    public RunningTimerRegistry(MeterRegistry meterRegistry,
+                                @Value("${time.running-cache.enabled:true}") boolean enabled) {
+        this.enabled = enabled;
+        this.hits = Counter.builder("time.running.cache.requests").tag("result", "hit").register(meterRegistry);
+        this.misses = Counter.builder("time.running.cache.requests").tag("result", "miss").register(meterRegistry);
+        meterRegistry.gaugeMapSize("time.running.cache.size", Tags.empty(), runningByUser);
+    }
+
+    /**
+     * The user's running timer, loading and remembering it (or its absence) on a miss
+     */
+    public Optional<TimeEntryDTO> get(Long userId, Supplier<Optional<TimeEntryDTO>> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+
+        Optional<TimeEntryDTO> cached = runningByUser.get(userId);
+        if (cached != null) {
+            hits.increment();
+            return cached;
+        }
+
+        misses.increment();
+        long version = versions.getOrDefault(userId, 0L);
+        Optional<TimeEntryDTO> loaded = loader.get();
+        store(userId, version, loaded);
+        return loaded;
+    }
+
+    /**
+     * Seed the cache with the timers running at startup
+     */
+    public void preload(Collection<TimeEntryDTO> running) {
+        if (!enabled) {
+            return;
+        }
+        for (TimeEntryDTO entry : running) {
+            store(entry.getUserId(), versions.getOrDefault(entry.getUserId(), 0L), Optional.of(entry));
+        }
+        logger.info("Running timer cache seeded with {} timers", running.size());
+    }
+
+    /**
+     * A timer that started is reloaded on the next read (the event does not carry the display fields);
+     * a timer that stopped or was deleted is recorded as absent without touching the database.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTimeEntryChanged(TimeEntryChangedEvent event) {
+        TimeEntrySnapshot before = event.getBefore();
+        TimeEntrySnapshot after = event.getAfter();
+        boolean wasRunning = before != null && before.isRunning();
+        boolean isRunning = after != null && after.isRunning();
+        if (!wasRunning && !isRunning) {
+            return;
+        }
+
+        Long userId = event.getUserId();
+        versions.merge(userId, 1L, Long::sum);
+        if (isRunning) {
+            runningByUser.remove(userId);
+            return;
+        }
+        runningByUser.compute(userId, (key, current) -> {
+            // Only the cached timer itself stopping proves the user has none left
+            if (current != null && current.isPresent() && !current.get().getId().equals(before.getEntryId())) {
+                return null;
+            }
+            return Optional.empty();
+        });
+        logger.debug("Running timer {} cleared for user {}", before.getEntryId(), userId);
+    }
+
+    private void store(Long userId, long version, Optional<TimeEntryDTO> value) {
+        // Store under the versions lock so a change that raced with the load wins
+        versions.compute(userId, (key, current) -> {
+            if ((current == null ? 0L : current) == version) {
+                runningByUser.putIfAbsent(userId, value);
+            }
+            return current;
+        });
+    }
+}
@@ -0,0 +1,450 @@
+package com.productivity.dashboard.service;
+
+import com.productivity.dashboard.dto.TaskSearchRow;
+import com.productivity.dashboard.event.TaskBatchChangedEvent;
+import com.productivity.dashboard.event.TaskChangedEvent;
+import com.productivity.dashboard.event.TaskSnapshot;
+import com.productivity.dashboard.repository.TaskRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+/**
+ * In-process inverted index over task titles and descriptions.
+ * Postings map each term to the tasks containing it with a field-weighted term frequency (title
+ * occurrences count {@value #TITLE_BOOST}x). The term dictionary is sorted, so prefix queries are a range
+ * scan, and a trigram index over the dictionary narrows fuzzy candidates before the edit distance check.
+ * Every query term must match (exactly, by prefix, or fuzzily); hits are ranked by tf-idf.
+ * The index is built in the background once the application is ready and then kept current from
+ * committed {@link TaskChangedEvent}s; until the build completes {@link #isReady()} is false and callers
+ * fall back to the database.
+ */
+@Component
+public class TaskSearchIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskSearchIndex.class);
+
+    private static final Pattern TOKEN_SEPARATOR = Pattern.compile("[^\\p{L}\\p{Nd}]+");
+    private static final int TITLE_BOOST = 3;
+    private static final int MAX_TERM_LENGTH = 64;
+    private static final int MIN_PREFIX_LENGTH = 2;
+    private static final int MIN_FUZZY_LENGTH = 3;
+    private static final int MAX_EXPANSIONS = 64;
+    private static final double PREFIX_WEIGHT = 0.7;
+    private static final double FUZZY_WEIGHT = 0.5;
+
+    private final TaskRepository taskRepository;
+    private final boolean enabled;
+    private final int buildBatchSize;
+    private final Timer searchTimer;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    // Distinct terms per task, needed to remove a task's postings
+    private final Map<Long, String[]> termsByTask = new HashMap<>();
+    private final TreeMap<String, Map<Long, Integer>> postings = new TreeMap<>();
+    private final Map<String, Set<String>> termsByTrigram = new HashMap<>();
+    // Tasks deleted while the initial build is running, so the build does not resurrect them
+    private final Set<Long> deletedDuringBuild = new HashSet<>();
+
+    private volatile boolean ready;
+
+    public TaskSearchIndex(TaskRepository taskRepository, MeterRegistry meterRegistry,
+                           @Value("${task.search.index.enabled:true}") boolean enabled,
+                           @Value("${task.search.index.build-batch-size:5000}") int buildBatchSize) {
+        this.taskRepository = taskRepository;
+        this.enabled = enabled;
+        this.buildBatchSize = Math.max(1, buildBatchSize);
+        this.searchTimer = Timer.builder("task.search.latency")
+            .description("Time spent answering task searches from the in-memory index")
+            .register(meterRegistry);
+        Gauge.builder("task.search.index.documents", this, index -> index.size(index.termsByTask))
+            .register(meterRegistry);
+        Gauge.builder("task.search.index.terms", this, index -> index.size(index.postings))
+            .register(meterRegistry);
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Build the index off the startup thread; searches use the database until it is ready
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (!enabled) {
+            logger.info("Task search index disabled, searches use the database");
+            return;
+        }
+        Thread builder = new Thread(this::build, "task-search-index");
+        builder.setDaemon(true);
+        builder.start();
+    }
+
+    private void build() {
+        long start = System.nanoTime();
+        long indexed = 0;
+        try {
+            Long afterId = 0L;
+            List<TaskSearchRow> rows;
+            do {
+                rows = taskRepository.findSearchRowsAfter(afterId, PageRequest.of(0, buildBatchSize));
+                lock.writeLock().lock();
+                try {
+                    for (TaskSearchRow row : rows) {
+                        // A task already present was written after this row was read; keep the newer version
+                        if (!termsByTask.containsKey(row.getId()) && !deletedDuringBuild.contains(row.getId())) {
+                            add(row.getId(), row.getTitle(), row.getDescription());
+                            indexed++;
+                        }
+                    }
+                } finally {
+                    lock.writeLock().unlock();
+                }
+                if (!rows.isEmpty()) {
+                    afterId = rows.get(rows.size() - 1).getId();
+                }
+            } while (rows.size() == buildBatchSize);
+
+            lock.writeLock().lock();
+            try {
+                deletedDuringBuild.clear();
+                ready = true;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            logger.info("Task search index built - {} tasks, {} terms in {} ms", indexed, size(postings),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        } catch (Exception e) {
+            logger.error("Task search index build failed, searches keep using the database - Error: {}",
+                e.getMessage(), e);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        TaskSnapshot before = event.getBefore();
+        TaskSnapshot after = event.getAfter();
+        if (before != null && after != null && Objects.equals(before.getTitle(), after.getTitle())
+                && Objects.equals(before.getDescription(), after.getDescription())) {
+            // Status, priority, assignee and completion changes leave the indexed text as it was
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            remove(event.getTaskId());
+            if (after != null) {
+                add(after.getTaskId(), after.getTitle(), after.getDescription());
+            } else if (!ready) {
+                deletedDuringBuild.add(event.getTaskId());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskBatchChanged(TaskBatchChangedEvent event) {
+        event.getChanges().forEach(this::onTaskChanged);
+    }
+
+    /**
+     * Ranked search: every query term must match. The last term of the query also matches as a
+     * prefix of longer terms; with {@code fuzzy} each term also matches terms within one edit
+     * (two for terms longer than five characters).
+     */
+    public Hits search(String query, boolean fuzzy, int offset, int limit) {
+        long start = System.nanoTime();
+        List<String> tokens = new ArrayList<>(new LinkedHashSet<>(tokenize(query)));
+        if (tokens.isEmpty() || limit <= 0) {
+            return new Hits(0, List.of());
+        }
+
+        lock.readLock().lock();
+        try {
+            int documentCount = termsByTask.size();
+            List<Map<String, Double>> expansions = new ArrayList<>(tokens.size());
+            for (int i = 0; i < tokens.size(); i++) {
+                Map<String, Double> expanded = expand(tokens.get(i), i == tokens.size() - 1, fuzzy);
+                if (expanded.isEmpty()) {
+                    return new Hits(0, List.of());
+                }
+                expansions.add(expanded);
+            }
+            // Start from the most selective term so the candidate set stays small
+            expansions.sort(Comparator.comparingLong(this::postingCount));
+
+            Map<Long, Double> scores = new HashMap<>();
+            for (Map.Entry<String, Double> term : expansions.get(0).entrySet()) {
+                Map<Long, Integer> docs = postings.get(term.getKey());
+                double idf = idf(documentCount, docs.size());
+                for (Map.Entry<Long, Integer> posting : docs.entrySet()) {
+                    scores.merge(posting.getKey(), termScore(term.getValue(), idf, posting.getValue()), Math::max);
+                }
+            }
+            for (int i = 1; i < expansions.size() && !scores.isEmpty(); i++) {
+                Map<String, Double> expanded = expansions.get(i);
+                Map<Long, Double> narrowed = new HashMap<>();
+                for (Map.Entry<Long, Double> candidate : scores.entrySet()) {
+                    double best = 0;
+                    for (Map.Entry<String, Double> term : expanded.entrySet()) {
+                        Map<Long, Integer> docs = postings.get(term.getKey());
+                        Integer frequency = docs.get(candidate.getKey());
+                        if (frequency != null) {
+                            best = Math.max(best,
+                                termScore(term.getValue(), idf(documentCount, docs.size()), frequency));
+                        }
+                    }
+                    if (best > 0) {
+                        narrowed.put(candidate.getKey(), candidate.getValue() + best);
+                    }
+                }
+                scores = narrowed;
+            }
+            return new Hits(scores.size(), topHits(scores, offset, limit));
+        } finally {
+            lock.readLock().unlock();
+            searchTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private Map<String, Double> expand(String token, boolean prefix, boolean fuzzy) {
+        Map<String, Double> terms = new HashMap<>();
+        if (postings.containsKey(token)) {
+            terms.put(token, 1.0);
+        }
+        if (prefix && token.length() >= MIN_PREFIX_LENGTH) {
+            int expanded = 0;
+            for (String term : postings.subMap(token, false, token + Character.MAX_VALUE, true).keySet()) {
+                if (++expanded > MAX_EXPANSIONS) {
+                    break;
+                }
+                terms.merge(term, PREFIX_WEIGHT, Math::max);
+            }
+        }
+        if (fuzzy && token.length() >= MIN_FUZZY_LENGTH) {
+            int maxEdits = token.length() <= 5 ? 1 : 2;
+            Set<String> candidates = new HashSet<>();
+            for (String trigram : trigrams(token)) {
+                candidates.addAll(termsByTrigram.getOrDefault(trigram, Set.of()));
+            }
+            int expanded = 0;
+            for (String term : candidates) {
+                if (Math.abs(term.length() - token.length()) > maxEdits || terms.containsKey(term)) {
+                    continue;
+                }
+                int distance = editDistance(token, term, maxEdits);
+                if (distance <= maxEdits) {
+                    terms.merge(term, FUZZY_WEIGHT / distance, Math::max);
+                    if (++expanded >= MAX_EXPANSIONS) {
+                        break;
+                    }
+                }
+            }
+        }
+        return terms;
+    }
+
+    private long postingCount(Map<String, Double> terms) {
+        long count = 0;
+        for (String term : terms.keySet()) {
+            count += postings.get(term).size();
+        }
+        return count;
+    }
+
+    private static double idf(int documentCount, int documentFrequency) {
+        return Math.log(1.0 + (double) documentCount / documentFrequency);
+    }
+
+    private static double termScore(double weight, double idf, int frequency) {
+        return weight * idf * (1.0 + Math.log(frequency));
+    }
+
+    /**
+     * Select one page of hits ordered by score, newest task first on ties, without sorting every hit
+     */
+    private static List<Long> topHits(Map<Long, Double> scores, int offset, int limit) {
+        Comparator<Map.Entry<Long, Double>> ranking = Map.Entry.<Long, Double>comparingByValue()
+            .thenComparing(Map.Entry.comparingByKey());
+        if (offset >= scores.size()) {
+            return List.of();
+        }
+        int keep = (int) Math.min((long) offset + limit, scores.size());
+        PriorityQueue<Map.Entry<Long, Double>> heap = new PriorityQueue<>(keep + 1, ranking);
+        for (Map.Entry<Long, Double> entry : scores.entrySet()) {
+            heap.offer(entry);
+            if (heap.size() > keep) {
+                heap.poll();
+            }
+        }
+        List<Long> ranked = new ArrayList<>(heap.size());
+        while (!heap.isEmpty()) {
+            ranked.add(heap.poll().getKey());
+        }
+        List<Long> page = new ArrayList<>(limit);
+        for (int i = ranked.size() - 1 - offset; i >= 0 && page.size() < limit; i--) {
+            page.add(ranked.get(i));
+        }
+        return page;
+    }
+
+    private void add(Long taskId, String title, String description) {
+        Map<String, Integer> frequencies = new HashMap<>();
+        for (String term : tokenize(title)) {
+            frequencies.merge(term, TITLE_BOOST, Integer::sum);
+        }
+        for (String term : tokenize(description)) {
+            frequencies.merge(term, 1, Integer::sum);
+        }
+        if (frequencies.isEmpty()) {
+            return;
+        }
+        for (Map.Entry<String, Integer> entry : frequencies.entrySet()) {
+            String term = entry.getKey();
+            Map<Long, Integer> docs = postings.get(term);
+            if (docs == null) {
+                docs = new HashMap<>();
+                postings.put(term, docs);
+                for (String trigram : trigrams(term)) {
+                    termsByTrigram.computeIfAbsent(trigram, key -> new HashSet<>()).add(term);
+                }
+            }
+            docs.put(taskId, entry.getValue());
+        }
+        termsByTask.put(taskId, frequencies.keySet().toArray(new String[0]));
+    }
+
+    private void remove(Long taskId) {
+        String[] terms = termsByTask.remove(taskId);
+        if (terms == null) {
+            return;
+        }
+        for (String term : terms) {
+            Map<Long, Integer> docs = postings.get(term);
+            if (docs == null) {
+                continue;
+            }
+            docs.remove(taskId);
+            if (docs.isEmpty()) {
+                postings.remove(term);
+                for (String trigram : trigrams(term)) {
+                    Set<String> shared = termsByTrigram.get(trigram);
+                    if (shared != null) {
+                        shared.remove(term);
+                        if (shared.isEmpty()) {
+                            termsByTrigram.remove(trigram);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isBlank()) {
+            return tokens;
+        }
+        for (String token : TOKEN_SEPARATOR.split(text.toLowerCase(Locale.ROOT))) {
+            if (!token.isEmpty() && token.length() <= MAX_TERM_LENGTH) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    private static List<String> trigrams(String term) {
+        String padded = "$" + term + "$";
+        List<String> trigrams = new ArrayList<>(padded.length() - 2);
+        for (int i = 0; i + 3 <= padded.length(); i++) {
+            trigrams.add(padded.substring(i, i + 3));
+        }
+        return trigrams;
+    }
+
+    /**
+     * Levenshtein distance, abandoned as soon as it must exceed {@code max}
+     */
+    private static int editDistance(String a, String b, int max) {
+        int[] previous = new int[b.length() + 1];
+        int[] current = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            current[0] = i;
+            int rowMin = current[0];
+            for (int j = 1; j <= b.length(); j++) {
+                int cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+                current[j] = Math.min(Math.min(current[j - 1] + 1, previous[j] + 1), previous[j - 1] + cost);
+                rowMin = Math.min(rowMin, current[j]);
+            }
+            if (rowMin > max) {
+                return max + 1;
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[b.length()];
+    }
+
+    private int size(Map<?, ?> map) {
+        lock.readLock().lock();
+        try {
+            return map.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * One page of ranked task ids plus the total number of matching tasks
+     */
+    public static final class Hits {
+
+        private final long total;
+        private final List<Long> taskIds;
+
+        public Hits(long total, List<Long> taskIds) {
+            this.total = total;
+            this.taskIds = taskIds;
+        }
+
+        public long getTotal() {
+            return total;
+        }
+
+        public List<Long> getTaskIds() {
+            return taskIds;
+        }
+    }
+}
@@ -1,9 +1,16 @@
 package com.productivity.dashboard.service;
 
+import com.productivity.dashboard.dto.BulkTaskOperation;
+import com.productivity.dashboard.dto.BulkTaskResult;
+import com.productivity.dashboard.dto.CursorSlice;
 import com.productivity.dashboard.dto.DashboardSummary;
+import com.productivity.dashboard.dto.SearchPage;
 import com.productivity.dashboard.dto.TaskCreateRequest;
+import com.productivity.dashboard.dto.TaskDTO;
+import com.productivity.dashboard.dto.TaskFilter;
+import com.productivity.dashboard.dto.TaskSortKey;
+import com.productivity.dashboard.dto.TaskSummary;
 import com.productivity.dashboard.dto.TaskUpdateRequest;
-import com.productivity.dashboard.model.Task;
 import com.productivity.dashboard.model.TaskStatus;
 import com.productivity.dashboard.model.User;
 
@@ -11,19 +18,28 @@ import java.util.List;
 
 public interface TaskService {
     
-    Task createTask(TaskCreateRequest request);
+    TaskDTO createTask(TaskCreateRequest request);
     
-    List<Task> getAllTasks(Long assignedToId, TaskStatus status);
+    List<TaskDTO> getAllTasks(Long assignedToId, TaskStatus status);
     
-    Task getTaskById(Long id);
+    CursorSlice<TaskSummary> queryTasks(TaskFilter filter, TaskSortKey sortKey, boolean descending,
+                                        String cursor, int size);
     
-    Task updateTask(Long id, TaskUpdateRequest request);
+    TaskDTO getTaskById(Long id);
     
-    Task completeTask(Long id);
+    /**
+     * @param expectedVersion version from the client's If-Match, or null to skip the check
+     * @param actor user making the change; employees may only change their own tasks
+     */
+    TaskDTO updateTask(Long id, TaskUpdateRequest request, Long expectedVersion, User actor);
+    
+    TaskDTO completeTask(Long id, Long expectedVersion, User actor);
     
     void deleteTask(Long id);
     
-    List<Task> searchTasks(String keyword);
+    List<BulkTaskResult> applyBulk(List<BulkTaskOperation> operations);
+    
+    SearchPage<TaskDTO> searchTasks(String keyword, int page, int size, boolean fuzzy);
     
     DashboardSummary getDashboardSummary();
     
@@ -31,5 +47,7 @@ public interface TaskService {
     
     com.productivity.dashboard.dto.EnhancedDashboardSummary getPersonalDashboard();
     
+    com.productivity.dashboard.dto.EnhancedDashboardSummary getPersonalDashboard(User user);
+    
     com.productivity.dashboard.dto.UserTaskStats getUserTaskStats(Long userId);
 }
\ No newline at end of file
@@ -1,55 +1,127 @@
 package com.productivity.dashboard.service;
 
+import com.productivity.dashboard.dto.BulkTaskOperation;
+import com.productivity.dashboard.dto.BulkTaskResult;
+import com.productivity.dashboard.dto.CursorSlice;
 import com.productivity.dashboard.dto.DashboardSummary;
 import com.productivity.dashboard.dto.EnhancedDashboardSummary;
+import com.productivity.dashboard.dto.SearchPage;
+import com.productivity.dashboard.dto.TaskAggregate;
 import com.productivity.dashboard.dto.TaskCreateRequest;
+import com.productivity.dashboard.dto.TaskCursor;
+import com.productivity.dashboard.dto.TaskDTO;
+import com.productivity.dashboard.dto.TaskFilter;
+import com.productivity.dashboard.dto.TaskSortKey;
+import com.productivity.dashboard.dto.TaskSummary;
 import com.productivity.dashboard.dto.TaskUpdateRequest;
 import com.productivity.dashboard.dto.UserTaskStats;
-import com.productivity.dashboard.model.Priority;
+import com.productivity.dashboard.event.TaskBatchChangedEvent;
+import com.productivity.dashboard.event.TaskChangedEvent;
+import com.productivity.dashboard.event.TaskSnapshot;
+import com.productivity.dashboard.exception.BadRequestException;
+import com.productivity.dashboard.exception.ForbiddenException;
 import com.productivity.dashboard.exception.NotFoundException;
+import com.productivity.dashboard.exception.PreconditionFailedException;
+import com.productivity.dashboard.model.Role;
 import com.productivity.dashboard.model.Task;
+import com.productivity.dashboard.model.TaskStatsRollup;
 import com.productivity.dashboard.model.TaskStatus;
 import com.productivity.dashboard.model.User;
 import com.productivity.dashboard.repository.TaskRepository;
 import com.productivity.dashboard.repository.UserRepository;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
+@Transactional
 public class TaskServiceImpl implements TaskService {
     
     private static final Logger logger = LoggerFactory.getLogger(TaskServiceImpl.class);
     
+    private static final int MAX_SEARCH_SIZE = 100;
+    
+    // Deepest hit a search page may reach; ranking keeps offset + size hits in memory
+    private static final int MAX_SEARCH_DEPTH = 10_000;
+    
+    private static final int MAX_QUERY_SIZE = 100;
+    
     @Autowired
     private TaskRepository taskRepository;
     
     @Autowired
     private UserRepository userRepository;
     
+    @Autowired
+    private UserCache userCache;
+    
     @Autowired
     private ActivityService activityService;
     
+    @Autowired
+    private TaskStatsRollupService taskStatsRollupService;
+    
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+    
+    @Autowired
+    private EnhancedDashboardCalculator enhancedDashboardCalculator;
+    
+    @Autowired
+    private TaskSearchIndex taskSearchIndex;
+    
+    @Autowired
+    private Validator validator;
+    
+    @Value("${stats.rollup.enabled:true}")
+    private boolean rollupEnabled;
+    
+    @Value("${dashboard.compute.mode:parallel}")
+    private String dashboardComputeMode;
+    
+    @Value("${task.bulk.max-operations:500}")
+    private int maxBulkOperations;
+    
     @Override
-    public Task createTask(TaskCreateRequest request) {
+    public TaskDTO createTask(TaskCreateRequest request) {
         logger.info("Creating new task: {} assigned to user ID: {}", request.getTitle(), request.getAssignedToId());
         
-        User assignedUser = userRepository.findById(request.getAssignedToId())
+        User assignedUser = userCache.findById(request.getAssignedToId())
             .orElseThrow(() -> {
                 logger.error("Task creation failed: User not found with id: {}", request.getAssignedToId());
                 return new NotFoundException("User not found with id: " + request.getAssignedToId());
             });
         
+        Task savedTask = insertTask(request, assignedUser, eventPublisher::publishEvent);
+        logger.info("Task created successfully with ID: {} - {}", savedTask.getId(), savedTask.getTitle());
+        return convertToDTO(savedTask);
+    }
+    
+    private Task insertTask(TaskCreateRequest request, User assignedUser, Consumer<TaskChangedEvent> publish) {
         Task task = new Task();
         task.setTitle(request.getTitle());
         task.setDescription(request.getDescription());
@@ -58,42 +130,139 @@ public class TaskServiceImpl implements TaskService {
         task.setAssignedTo(assignedUser);
         
         Task savedTask = taskRepository.save(task);
-        logger.info("Task created successfully with ID: {} - {}", savedTask.getId(), savedTask.getTitle());
+        publish.accept(new TaskChangedEvent(null, TaskSnapshot.of(savedTask)));
         
         // Log activity
         activityService.logActivity(assignedUser, "TASK_CREATED", "Task", savedTask.getId(), 
             "Created task: " + savedTask.getTitle());
-        
         return savedTask;
     }
     
     @Override
-    public List<Task> getAllTasks(Long assignedToId, TaskStatus status) {
+    @Transactional(readOnly = true)
+    public List<TaskDTO> getAllTasks(Long assignedToId, TaskStatus status) {
+        List<Task> tasks;
         if (assignedToId != null && status != null) {
-            User user = userRepository.findById(assignedToId)
+            User user = userCache.findById(assignedToId)
                 .orElseThrow(() -> new NotFoundException("User not found"));
-            return taskRepository.findByAssignedToAndStatus(user, status);
+            tasks = taskRepository.findWithAssigneeByAssigneeIdAndStatus(user.getId(), status);
         } else if (assignedToId != null) {
-            User user = userRepository.findById(assignedToId)
+            User user = userCache.findById(assignedToId)
                 .orElseThrow(() -> new NotFoundException("User not found"));
-            return taskRepository.findByAssignedTo(user);
+            tasks = taskRepository.findWithAssigneeByAssigneeId(user.getId());
         } else if (status != null) {
-            return taskRepository.findByStatus(status);
+            tasks = taskRepository.findWithAssigneeByStatus(status);
         } else {
-            return taskRepository.findAll();
+            tasks = taskRepository.findAllWithAssignee();
+        }
+        return tasks.stream().map(this::convertToDTO).collect(Collectors.toCollection(ArrayList::new));
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public CursorSlice<TaskSummary> queryTasks(TaskFilter filter, TaskSortKey sortKey, boolean descending,
+                                               String cursor, int size) {
+        int limit = Math.max(1, Math.min(size, MAX_QUERY_SIZE));
+        TaskCursor after = TaskCursor.decode(cursor, sortKey, descending);
+        // One extra row tells whether another page exists without a count query
+        List<TaskSummary> rows = taskRepository.findTaskSummaries(filter, sortKey, descending, after, limit + 1);
+        if (rows.size() <= limit) {
+            return new CursorSlice<>(rows, null);
         }
+        List<TaskSummary> page = new ArrayList<>(rows.subList(0, limit));
+        return new CursorSlice<>(page, TaskCursor.after(sortKey, descending, page.get(limit - 1)).encode());
     }
     
     @Override
-    public Task getTaskById(Long id) {
-        return taskRepository.findById(id)
+    @Transactional(readOnly = true)
+    public TaskDTO getTaskById(Long id) {
+        return convertToDTO(findTask(id));
+    }
+    
+    /**
+     * Load a task with its assignee in one statement
+     */
+    private Task findTask(Long id) {
+        return taskRepository.findWithAssigneeById(id)
             .orElseThrow(() -> new NotFoundException("Task not found with id: " + id));
     }
     
     @Override
-    public Task updateTask(Long id, TaskUpdateRequest request) {
+    public TaskDTO updateTask(Long id, TaskUpdateRequest request, Long expectedVersion, User actor) {
         logger.info("Updating task ID: {}", id);
-        Task task = getTaskById(id);
+        Task task = findTask(id);
+        checkCanModify(task, actor, "You can only update your own tasks");
+        checkVersion(task, expectedVersion);
+        
+        Task updatedTask;
+        if (isStatusOnly(request)) {
+            // Board moves change only the status: one conditional UPDATE instead of a dirty-checked entity write
+            updatedTask = transitionStatus(task, request.getStatus(), task.getCompletedDate(), "TASK_UPDATED",
+                "Updated task: " + task.getTitle() + " - Status changed to " + request.getStatus() + "; ");
+        } else {
+            updatedTask = applyUpdate(task, request, userCache::findById, eventPublisher::publishEvent);
+            // Flush now so the returned version (the client's next ETag) includes this write
+            taskRepository.flush();
+        }
+        logger.info("Task updated successfully: {}", id);
+        return convertToDTO(updatedTask);
+    }
+    
+    private static boolean isStatusOnly(TaskUpdateRequest request) {
+        return request.getStatus() != null && request.getTitle() == null && request.getDescription() == null
+            && request.getPriority() == null && request.getDueDate() == null && request.getAssignedToId() == null;
+    }
+    
+    /**
+     * Employees may only change tasks assigned to them; a null actor means an internal caller
+     */
+    private static void checkCanModify(Task task, User actor, String message) {
+        if (actor != null && actor.getRole() == Role.EMPLOYEE
+                && (task.getAssignedTo() == null || !actor.getId().equals(task.getAssignedTo().getId()))) {
+            throw new ForbiddenException(message);
+        }
+    }
+    
+    /**
+     * Compare the version from the client's If-Match with the current one; null skips the check
+     */
+    private static void checkVersion(Task task, Long expectedVersion) {
+        if (expectedVersion != null && !expectedVersion.equals(task.getVersion())) {
+            throw new PreconditionFailedException("Task " + task.getId() + " has changed (current version "
+                + task.getVersion() + "), reload it and retry");
+        }
+    }
+    
+    /**
+     * Change only status and completion date with a single UPDATE guarded by the version just read.
+     * The task was loaded anyway for the permission check and the change event, but no entity is written,
+     * so no lock is held and a concurrent writer makes this fail with 412 instead of being overwritten.
+     */
+    private Task transitionStatus(Task task, TaskStatus status, LocalDate completedDate, String action, String details) {
+        TaskSnapshot before = TaskSnapshot.of(task);
+        if (taskRepository.updateStatusIfVersion(task.getId(), task.getVersion(), status, completedDate) == 0) {
+            throw new PreconditionFailedException("Task " + task.getId() + " was modified concurrently, reload it and retry");
+        }
+        // The update cleared the persistence context, so the loaded copy is detached and safe to adjust
+        task.setStatus(status);
+        task.setCompletedDate(completedDate);
+        task.setVersion(task.getVersion() + 1);
+        eventPublisher.publishEvent(new TaskChangedEvent(before, TaskSnapshot.of(task)));
+        
+        // Log activity
+        activityService.logActivity(task.getAssignedTo(), action, "Task", task.getId(), details);
+        return task;
+    }
+    
+    private Task applyUpdate(Task task, TaskUpdateRequest request, Function<Long, Optional<User>> users,
+                             Consumer<TaskChangedEvent> publish) {
+        TaskSnapshot before = TaskSnapshot.of(task);
+        // Resolve the assignee before touching the managed task, so a failed item leaves no change to flush
+        User assignedUser = null;
+        if (request.getAssignedToId() != null) {
+            assignedUser = users.apply(request.getAssignedToId())
+                .orElseThrow(() -> new NotFoundException("User not found"));
+        }
         
         StringBuilder changes = new StringBuilder();
         
@@ -117,121 +286,285 @@ public class TaskServiceImpl implements TaskService {
             changes.append("Due date updated; ");
             task.setDueDate(request.getDueDate());
         }
-        if (request.getAssignedToId() != null) {
-            User assignedUser = userRepository.findById(request.getAssignedToId())
-                .orElseThrow(() -> new NotFoundException("User not found"));
+        if (assignedUser != null) {
             changes.append("Reassigned to ").append(assignedUser.getName()).append("; ");
             task.setAssignedTo(assignedUser);
         }
         
         Task updatedTask = taskRepository.save(task);
-        logger.info("Task updated successfully: {}", id);
+        publish.accept(new TaskChangedEvent(before, TaskSnapshot.of(updatedTask)));
         
         // Log activity
         activityService.logActivity(task.getAssignedTo(), "TASK_UPDATED", "Task", task.getId(), 
             "Updated task: " + task.getTitle() + " - " + changes.toString());
-        
         return updatedTask;
     }
     
     @Override
-    public Task completeTask(Long id) {
+    public TaskDTO completeTask(Long id, Long expectedVersion, User actor) {
         logger.info("Completing task ID: {}", id);
-        Task task = getTaskById(id);
+        Task task = findTask(id);
+        checkCanModify(task, actor, "You can only complete your own tasks");
+        checkVersion(task, expectedVersion);
+        Task completedTask = transitionStatus(task, TaskStatus.COMPLETED, LocalDate.now(), "TASK_COMPLETED",
+            "Completed task: " + task.getTitle());
+        logger.info("Task completed successfully: {} - {}", id, completedTask.getTitle());
+        return convertToDTO(completedTask);
+    }
+    
+    private Task markCompleted(Task task, Consumer<TaskChangedEvent> publish) {
+        TaskSnapshot before = TaskSnapshot.of(task);
         task.setStatus(TaskStatus.COMPLETED);
         task.setCompletedDate(LocalDate.now());
         Task completedTask = taskRepository.save(task);
-        logger.info("Task completed successfully: {} - {}", id, task.getTitle());
+        publish.accept(new TaskChangedEvent(before, TaskSnapshot.of(completedTask)));
         
         // Log activity
         activityService.logActivity(task.getAssignedTo(), "TASK_COMPLETED", "Task", task.getId(), 
             "Completed task: " + task.getTitle());
-        
         return completedTask;
     }
     
     @Override
     public void deleteTask(Long id) {
         logger.info("Deleting task with ID: {}", id);
-        Task task = getTaskById(id);
-        taskRepository.delete(task);
+        Task task = findTask(id);
+        removeTask(task, eventPublisher::publishEvent);
         logger.info("Task deleted successfully: {} - {}", id, task.getTitle());
     }
     
+    private void removeTask(Task task, Consumer<TaskChangedEvent> publish) {
+        TaskSnapshot before = TaskSnapshot.of(task);
+        taskRepository.delete(task);
+        publish.accept(new TaskChangedEvent(before, null));
+    }
+    
+    @Override
+    public List<BulkTaskResult> applyBulk(List<BulkTaskOperation> operations) {
+        if (operations.size() > maxBulkOperations) {
+            throw new BadRequestException("A bulk request can contain at most " + maxBulkOperations + " operations");
+        }
+        logger.info("Applying {} bulk task operations", operations.size());
+        
+        // Every referenced task and assignee is loaded up front in two queries
+        Set<Long> taskIds = new HashSet<>();
+        Set<Long> userIds = new HashSet<>();
+        for (BulkTaskOperation operation : operations) {
+            if (operation.getTaskId() != null) {
+                taskIds.add(operation.getTaskId());
+            }
+            if (operation.getAssignedToId() != null) {
+                userIds.add(operation.getAssignedToId());
+            }
+        }
+        Map<Long, Task> tasks = taskRepository.findWithAssigneeByIdIn(taskIds).stream()
+            .collect(Collectors.toMap(Task::getId, Function.identity(), (first, second) -> first, HashMap::new));
+        Map<Long, User> users = userRepository.findAllById(userIds).stream()
+            .collect(Collectors.toMap(User::getId, Function.identity()));
+        Function<Long, Optional<User>> userLookup = id -> Optional.ofNullable(users.get(id));
+        
+        // Events are published after the loop, as one batch: their listeners write to the database, and doing
+        // that between items would flush each task change on its own instead of in JDBC batches
+        List<TaskChangedEvent> events = new ArrayList<>();
+        List<BulkTaskResult> results = new ArrayList<>(operations.size());
+        List<Task> written = new ArrayList<>(operations.size());
+        for (int i = 0; i < operations.size(); i++) {
+            BulkTaskOperation operation = operations.get(i);
+            try {
+                Task task = applyOperation(operation, tasks, userLookup, events::add);
+                Long taskId = task != null ? task.getId() : operation.getTaskId();
+                results.add(BulkTaskResult.success(i, operation.getAction(), taskId, null));
+                written.add(task);
+            } catch (NotFoundException | BadRequestException e) {
+                results.add(BulkTaskResult.failure(i, operation.getAction(), operation.getTaskId(), e.getMessage()));
+                written.add(null);
+            }
+        }
+        // Flush the batched writes before mapping so every returned task carries its new version
+        taskRepository.flush();
+        if (!events.isEmpty()) {
+            eventPublisher.publishEvent(new TaskBatchChangedEvent(events));
+        }
+        for (int i = 0; i < written.size(); i++) {
+            if (written.get(i) != null) {
+                results.get(i).setTask(convertToDTO(written.get(i)));
+            }
+        }
+        
+        long succeeded = results.stream().filter(BulkTaskResult::isSuccess).count();
+        logger.info("Bulk task operations applied - succeeded: {}, failed: {}", succeeded, results.size() - succeeded);
+        return results;
+    }
+    
+    /**
+     * Apply one bulk item and return the written task, or null for a delete
+     */
+    private Task applyOperation(BulkTaskOperation operation, Map<Long, Task> tasks,
+                                Function<Long, Optional<User>> users, Consumer<TaskChangedEvent> publish) {
+        BulkTaskOperation.Action action = operation.getAction();
+        if (action == BulkTaskOperation.Action.CREATE) {
+            TaskCreateRequest request = operation.toCreateRequest();
+            Set<ConstraintViolation<TaskCreateRequest>> violations = validator.validate(request);
+            if (!violations.isEmpty()) {
+                throw new BadRequestException(violations.stream()
+                    .map(ConstraintViolation::getMessage).sorted().collect(Collectors.joining("; ")));
+            }
+            User assignedUser = users.apply(request.getAssignedToId())
+                .orElseThrow(() -> new NotFoundException("User not found with id: " + request.getAssignedToId()));
+            Task created = insertTask(request, assignedUser, publish);
+            tasks.put(created.getId(), created);
+            return created;
+        }
+        
+        if (operation.getTaskId() == null) {
+            throw new BadRequestException("Task ID is required for " + action);
+        }
+        Task task = tasks.get(operation.getTaskId());
+        if (task == null) {
+            throw new NotFoundException("Task not found with id: " + operation.getTaskId());
+        }
+        switch (action) {
+            case UPDATE:
+                return applyUpdate(task, operation.toUpdateRequest(), users, publish);
+            case COMPLETE:
+                return markCompleted(task, publish);
+            default:
+                removeTask(task, publish);
+                // Later operations in the same request must not see the deleted task
+                tasks.remove(task.getId());
+                return null;
+        }
+    }
+    
     @Override
-    public List<Task> searchTasks(String keyword) {
+    @Transactional(readOnly = true)
+    public SearchPage<TaskDTO> searchTasks(String keyword, int page, int size, boolean fuzzy) {
         logger.info("Searching tasks with keyword: {}", keyword);
+        int pageSize = Math.max(1, Math.min(size, MAX_SEARCH_SIZE));
+        int pageNumber = Math.max(0, page);
+        if ((long) pageNumber * pageSize + pageSize > MAX_SEARCH_DEPTH) {
+            throw new BadRequestException("Search results are available up to the first " + MAX_SEARCH_DEPTH + " hits");
+        }
         if (keyword == null || keyword.trim().isEmpty()) {
-            logger.debug("Empty keyword, returning all tasks");
-            return taskRepository.findAll();
+            logger.debug("Empty keyword, returning no tasks");
+            return new SearchPage<>(List.of(), pageNumber, pageSize, 0);
         }
-        List<Task> results = taskRepository.findByTitleContainingIgnoreCaseOrDescriptionContainingIgnoreCase(keyword, keyword);
-        logger.info("Found {} tasks matching keyword: {}", results.size(), keyword);
-        return results;
+        
+        if (!taskSearchIndex.isReady()) {
+            // Index still building (or disabled): substring match in the database, newest first
+            Page<Task> results = taskRepository.findByTitleContainingIgnoreCaseOrDescriptionContainingIgnoreCase(
+                keyword, keyword, PageRequest.of(pageNumber, pageSize, Sort.by(Sort.Direction.DESC, "id")));
+            logger.info("Found {} tasks matching keyword: {} (database)", results.getTotalElements(), keyword);
+            return new SearchPage<>(results.map(this::convertToDTO).getContent(), pageNumber, pageSize,
+                                    results.getTotalElements());
+        }
+        
+        TaskSearchIndex.Hits hits = taskSearchIndex.search(keyword, fuzzy, pageNumber * pageSize, pageSize);
+        // Load the page in one query and restore the ranking order
+        Map<Long, Task> tasksById = taskRepository.findWithAssigneeByIdIn(hits.getTaskIds()).stream()
+            .collect(Collectors.toMap(Task::getId, Function.identity()));
+        List<TaskDTO> results = hits.getTaskIds().stream()
+            .map(tasksById::get)
+            .filter(Objects::nonNull)
+            .map(this::convertToDTO)
+            .collect(Collectors.toCollection(ArrayList::new));
+        logger.info("Found {} tasks matching keyword: {}", hits.getTotal(), keyword);
+        return new SearchPage<>(results, pageNumber, pageSize, hits.getTotal());
     }
     
     @Override
+    @Transactional(readOnly = true)
     public DashboardSummary getDashboardSummary() {
         logger.info("Generating dashboard summary");
-        long totalTasks = taskRepository.countTotalTasks();
-        long completedTasks = taskRepository.countCompletedTasks();
-        long pendingTasks = taskRepository.countPendingTasks();
+        if (rollupEnabled) {
+            return getDashboardSummaryFromRollup();
+        }
+
+        // One grouped query instead of loading every user's tasks
+        long totalTasks = 0;
+        long completedTasks = 0;
+        long pendingTasks = 0;
+        Map<Long, long[]> userCounts = new HashMap<>(); // userId -> [total, completed]
+        for (TaskAggregate aggregate : taskRepository.aggregateByAssigneeStatusAndPriority()) {
+            long count = aggregate.getTaskCount();
+            boolean completed = aggregate.getStatus() == TaskStatus.COMPLETED;
+            totalTasks += count;
+            if (completed) {
+                completedTasks += count;
+            } else if (aggregate.getStatus() == TaskStatus.PENDING) {
+                pendingTasks += count;
+            }
+            if (aggregate.getUserId() != null) {
+                long[] counts = userCounts.computeIfAbsent(aggregate.getUserId(), id -> new long[2]);
+                counts[0] += count;
+                if (completed) {
+                    counts[1] += count;
+                }
+            }
+        }
         logger.debug("Dashboard stats - Total: {}, Completed: {}, Pending: {}", totalTasks, completedTasks, pendingTasks);
-        
+
         // Calculate on-time completion percentage (simplified)
         double onTimePercent = totalTasks > 0 ? (double) completedTasks / totalTasks * 100 : 0;
-        
+
         // Calculate productivity scores per user (simplified)
         Map<String, Double> productivityScores = new HashMap<>();
         List<User> users = userRepository.findAll();
         for (User user : users) {
-            List<Task> userTasks = taskRepository.findByAssignedTo(user);
-            long userCompletedTasks = userTasks.stream()
-                .mapToLong(task -> task.getStatus() == TaskStatus.COMPLETED ? 1 : 0)
-                .sum();
-            double score = userTasks.size() > 0 ? (double) userCompletedTasks / userTasks.size() * 100 : 0;
+            long[] counts = userCounts.get(user.getId());
+            double score = counts != null && counts[0] > 0 ? (double) counts[1] / counts[0] * 100 : 0;
             productivityScores.put(user.getName(), score);
         }
         
         return new DashboardSummary(totalTasks, completedTasks, pendingTasks, onTimePercent, productivityScores);
     }
     
+    /**
+     * Dashboard summary served from the user_task_stats rollup: one row per user, no task scans.
+     */
+    private DashboardSummary getDashboardSummaryFromRollup() {
+        long totalTasks = 0;
+        long completedTasks = 0;
+        long pendingTasks = 0;
+        Map<Long, TaskStatsRollup> rollups = new HashMap<>();
+        for (TaskStatsRollup rollup : taskStatsRollupService.getAllRollups()) {
+            rollups.put(rollup.getUserId(), rollup);
+            totalTasks += rollup.getTotalTasks();
+            completedTasks += rollup.getCompletedTasks();
+            pendingTasks += rollup.getPendingTasks();
+        }
+        // Tasks without an assignee are not part of any rollup row
+        for (TaskAggregate aggregate : taskRepository.aggregateUnassigned()) {
+            totalTasks += aggregate.getTaskCount();
+            if (aggregate.getStatus() == TaskStatus.COMPLETED) {
+                completedTasks += aggregate.getTaskCount();
+            } else if (aggregate.getStatus() == TaskStatus.PENDING) {
+                pendingTasks += aggregate.getTaskCount();
+            }
+        }
+        logger.debug("Dashboard stats (rollup) - Total: {}, Completed: {}, Pending: {}", totalTasks, completedTasks, pendingTasks);
+
+        double onTimePercent = totalTasks > 0 ? (double) completedTasks / totalTasks * 100 : 0;
+
+        Map<String, Double> productivityScores = new HashMap<>();
+        for (User user : userRepository.findAll()) {
+            TaskStatsRollup rollup = rollups.get(user.getId());
+            double score = rollup != null && rollup.getTotalTasks() > 0
+                ? (double) rollup.getCompletedTasks() / rollup.getTotalTasks() * 100 : 0;
+            productivityScores.put(user.getName(), score);
+        }
+
+        return new DashboardSummary(totalTasks, completedTasks, pendingTasks, onTimePercent, productivityScores);
+    }
+    
     @Override
+    @Transactional(readOnly = true)
     public EnhancedDashboardSummary getEnhancedDashboardSummary() {
-        List<Task> allTasks = taskRepository.findAll();
-        long totalTasks = allTasks.size();
-        long completedTasks = allTasks.stream()
-            .filter(task -> task.getStatus() == TaskStatus.COMPLETED)
-            .count();
-        long pendingTasks = allTasks.stream()
-            .filter(task -> task.getStatus() == TaskStatus.PENDING)
-            .count();
-        long inProgressTasks = allTasks.stream()
-            .filter(task -> task.getStatus() == TaskStatus.IN_PROGRESS)
-            .count();
-        
-        // Calculate on-time completion percentage
-        long completedOnTime = allTasks.stream()
-            .filter(task -> task.getStatus() == TaskStatus.COMPLETED && 
-                           task.getCompletedDate() != null && 
-                           task.getDueDate() != null &&
-                           !task.getCompletedDate().isAfter(task.getDueDate()))
-            .count();
-        double onTimePercent = completedTasks > 0 ? (double) completedOnTime / completedTasks * 100 : 0;
-        
-        // Calculate overdue tasks
-        LocalDate today = LocalDate.now();
-        long overdueTasks = allTasks.stream()
-            .filter(task -> task.getStatus() != TaskStatus.COMPLETED &&
-                           task.getDueDate() != null &&
-                           task.getDueDate().isBefore(today))
-            .count();
+        if ("parallel".equalsIgnoreCase(dashboardComputeMode)) {
+            return enhancedDashboardCalculator.compute();
+        }
         
-        // Calculate high priority tasks
-        long highPriorityTasks = allTasks.stream()
-            .filter(task -> task.getPriority() == Priority.HIGH &&
-                           task.getStatus() != TaskStatus.COMPLETED)
-            .count();
+        TaskStatsAccumulator totals = TaskStatsAccumulator.of(taskRepository.findAll(), LocalDate.now());
         
         // Calculate productivity scores per user
         Map<String, Double> productivityScores = new HashMap<>();
@@ -244,59 +577,33 @@ public class TaskServiceImpl implements TaskService {
             productivityScores.put(user.getName(), stats.getCompletionRate());
         }
         
-        return new EnhancedDashboardSummary(totalTasks, completedTasks, pendingTasks, inProgressTasks,
-                                           onTimePercent, productivityScores, userStatsList,
-                                           overdueTasks, highPriorityTasks);
+        return new EnhancedDashboardSummary(totals.getTotal(), totals.getCompleted(), totals.getPending(),
+                                           totals.getInProgress(), totals.getOnTimePercent(), productivityScores,
+                                           userStatsList, totals.getOverdue(), totals.getOpenHighPriority());
     }
     
     @Override
+    @Transactional(readOnly = true)
     public EnhancedDashboardSummary getPersonalDashboard() {
         logger.info("Generating personal dashboard for current user");
         
         // Get current user
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
         String email = authentication.getName();
-        User currentUser = userRepository.findByEmail(email)
+        User currentUser = userCache.findByEmail(email)
             .orElseThrow(() -> new NotFoundException("User not found"));
-        
-        // Get only current user's tasks
+        return getPersonalDashboard(currentUser);
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public EnhancedDashboardSummary getPersonalDashboard(User currentUser) {
+        // Get only current user's tasks, walked once for all counters
         List<Task> userTasks = taskRepository.findByAssignedTo(currentUser);
-        long totalTasks = userTasks.size();
-        long completedTasks = userTasks.stream()
-            .filter(task -> task.getStatus() == TaskStatus.COMPLETED)
-            .count();
-        long pendingTasks = userTasks.stream()
-            .filter(task -> task.getStatus() == TaskStatus.PENDING)
-            .count();
-        long inProgressTasks = userTasks.stream()
-            .filter(task -> task.getStatus() == TaskStatus.IN_PROGRESS)
-            .count();
-        
-        // Calculate on-time completion percentage
-        long completedOnTime = userTasks.stream()
-            .filter(task -> task.getStatus() == TaskStatus.COMPLETED && 
-                           task.getCompletedDate() != null && 
-                           task.getDueDate() != null &&
-                           !task.getCompletedDate().isAfter(task.getDueDate()))
-            .count();
-        double onTimePercent = completedTasks > 0 ? (double) completedOnTime / completedTasks * 100 : 0;
-        
-        // Calculate overdue tasks
-        LocalDate today = LocalDate.now();
-        long overdueTasks = userTasks.stream()
-            .filter(task -> task.getStatus() != TaskStatus.COMPLETED &&
-                           task.getDueDate() != null &&
-                           task.getDueDate().isBefore(today))
-            .count();
-        
-        // Calculate high priority tasks
-        long highPriorityTasks = userTasks.stream()
-            .filter(task -> task.getPriority() == Priority.HIGH &&
-                           task.getStatus() != TaskStatus.COMPLETED)
-            .count();
+        TaskStatsAccumulator stats = TaskStatsAccumulator.of(userTasks, LocalDate.now());
         
         // Personal stats
-        UserTaskStats personalStats = getUserTaskStats(currentUser.getId());
+        UserTaskStats personalStats = stats.toUserTaskStats(currentUser.getId(), currentUser.getName());
         List<UserTaskStats> userStatsList = new ArrayList<>();
         userStatsList.add(personalStats);
         
@@ -305,99 +612,44 @@ public class TaskServiceImpl implements TaskService {
         productivityScores.put(currentUser.getName(), personalStats.getCompletionRate());
         
         logger.info("Personal dashboard generated - Total: {}, Completed: {}, Pending: {}", 
-                   totalTasks, completedTasks, pendingTasks);
+                   stats.getTotal(), stats.getCompleted(), stats.getPending());
         
-        return new EnhancedDashboardSummary(totalTasks, completedTasks, pendingTasks, inProgressTasks,
-                                           onTimePercent, productivityScores, userStatsList,
-                                           overdueTasks, highPriorityTasks);
+        return new EnhancedDashboardSummary(stats.getTotal(), stats.getCompleted(), stats.getPending(),
+                                           stats.getInProgress(), stats.getOnTimePercent(), productivityScores,
+                                           userStatsList, stats.getOverdue(), stats.getOpenHighPriority());
     }
     
     @Override
+    @Transactional(readOnly = true)
     public UserTaskStats getUserTaskStats(Long userId) {
-        User user = userRepository.findById(userId)
+        User user = userCache.findById(userId)
             .orElseThrow(() -> new NotFoundException("User not found with id: " + userId));
         
         List<Task> userTasks = taskRepository.findByAssignedTo(user);
-        long totalTasks = userTasks.size();
-        long completedTasks = userTasks.stream()
-            .filter(task -> task.getStatus() == TaskStatus.COMPLETED)
-            .count();
-        long pendingTasks = userTasks.stream()
-            .filter(task -> task.getStatus() == TaskStatus.PENDING)
-            .count();
-        long inProgressTasks = userTasks.stream()
-            .filter(task -> task.getStatus() == TaskStatus.IN_PROGRESS)
-            .count();
+        TaskStatsAccumulator stats = TaskStatsAccumulator.of(userTasks, LocalDate.now());
+        logger.debug("Enhanced score for user {} - Total: {}, Completed: {}, OnTime: {}, Score: {}",
+                    userId, stats.getTotal(), stats.getCompleted(), stats.getCompletedOnTime(), stats.getEnhancedScore());
         
-        // Enhanced scoring system
-        double completionRate = calculateEnhancedScore(userTasks);
-        
-        return new UserTaskStats(user.getId(), user.getName(), totalTasks, completedTasks, 
-                                pendingTasks, inProgressTasks, completionRate);
+        return stats.toUserTaskStats(user.getId(), user.getName());
     }
     
-    /**
-     * Calculate enhanced productivity score based on multiple factors:
-     * - Task completion rate (40%)
-     * - On-time completion rate (30%)
-     * - Task priority/complexity (20%)
-     * - Consistency (10%)
-     */
-    private double calculateEnhancedScore(List<Task> tasks) {
-        if (tasks.isEmpty()) {
-            return 0.0;
+    private TaskDTO convertToDTO(Task task) {
+        TaskDTO dto = new TaskDTO();
+        dto.setId(task.getId());
+        dto.setTitle(task.getTitle());
+        dto.setDescription(task.getDescription());
+        dto.setStatus(task.getStatus());
+        dto.setPriority(task.getPriority());
+        dto.setDueDate(task.getDueDate());
+        dto.setCompletedDate(task.getCompletedDate());
+        dto.setCreatedAt(task.getCreatedAt());
+        if (task.getAssignedTo() != null) {
+            dto.setAssignedToId(task.getAssignedTo().getId());
+            dto.setAssignedToName(task.getAssignedTo().getName());
         }
-        
-        long totalTasks = tasks.size();
-        long completedTasks = tasks.stream()
-            .filter(task -> task.getStatus() == TaskStatus.COMPLETED)
-            .count();
-        
-        // 1. Completion Rate (40% weight)
-        double completionScore = totalTasks > 0 ? (double) completedTasks / totalTasks * 40 : 0;
-        
-        // 2. On-Time Completion Rate (30% weight)
-        long completedOnTime = tasks.stream()
-            .filter(task -> task.getStatus() == TaskStatus.COMPLETED &&
-                           task.getCompletedDate() != null &&
-                           task.getDueDate() != null &&
-                           !task.getCompletedDate().isAfter(task.getDueDate()))
-            .count();
-        double onTimeScore = completedTasks > 0 ? (double) completedOnTime / completedTasks * 30 : 0;
-        
-        // 3. Task Complexity/Priority Score (20% weight)
-        // High priority tasks get more weight
-        long highPriorityCompleted = tasks.stream()
-            .filter(task -> task.getStatus() == TaskStatus.COMPLETED &&
-                           task.getPriority() == Priority.HIGH)
-            .count();
-        long mediumPriorityCompleted = tasks.stream()
-            .filter(task -> task.getStatus() == TaskStatus.COMPLETED &&
-                           task.getPriority() == Priority.MEDIUM)
-            .count();
-        long lowPriorityCompleted = tasks.stream()
-            .filter(task -> task.getStatus() == TaskStatus.COMPLETED &&
-                           task.getPriority() == Priority.LOW)
-            .count();
-        
-        double weightedCompleted = (highPriorityCompleted * 3) + (mediumPriorityCompleted * 2) + (lowPriorityCompleted * 1);
-        double maxPossibleWeight = totalTasks * 3; // If all were high priority
-        double complexityScore = maxPossibleWeight > 0 ? (weightedCompleted / maxPossibleWeight) * 20 : 0;
-        
-        // 4. Consistency Score (10% weight)
-        // Reward having tasks in progress (shows active work)
-        long inProgress = tasks.stream()
-            .filter(task -> task.getStatus() == TaskStatus.IN_PROGRESS)
-            .count();
-        double consistencyScore = (inProgress > 0 && inProgress <= 3) ? 10 : 
-                                 (inProgress > 3) ? 5 : 0; // Penalize too many in progress
-        
-        // Total score
-        double totalScore = completionScore + onTimeScore + complexityScore + consistencyScore;
-        
-        logger.debug("Enhanced score for user - Completion: {}, OnTime: {}, Complexity: {}, Consistency: {}, Total: {}",
-                    completionScore, onTimeScore, complexityScore, consistencyScore, totalScore);
-        
-        return Math.min(100.0, totalScore); // Cap at 100
+        dto.setTotalMinutes(task.getTotalMinutes());
+        dto.setEntryCount(task.getEntryCount());
+        dto.setVersion(task.getVersion());
+        return dto;
     }
-}
\ No newline at end of file
+}
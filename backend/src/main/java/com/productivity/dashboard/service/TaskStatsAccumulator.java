@@ -0,0 +1,162 @@
+package com.productivity.dashboard.service;
+
+import com.productivity.dashboard.dto.UserTaskStats;
+import com.productivity.dashboard.model.Priority;
+import com.productivity.dashboard.model.Task;
+import com.productivity.dashboard.model.TaskStatus;
+
+import java.time.LocalDate;
+import java.util.stream.Collector;
+
+/**
+ * Single-pass accumulator for every task counter the dashboards need.
+ * Holds only primitive fields, so a task list is walked once with no intermediate allocation.
+ * Accumulators over disjoint partitions can be combined with {@link #merge}, which makes
+ * the class usable as a parallel stream / fork-join reduction.
+ */
+public final class TaskStatsAccumulator {
+
+    private final LocalDate today;
+
+    private long pending;
+    private long inProgress;
+    private long completed;
+    private long completedLowPriority;
+    private long completedMediumPriority;
+    private long completedHighPriority;
+    private long completedOnTime;
+    private long overdue;
+    private long openHighPriority;
+
+    public TaskStatsAccumulator(LocalDate today) {
+        this.today = today;
+    }
+
+    public static TaskStatsAccumulator of(Iterable<Task> tasks, LocalDate today) {
+        TaskStatsAccumulator accumulator = new TaskStatsAccumulator(today);
+        for (Task task : tasks) {
+            accumulator.accept(task);
+        }
+        return accumulator;
+    }
+
+    public static Collector<Task, TaskStatsAccumulator, TaskStatsAccumulator> collector(LocalDate today) {
+        return Collector.of(() -> new TaskStatsAccumulator(today), TaskStatsAccumulator::accept,
+                            TaskStatsAccumulator::merge, Collector.Characteristics.UNORDERED,
+                            Collector.Characteristics.IDENTITY_FINISH);
+    }
+
+    public void accept(Task task) {
+        accept(task.getStatus(), task.getPriority(), task.getDueDate(), task.getCompletedDate());
+    }
+
+    public void accept(TaskStatus status, Priority priority, LocalDate dueDate, LocalDate completedDate) {
+        if (status == TaskStatus.COMPLETED) {
+            completed++;
+            if (priority == Priority.HIGH) {
+                completedHighPriority++;
+            } else if (priority == Priority.MEDIUM) {
+                completedMediumPriority++;
+            } else if (priority == Priority.LOW) {
+                completedLowPriority++;
+            }
+            if (completedDate != null && dueDate != null && !completedDate.isAfter(dueDate)) {
+                completedOnTime++;
+            }
+            return;
+        }
+        if (status == TaskStatus.IN_PROGRESS) {
+            inProgress++;
+        } else {
+            pending++;
+        }
+        if (priority == Priority.HIGH) {
+            openHighPriority++;
+        }
+        if (dueDate != null && dueDate.isBefore(today)) {
+            overdue++;
+        }
+    }
+
+    public TaskStatsAccumulator merge(TaskStatsAccumulator other) {
+        pending += other.pending;
+        inProgress += other.inProgress;
+        completed += other.completed;
+        completedLowPriority += other.completedLowPriority;
+        completedMediumPriority += other.completedMediumPriority;
+        completedHighPriority += other.completedHighPriority;
+        completedOnTime += other.completedOnTime;
+        overdue += other.overdue;
+        openHighPriority += other.openHighPriority;
+        return this;
+    }
+
+    public long getTotal() {
+        return pending + inProgress + completed;
+    }
+
+    public long getPending() {
+        return pending;
+    }
+
+    public long getInProgress() {
+        return inProgress;
+    }
+
+    public long getCompleted() {
+        return completed;
+    }
+
+    public long getCompletedOnTime() {
+        return completedOnTime;
+    }
+
+    public long getOverdue() {
+        return overdue;
+    }
+
+    public long getOpenHighPriority() {
+        return openHighPriority;
+    }
+
+    /**
+     * Share of completed tasks finished on or before their due date, in percent
+     */
+    public double getOnTimePercent() {
+        return completed > 0 ? (double) completedOnTime / completed * 100 : 0;
+    }
+
+    /**
+     * Enhanced productivity score based on multiple factors:
+     * - Task completion rate (40%)
+     * - On-time completion rate (30%)
+     * - Task priority/complexity (20%)
+     * - Consistency (10%)
+     */
+    public double getEnhancedScore() {
+        long total = getTotal();
+        if (total == 0) {
+            return 0.0;
+        }
+
+        // 1. Completion Rate (40% weight)
+        double completionScore = (double) completed / total * 40;
+
+        // 2. On-Time Completion Rate (30% weight)
+        double onTimeScore = completed > 0 ? (double) completedOnTime / completed * 30 : 0;
+
+        // 3. Task Complexity/Priority Score (20% weight) - high priority tasks get more weight
+        double weightedCompleted = (completedHighPriority * 3) + (completedMediumPriority * 2) + completedLowPriority;
+        double maxPossibleWeight = total * 3; // If all were high priority
+        double complexityScore = weightedCompleted / maxPossibleWeight * 20;
+
+        // 4. Consistency Score (10% weight) - reward active work, penalize too many in progress
+        double consistencyScore = (inProgress > 0 && inProgress <= 3) ? 10 : (inProgress > 3) ? 5 : 0;
+
+        return Math.min(100.0, completionScore + onTimeScore + complexityScore + consistencyScore); // Cap at 100
+    }
+
+    public UserTaskStats toUserTaskStats(Long userId, String userName) {
+        return new UserTaskStats(userId, userName, getTotal(), completed, pending, inProgress, getEnhancedScore());
+    }
+}
@@ -0,0 +1,39 @@
+package com.productivity.dashboard.service;
+
+import com.productivity.dashboard.event.TaskChangedEvent;
+import com.productivity.dashboard.event.TaskSnapshot;
+import com.productivity.dashboard.model.TaskStatsRollup;
+
+import java.util.List;
+
+/**
+ * Service interface for the incrementally maintained per-user task statistics
+ */
+public interface TaskStatsRollupService {
+
+    /**
+     * Apply the difference between two states of a task (either side may be null)
+     */
+    void applyChange(TaskSnapshot before, TaskSnapshot after);
+
+    /**
+     * Apply several task changes at once, with one write per affected user
+     */
+    void applyChanges(List<TaskChangedEvent> changes);
+
+    /**
+     * Get all rollup rows (one per user that has ever had a task)
+     */
+    List<TaskStatsRollup> getAllRollups();
+
+    /**
+     * Get the rollup for a single user, or an empty rollup when the user has no tasks
+     */
+    TaskStatsRollup getRollup(Long userId);
+
+    /**
+     * Compare the rollup against the tasks table and optionally repair drifted rows.
+     * Returns the number of users whose counters differed.
+     */
+    int reconcile(boolean repair);
+}
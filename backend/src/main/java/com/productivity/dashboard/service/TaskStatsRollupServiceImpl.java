@@ -0,0 +1,278 @@
+package com.productivity.dashboard.service;
+
+import com.productivity.dashboard.event.TaskBatchChangedEvent;
+import com.productivity.dashboard.event.TaskChangedEvent;
+import com.productivity.dashboard.event.TaskSnapshot;
+import com.productivity.dashboard.model.TaskDueBucket;
+import com.productivity.dashboard.model.TaskStatsRollup;
+import com.productivity.dashboard.model.TaskStatus;
+import com.productivity.dashboard.repository.TaskDueBucketRepository;
+import com.productivity.dashboard.repository.TaskStatsRollupRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Service implementation keeping the user_task_stats rollup in step with the tasks table.
+ * Deltas are applied inside the task write transaction, so the rollup commits or rolls back with the task.
+ * The overdue count is not a stored counter: open tasks are kept per due date and summed at read time.
+ */
+@Service
+@Transactional
+public class TaskStatsRollupServiceImpl implements TaskStatsRollupService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskStatsRollupServiceImpl.class);
+
+    @Autowired
+    private TaskStatsRollupRepository rollupRepository;
+
+    @Autowired
+    private TaskDueBucketRepository dueBucketRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Value("${stats.rollup.reconcile-on-startup:true}")
+    private boolean reconcileOnStartup;
+
+    /**
+     * Seed the rollup when the application starts against an existing tasks table
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void onApplicationReady() {
+        if (reconcileOnStartup) {
+            reconcile(true);
+        }
+    }
+
+    @EventListener
+    public void onTaskChanged(TaskChangedEvent event) {
+        applyChange(event.getBefore(), event.getAfter());
+    }
+
+    @EventListener
+    public void onTaskBatchChanged(TaskBatchChangedEvent event) {
+        applyChanges(event.getChanges());
+    }
+
+    @Override
+    public void applyChange(TaskSnapshot before, TaskSnapshot after) {
+        Map<Long, UserDelta> deltas = new TreeMap<>();
+        collect(deltas, before, after);
+        deltas.values().forEach(this::applyDelta);
+    }
+
+    @Override
+    public void applyChanges(List<TaskChangedEvent> changes) {
+        // One delta per user, applied in user id order so concurrent batches lock rollup rows in the same order
+        Map<Long, UserDelta> deltas = new TreeMap<>();
+        for (TaskChangedEvent change : changes) {
+            collect(deltas, change.getBefore(), change.getAfter());
+        }
+        deltas.values().forEach(this::applyDelta);
+        logger.debug("Applied {} task changes as {} task statistics deltas", changes.size(), deltas.size());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<TaskStatsRollup> getAllRollups() {
+        Map<Long, Long> overdue = new HashMap<>();
+        for (TaskDueBucket bucket : dueBucketRepository.findOverdue(LocalDate.now())) {
+            overdue.merge(bucket.getUserId(), bucket.getOpenTasks(), Long::sum);
+        }
+        List<TaskStatsRollup> rollups = rollupRepository.findAll();
+        for (TaskStatsRollup rollup : rollups) {
+            rollup.setOverdueTasks(overdue.getOrDefault(rollup.getUserId(), 0L));
+        }
+        return rollups;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public TaskStatsRollup getRollup(Long userId) {
+        TaskStatsRollup rollup = rollupRepository.findById(userId).orElseGet(() -> new TaskStatsRollup(userId));
+        rollup.setOverdueTasks(dueBucketRepository.sumOverdue(userId, LocalDate.now()));
+        return rollup;
+    }
+
+    /**
+     * Finds drifted users from one snapshot of the tables, then repairs each in its own short transaction
+     * that locks the user's rollup row before recomputing it. A task write applies its delta to that row,
+     * so writes that committed before the lock are in the recount and writes still in flight apply their
+     * delta on top of the repaired counters once the lock is released.
+     */
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public int reconcile(boolean repair) {
+        logger.info("Reconciling task statistics rollup (repair: {})", repair);
+
+        Map<Long, TaskStatsRollup> stored = new HashMap<>();
+        for (TaskStatsRollup rollup : rollupRepository.findAll()) {
+            stored.put(rollup.getUserId(), rollup);
+        }
+
+        Set<Long> drifted = new LinkedHashSet<>();
+        for (TaskStatsRollup expected : rollupRepository.computeFromTasks()) {
+            TaskStatsRollup actual = stored.remove(expected.getUserId());
+            if (actual == null || !actual.sameCounters(expected)) {
+                drifted.add(expected.getUserId());
+                logger.warn("Task statistics drift for user ID: {}", expected.getUserId());
+            }
+        }
+        // Users that no longer have any tasks must end up with all-zero counters
+        for (TaskStatsRollup leftover : stored.values()) {
+            if (!leftover.isZero()) {
+                drifted.add(leftover.getUserId());
+                logger.warn("Task statistics drift for user ID: {} (no tasks remain)", leftover.getUserId());
+            }
+        }
+
+        Map<Long, Map<LocalDate, Long>> expectedBuckets = byUser(dueBucketRepository.computeFromTasks());
+        Map<Long, Map<LocalDate, Long>> storedBuckets = byUser(dueBucketRepository.findNonEmpty());
+        Set<Long> bucketUsers = new LinkedHashSet<>(expectedBuckets.keySet());
+        bucketUsers.addAll(storedBuckets.keySet());
+        for (Long userId : bucketUsers) {
+            if (!expectedBuckets.getOrDefault(userId, Map.of()).equals(storedBuckets.getOrDefault(userId, Map.of()))
+                    && drifted.add(userId)) {
+                logger.warn("Open task due dates drift for user ID: {}", userId);
+            }
+        }
+
+        int repaired = 0;
+        if (repair) {
+            for (Long userId : drifted) {
+                if (Boolean.TRUE.equals(transactionTemplate.execute(status -> repairUser(userId)))) {
+                    repaired++;
+                }
+            }
+        }
+
+        logger.info("Task statistics reconciliation finished - {} drifted users, {} repaired", drifted.size(), repaired);
+        return drifted.size();
+    }
+
+    /**
+     * Recount one user under the rollup row lock; false when the rows turned out to be right after all
+     */
+    private boolean repairUser(Long userId) {
+        rollupRepository.insertEmptyIfAbsent(userId);
+        TaskStatsRollup stored = rollupRepository.findForUpdate(userId)
+            .orElseThrow(() -> new IllegalStateException("No task statistics row for user ID: " + userId));
+        TaskStatsRollup expected = rollupRepository.computeFromTasksForUser(userId)
+            .orElseGet(() -> new TaskStatsRollup(userId));
+        boolean changed = repairBuckets(userId);
+        if (stored.sameCounters(expected)) {
+            return changed;
+        }
+        if (expected.isZero()) {
+            rollupRepository.delete(stored);
+        } else {
+            rollupRepository.save(expected);
+        }
+        return true;
+    }
+
+    private boolean repairBuckets(Long userId) {
+        Map<LocalDate, TaskDueBucket> expected = new HashMap<>();
+        for (TaskDueBucket bucket : dueBucketRepository.computeFromTasksForUser(userId)) {
+            expected.put(bucket.getDueDate(), bucket);
+        }
+        boolean changed = false;
+        for (TaskDueBucket stored : dueBucketRepository.findByUserId(userId)) {
+            TaskDueBucket wanted = expected.remove(stored.getDueDate());
+            if (wanted == null) {
+                dueBucketRepository.delete(stored);
+                changed |= stored.getOpenTasks() != 0;
+            } else if (wanted.getOpenTasks() != stored.getOpenTasks()) {
+                stored.setOpenTasks(wanted.getOpenTasks());
+                changed = true;
+            }
+        }
+        dueBucketRepository.saveAll(expected.values());
+        return changed || !expected.isEmpty();
+    }
+
+    private static Map<Long, Map<LocalDate, Long>> byUser(List<TaskDueBucket> buckets) {
+        Map<Long, Map<LocalDate, Long>> byUser = new HashMap<>();
+        for (TaskDueBucket bucket : buckets) {
+            byUser.computeIfAbsent(bucket.getUserId(), id -> new HashMap<>())
+                .put(bucket.getDueDate(), bucket.getOpenTasks());
+        }
+        return byUser;
+    }
+
+    private void collect(Map<Long, UserDelta> deltas, TaskSnapshot before, TaskSnapshot after) {
+        if (before != null && before.getAssigneeId() != null) {
+            deltas.computeIfAbsent(before.getAssigneeId(), UserDelta::new).add(before, -1);
+        }
+        if (after != null && after.getAssigneeId() != null) {
+            deltas.computeIfAbsent(after.getAssigneeId(), UserDelta::new).add(after, 1);
+        }
+    }
+
+    private void applyDelta(UserDelta delta) {
+        if (delta.isZero()) {
+            return;
+        }
+        Long userId = delta.counters.getUserId();
+        // Runs even when only due dates moved: the row lock it takes is what repairUser serializes on
+        if (rollupRepository.applyDelta(delta.counters) == 0) {
+            // First task for this user: create the row, then apply the delta atomically
+            rollupRepository.insertEmptyIfAbsent(userId);
+            rollupRepository.applyDelta(delta.counters);
+        }
+        delta.openByDueDate.forEach((dueDate, change) -> {
+            if (change == 0) {
+                return;
+            }
+            if (dueBucketRepository.applyDelta(userId, dueDate, change) == 0) {
+                dueBucketRepository.insertEmptyIfAbsent(userId, dueDate);
+                dueBucketRepository.applyDelta(userId, dueDate, change);
+            }
+            if (change < 0) {
+                dueBucketRepository.deleteIfEmpty(userId, dueDate);
+            }
+        });
+        logger.debug("Applied task statistics delta for user ID: {}", userId);
+    }
+
+    /**
+     * One user's counter changes plus the change in open tasks per due date
+     */
+    private static final class UserDelta {
+
+        private final TaskStatsRollup counters;
+        private final Map<LocalDate, Long> openByDueDate = new TreeMap<>();
+
+        private UserDelta(Long userId) {
+            this.counters = new TaskStatsRollup(userId);
+        }
+
+        private void add(TaskSnapshot task, int sign) {
+            counters.add(task.getStatus(), task.getPriority(), task.getDueDate(), task.getCompletedDate(), sign);
+            if (task.getStatus() != TaskStatus.COMPLETED && task.getDueDate() != null) {
+                openByDueDate.merge(task.getDueDate(), (long) sign, Long::sum);
+            }
+        }
+
+        private boolean isZero() {
+            return counters.isZero() && openByDueDate.values().stream().allMatch(change -> change == 0);
+        }
+    }
+}
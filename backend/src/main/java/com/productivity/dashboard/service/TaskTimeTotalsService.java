@@ -0,0 +1,21 @@
+package com.productivity.dashboard.service;
+
+import com.productivity.dashboard.event.TimeEntrySnapshot;
+
+/**
+ * Service interface for the time spent totals denormalized onto tasks (total_minutes, entry_count)
+ */
+public interface TaskTimeTotalsService {
+
+    /**
+     * Apply the difference between two states of a time entry (either side may be null).
+     * Only stopped entries with a task are counted.
+     */
+    void applyChange(TimeEntrySnapshot before, TimeEntrySnapshot after);
+
+    /**
+     * Compare the task totals against the time_entries table and optionally repair drifted tasks.
+     * Returns the number of tasks whose totals differed.
+     */
+    int reconcile(boolean repair);
+}
@@ -0,0 +1,158 @@
+package com.productivity.dashboard.service;
+
+import com.productivity.dashboard.dto.TaskTimeTotals;
+import com.productivity.dashboard.event.TimeEntryChangedEvent;
+import com.productivity.dashboard.event.TimeEntrySnapshot;
+import com.productivity.dashboard.repository.TaskRepository;
+import com.productivity.dashboard.repository.TimeEntryRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Service implementation keeping tasks.total_minutes and tasks.entry_count in step with the time_entries table.
+ * Increments are applied inside the time entry write transaction, so they commit or roll back with it.
+ */
+@Service
+@Transactional
+public class TaskTimeTotalsServiceImpl implements TaskTimeTotalsService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskTimeTotalsServiceImpl.class);
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TimeEntryRepository timeEntryRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Value("${task.time-totals.reconcile-on-startup:true}")
+    private boolean reconcileOnStartup;
+
+    /**
+     * Seed the totals when the application starts against existing tasks and time entries
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void onApplicationReady() {
+        if (reconcileOnStartup) {
+            reconcile(true);
+        }
+    }
+
+    @EventListener
+    public void onTimeEntryChanged(TimeEntryChangedEvent event) {
+        applyChange(event.getBefore(), event.getAfter());
+    }
+
+    @Override
+    public void applyChange(TimeEntrySnapshot before, TimeEntrySnapshot after) {
+        Map<Long, long[]> deltas = new HashMap<>();
+        if (counted(before)) {
+            add(deltas, before, -1);
+        }
+        if (counted(after)) {
+            add(deltas, after, 1);
+        }
+
+        for (Map.Entry<Long, long[]> delta : deltas.entrySet()) {
+            long minutes = delta.getValue()[0];
+            long entries = delta.getValue()[1];
+            if (minutes != 0 || entries != 0) {
+                // A task deleted in the meantime simply matches no row
+                taskRepository.addTimeTotals(delta.getKey(), minutes, entries);
+            }
+        }
+    }
+
+    /**
+     * Finds drifted tasks from one snapshot, then repairs each in its own short transaction that locks the
+     * task row before recounting its entries. Time entry writes add to that row, so writes committed before
+     * the lock are in the recount and writes still in flight add their increment on top of it.
+     */
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public int reconcile(boolean repair) {
+        logger.info("Reconciling task time totals (repair: {})", repair);
+
+        Map<Long, TaskTimeTotals> stored = new HashMap<>();
+        for (TaskTimeTotals totals : taskRepository.findNonZeroTimeTotals()) {
+            stored.put(totals.getTaskId(), totals);
+        }
+
+        Set<Long> drifted = new LinkedHashSet<>();
+        for (TaskTimeTotals expected : timeEntryRepository.computeTaskTimeTotals()) {
+            TaskTimeTotals actual = stored.remove(expected.getTaskId());
+            if (actual == null || !sameTotals(actual, expected.getTotalMinutes(), expected.getEntryCount())) {
+                drifted.add(expected.getTaskId());
+                logger.warn("Task time totals drift for task ID: {}", expected.getTaskId());
+            }
+        }
+        // Tasks with no stopped entries left must end up at zero
+        for (TaskTimeTotals leftover : stored.values()) {
+            drifted.add(leftover.getTaskId());
+            logger.warn("Task time totals drift for task ID: {} (no time entries remain)", leftover.getTaskId());
+        }
+
+        int repaired = 0;
+        if (repair) {
+            for (Long taskId : drifted) {
+                if (Boolean.TRUE.equals(transactionTemplate.execute(status -> repairTask(taskId)))) {
+                    repaired++;
+                }
+            }
+        }
+
+        logger.info("Task time totals reconciliation finished - {} drifted tasks, {} repaired", drifted.size(), repaired);
+        return drifted.size();
+    }
+
+    /**
+     * Recount one task under its row lock; false when it was deleted or turned out to be right after all
+     */
+    private boolean repairTask(Long taskId) {
+        TaskTimeTotals stored = taskRepository.findTimeTotalsForUpdate(taskId).orElse(null);
+        if (stored == null) {
+            return false;
+        }
+        TaskTimeTotals expected = timeEntryRepository.computeTaskTimeTotals(taskId).orElse(null);
+        long minutes = expected != null ? expected.getTotalMinutes() : 0;
+        long entries = expected != null ? expected.getEntryCount() : 0;
+        if (sameTotals(stored, minutes, entries)) {
+            return false;
+        }
+        taskRepository.setTimeTotals(taskId, minutes, entries);
+        return true;
+    }
+
+    private static boolean sameTotals(TaskTimeTotals totals, long minutes, long entries) {
+        return totals.getTotalMinutes() == minutes && totals.getEntryCount() == entries;
+    }
+
+    private static boolean counted(TimeEntrySnapshot entry) {
+        return entry != null && !entry.isRunning() && entry.getTaskId() != null;
+    }
+
+    private static void add(Map<Long, long[]> deltas, TimeEntrySnapshot entry, int sign) {
+        long minutes = entry.getDurationMinutes() != null
+            ? entry.getDurationMinutes() : Duration.between(entry.getStartTime(), entry.getEndTime()).toMinutes();
+        long[] delta = deltas.computeIfAbsent(entry.getTaskId(), id -> new long[2]);
+        delta[0] += sign * minutes;
+        delta[1] += sign;
+    }
+}
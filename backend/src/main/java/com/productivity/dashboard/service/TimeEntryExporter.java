@@ -0,0 +1,350 @@
+package com.productivity.dashboard.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.productivity.dashboard.dto.TimeEntryCursor;
+import com.productivity.dashboard.exception.BadRequestException;
+import com.productivity.dashboard.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Streams team time entries as NDJSON or CSV straight from a forward-only JDBC result set,
+ * so memory stays constant whatever the range. Rows come in (start time, id) order and each row
+ * carries a cursor; passing the last received cursor as {@code after} resumes an interrupted export.
+ * Every export holds a connection for its whole duration, so concurrent exports are capped.
+ * On MySQL the fetch size only streams with {@code useCursorFetch=true} (set on the datasource).
+ */
+@Component
+public class TimeEntryExporter {
+
+    private static final Logger logger = LoggerFactory.getLogger(TimeEntryExporter.class);
+
+    private static final String SELECT_SQL =
+        "SELECT te.id, te.user_id, u.name AS user_name, te.task_id, t.title AS task_title, te.start_time, " +
+        "te.end_time, te.duration_minutes, te.description, te.is_manual " +
+        "FROM time_entries te JOIN users u ON u.id = te.user_id LEFT JOIN tasks t ON t.id = te.task_id " +
+        "WHERE te.user_id IN (%s) AND te.start_time >= ? AND te.start_time <= ?";
+    private static final String AFTER_SQL = " AND (te.start_time > ? OR (te.start_time = ? AND te.id > ?))";
+    private static final String ORDER_SQL = " ORDER BY te.start_time, te.id";
+
+    private static final String[] CSV_HEADER = {
+        "id", "userId", "userName", "taskId", "taskTitle", "startTime", "endTime", "durationMinutes",
+        "description", "isManual", "cursor"
+    };
+
+    public enum Format {
+        NDJSON("application/x-ndjson", "ndjson"),
+        CSV("text/csv", "csv");
+
+        private final String contentType;
+        private final String extension;
+
+        Format(String contentType, String extension) {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+
+        public String getContentType() {
+            return contentType;
+        }
+
+        public String getExtension() {
+            return extension;
+        }
+
+        public static Format fromParam(String value) {
+            for (Format format : values()) {
+                if (format.extension.equalsIgnoreCase(value)) {
+                    return format;
+                }
+            }
+            throw new BadRequestException("Unsupported export format: " + value);
+        }
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final Semaphore permits;
+    private final int flushEvery;
+    private final long timeoutMillis;
+    private final Counter rowsExported;
+
+    public TimeEntryExporter(JdbcTemplate jdbcTemplate, ObjectMapper objectMapper, MeterRegistry meterRegistry,
+                             @Value("${time.export.fetch-size:500}") int fetchSize,
+                             @Value("${time.export.max-concurrent:2}") int maxConcurrent,
+                             @Value("${time.export.timeout-ms:600000}") long timeoutMillis) {
+        // Own template so the fetch size does not leak into other queries
+        this.jdbcTemplate = new JdbcTemplate(jdbcTemplate.getDataSource());
+        this.jdbcTemplate.setFetchSize(fetchSize);
+        this.objectMapper = objectMapper;
+        this.permits = new Semaphore(Math.max(1, maxConcurrent));
+        this.flushEvery = Math.max(1, fetchSize);
+        this.timeoutMillis = timeoutMillis;
+        this.rowsExported = Counter.builder("time.export.rows").register(meterRegistry);
+    }
+
+    /**
+     * How long one export may stream before the async request times out
+     */
+    public long getTimeoutMillis() {
+        return timeoutMillis;
+    }
+
+    /**
+     * Validate the request and reserve an export slot. The slot is released by {@link Export#release}, which
+     * {@link Export#writeTo} calls when it returns; callers release it themselves if the export never runs.
+     */
+    public Export prepare(List<Long> userIds, LocalDateTime start, LocalDateTime end, String format,
+                          String after, Integer limit) {
+        if (userIds == null || userIds.isEmpty()) {
+            throw new BadRequestException("At least one user is required");
+        }
+        if (end.isBefore(start)) {
+            throw new BadRequestException("End time cannot be before start time");
+        }
+        if (limit != null && limit < 1) {
+            throw new BadRequestException("Limit must be positive");
+        }
+        Format exportFormat = Format.fromParam(format);
+        TimeEntryCursor cursor = TimeEntryCursor.decode(after);
+
+        if (!permits.tryAcquire()) {
+            throw new TooManyRequestsException("Too many exports in progress, please try again shortly", 5);
+        }
+        return new Export(new ArrayList<>(userIds), start, end, exportFormat, cursor, limit);
+    }
+
+    /**
+     * A validated export holding one concurrency slot
+     */
+    public final class Export {
+
+        private final List<Long> userIds;
+        private final LocalDateTime start;
+        private final LocalDateTime end;
+        private final Format format;
+        private final TimeEntryCursor after;
+        private final Integer limit;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Export(List<Long> userIds, LocalDateTime start, LocalDateTime end, Format format,
+                       TimeEntryCursor after, Integer limit) {
+            this.userIds = userIds;
+            this.start = start;
+            this.end = end;
+            this.format = format;
+            this.after = after;
+            this.limit = limit;
+        }
+
+        public Format getFormat() {
+            return format;
+        }
+
+        /**
+         * Give the concurrency slot back; safe to call more than once
+         */
+        public void release() {
+            if (released.compareAndSet(false, true)) {
+                permits.release();
+            }
+        }
+
+        public void writeTo(OutputStream out) throws IOException {
+            long begin = System.nanoTime();
+            long[] rows = new long[1];
+            try {
+                RowWriter writer = format == Format.CSV ? new CsvRowWriter(out, after == null) : new NdjsonRowWriter(out);
+                jdbcTemplate.query(sql(), (RowCallbackHandler) rs -> {
+                    try {
+                        writer.write(rs);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                    if (++rows[0] % flushEvery == 0) {
+                        flush(writer);
+                    }
+                }, parameters());
+                // Leave the stream open so the caller can finish any wrapping (gzip) stream
+                writer.flush();
+            } catch (UncheckedIOException e) {
+                // Usually the client went away; the statement is closed by JdbcTemplate
+                logger.warn("Time entry export aborted after {} rows - Error: {}", rows[0], e.getCause().getMessage());
+                throw e.getCause();
+            } finally {
+                release();
+                rowsExported.increment(rows[0]);
+            }
+            logger.info("Exported {} time entries for {} users as {} in {} ms", rows[0], userIds.size(), format,
+                (System.nanoTime() - begin) / 1_000_000);
+        }
+
+        private void flush(RowWriter writer) {
+            try {
+                writer.flush();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        private String sql() {
+            String sql = String.format(SELECT_SQL, String.join(",", Collections.nCopies(userIds.size(), "?")));
+            if (after != null) {
+                sql += AFTER_SQL;
+            }
+            sql += ORDER_SQL;
+            if (limit != null) {
+                sql += " LIMIT " + limit;
+            }
+            return sql;
+        }
+
+        private Object[] parameters() {
+            List<Object> parameters = new ArrayList<>(userIds);
+            parameters.add(Timestamp.valueOf(start));
+            parameters.add(Timestamp.valueOf(end));
+            if (after != null) {
+                parameters.add(Timestamp.valueOf(after.getStartTime()));
+                parameters.add(Timestamp.valueOf(after.getStartTime()));
+                parameters.add(after.getId());
+            }
+            return parameters.toArray();
+        }
+    }
+
+    private interface RowWriter {
+
+        void write(ResultSet rs) throws SQLException, IOException;
+
+        void flush() throws IOException;
+    }
+
+    private final class NdjsonRowWriter implements RowWriter {
+
+        private final JsonGenerator generator;
+
+        private NdjsonRowWriter(OutputStream out) throws IOException {
+            this.generator = objectMapper.getFactory().createGenerator(out);
+            this.generator.setRootValueSeparator(null);
+        }
+
+        @Override
+        public void write(ResultSet rs) throws SQLException, IOException {
+            long id = rs.getLong("id");
+            LocalDateTime startTime = rs.getTimestamp("start_time").toLocalDateTime();
+            generator.writeStartObject();
+            generator.writeNumberField("id", id);
+            generator.writeNumberField("userId", rs.getLong("user_id"));
+            generator.writeStringField("userName", rs.getString("user_name"));
+            writeNullableNumber("taskId", rs.getObject("task_id") != null ? rs.getLong("task_id") : null);
+            generator.writeStringField("taskTitle", rs.getString("task_title"));
+            generator.writeStringField("startTime", startTime.toString());
+            generator.writeStringField("endTime", toString(rs.getTimestamp("end_time")));
+            writeNullableNumber("durationMinutes",
+                rs.getObject("duration_minutes") != null ? rs.getLong("duration_minutes") : null);
+            generator.writeStringField("description", rs.getString("description"));
+            generator.writeBooleanField("isManual", rs.getBoolean("is_manual"));
+            generator.writeStringField("cursor", new TimeEntryCursor(startTime, id).encode());
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+        }
+
+        private void writeNullableNumber(String field, Long value) throws IOException {
+            if (value != null) {
+                generator.writeNumberField(field, value);
+            } else {
+                generator.writeNullField(field);
+            }
+        }
+
+        private String toString(Timestamp timestamp) {
+            return timestamp != null ? timestamp.toLocalDateTime().toString() : null;
+        }
+
+        @Override
+        public void flush() throws IOException {
+            generator.flush();
+        }
+    }
+
+    private static final class CsvRowWriter implements RowWriter {
+
+        private final Writer writer;
+
+        private CsvRowWriter(OutputStream out, boolean header) throws IOException {
+            this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+            if (header) {
+                writeRow(CSV_HEADER);
+            }
+        }
+
+        @Override
+        public void write(ResultSet rs) throws SQLException, IOException {
+            long id = rs.getLong("id");
+            LocalDateTime startTime = rs.getTimestamp("start_time").toLocalDateTime();
+            Timestamp endTime = rs.getTimestamp("end_time");
+            writeRow(new String[] {
+                String.valueOf(id),
+                rs.getString("user_id"),
+                rs.getString("user_name"),
+                rs.getString("task_id"),
+                rs.getString("task_title"),
+                startTime.toString(),
+                endTime != null ? endTime.toLocalDateTime().toString() : null,
+                rs.getString("duration_minutes"),
+                rs.getString("description"),
+                String.valueOf(rs.getBoolean("is_manual")),
+                new TimeEntryCursor(startTime, id).encode()
+            });
+        }
+
+        private void writeRow(String[] values) throws IOException {
+            for (int i = 0; i < values.length; i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                writer.write(escape(values[i]));
+            }
+            writer.write("\r\n");
+        }
+
+        private static String escape(String value) {
+            if (value == null) {
+                return "";
+            }
+            if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+                return value;
+            }
+            return '"' + value.replace("\"", "\"\"") + '"';
+        }
+
+        @Override
+        public void flush() throws IOException {
+            writer.flush();
+        }
+    }
+}
@@ -0,0 +1,177 @@
+package com.productivity.dashboard.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.productivity.dashboard.dto.TimeEntryInterval;
+import com.productivity.dashboard.event.TimeEntryChangedEvent;
+import com.productivity.dashboard.event.TimeEntrySnapshot;
+import com.productivity.dashboard.repository.TimeEntryRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per-user interval index over time entry ranges, used to reject overlapping entries without a
+ * range query per insert. A user's tree is built from the database on first use and kept in a
+ * size-bounded Caffeine cache that evicts users not seen for a while; committed creates, stops and
+ * deletes are applied to trees already in the cache. A running timer occupies [start, +infinity).
+ * Writers hold the user's row lock while checking. A write stays pending from the event until its
+ * transaction completes, and a check that sees a pending write reads the user's entries afresh instead.
+ * Metrics: Caffeine's {@code cache.*} meters tagged cache=time-entry-intervals.
+ */
+@Component
+public class TimeEntryIntervalIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(TimeEntryIntervalIndex.class);
+
+    private final TimeEntryRepository timeEntryRepository;
+    private final Cache<Long, UserIntervals> intervalsByUser;
+    // Users with time entry writes whose transaction has not completed, and how many
+    private final ConcurrentHashMap<Long, Integer> pendingWrites = new ConcurrentHashMap<>();
+
+    public TimeEntryIntervalIndex(TimeEntryRepository timeEntryRepository, MeterRegistry meterRegistry,
+                                  @Value("${time.interval-index.max-users:5000}") long maxUsers,
+                                  @Value("${time.interval-index.idle-minutes:30}") long idleMinutes) {
+        this.timeEntryRepository = timeEntryRepository;
+        this.intervalsByUser = Caffeine.newBuilder()
+            .maximumSize(maxUsers)
+            .expireAfterAccess(Duration.ofMinutes(idleMinutes))
+            .recordStats()
+            .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, intervalsByUser, "time-entry-intervals");
+    }
+
+    /**
+     * Ids of up to {@code limit} of the user's entries overlapping [start, end); a null end means open-ended
+     */
+    public List<Long> findOverlaps(Long userId, LocalDateTime start, LocalDateTime end, int limit) {
+        return intervals(userId).findOverlaps(toMillis(start), toMillisOrMax(end), limit);
+    }
+
+    /**
+     * Id of some entry of the user overlapping [start, end), or null when there is none. Exact when the
+     * caller holds the user's row lock: earlier writes have then committed, and any whose index update
+     * is still pending make this read the user's entries from the database.
+     */
+    public Long findAnyOverlap(Long userId, LocalDateTime start, LocalDateTime end) {
+        UserIntervals intervals;
+        if (pendingWrites.containsKey(userId)) {
+            intervals = load(userId);
+            intervalsByUser.put(userId, intervals);
+        } else {
+            intervals = intervals(userId);
+        }
+        return intervals.findAny(toMillis(start), toMillisOrMax(end));
+    }
+
+    /**
+     * Apply the change once its transaction commits, and mark the user as having a pending write until then
+     */
+    @EventListener
+    public void onTimeEntryChanged(TimeEntryChangedEvent event) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply(event);
+            return;
+        }
+        Long userId = event.getUserId();
+        pendingWrites.merge(userId, 1, Integer::sum);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                try {
+                    if (status == STATUS_COMMITTED) {
+                        apply(event);
+                    }
+                } finally {
+                    pendingWrites.computeIfPresent(userId, (id, count) -> count > 1 ? count - 1 : null);
+                }
+            }
+        });
+    }
+
+    private void apply(TimeEntryChangedEvent event) {
+        // Waits for a concurrent load of the same user, and the id-keyed update is idempotent either way
+        intervalsByUser.asMap().computeIfPresent(event.getUserId(), (userId, intervals) -> {
+            TimeEntrySnapshot before = event.getBefore();
+            TimeEntrySnapshot after = event.getAfter();
+            if (before != null) {
+                intervals.remove(before.getEntryId());
+            }
+            if (after != null) {
+                intervals.put(after.getEntryId(), toMillis(after.getStartTime()), toMillisOrMax(after.getEndTime()));
+            }
+            return intervals;
+        });
+    }
+
+    private UserIntervals intervals(Long userId) {
+        return intervalsByUser.get(userId, this::load);
+    }
+
+    private UserIntervals load(Long userId) {
+        long begin = System.nanoTime();
+        UserIntervals intervals = new UserIntervals();
+        for (TimeEntryInterval entry : timeEntryRepository.findIntervalsByUserId(userId)) {
+            intervals.put(entry.getId(), toMillis(entry.getStartTime()), toMillisOrMax(entry.getEndTime()));
+        }
+        logger.debug("Built interval index for user {} with {} entries in {} ms", userId, intervals.size(),
+            (System.nanoTime() - begin) / 1_000_000);
+        return intervals;
+    }
+
+    static long toMillis(LocalDateTime time) {
+        return time.toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+
+    static long toMillisOrMax(LocalDateTime time) {
+        return time != null ? toMillis(time) : Long.MAX_VALUE;
+    }
+
+    /**
+     * One user's tree plus the range of each entry, so updates by id are idempotent
+     */
+    private static final class UserIntervals {
+
+        private final IntervalTree tree = new IntervalTree();
+        private final Map<Long, long[]> rangesById = new HashMap<>();
+
+        synchronized void put(long id, long start, long end) {
+            remove(id);
+            tree.insert(id, start, end);
+            rangesById.put(id, new long[] {start, end});
+        }
+
+        synchronized void remove(long id) {
+            long[] range = rangesById.remove(id);
+            if (range != null) {
+                tree.remove(id, range[0]);
+            }
+        }
+
+        synchronized Long findAny(long start, long end) {
+            return tree.findAny(start, end);
+        }
+
+        synchronized List<Long> findOverlaps(long start, long end, int limit) {
+            return tree.findAll(start, end, limit);
+        }
+
+        synchronized int size() {
+            return tree.size();
+        }
+    }
+}
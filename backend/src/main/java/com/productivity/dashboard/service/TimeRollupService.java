@@ -0,0 +1,37 @@
+package com.productivity.dashboard.service;
+
+import com.productivity.dashboard.dto.TimeEntryDailyDTO;
+import com.productivity.dashboard.event.TimeEntrySnapshot;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Service interface for the incrementally maintained daily time rollup (time_entry_daily)
+ */
+public interface TimeRollupService {
+
+    /**
+     * Apply the difference between two states of a time entry (either side may be null).
+     * Only stopped entries are counted.
+     */
+    void applyChange(TimeEntrySnapshot before, TimeEntrySnapshot after);
+
+    /**
+     * Total minutes a user worked between two instants: whole days come from the rollup,
+     * partial days at either end from the overlapping entries.
+     */
+    long getTotalMinutes(Long userId, LocalDateTime start, LocalDateTime end);
+
+    /**
+     * Per-user, per-day, per-task totals for the given days (inclusive)
+     */
+    List<TimeEntryDailyDTO> getDailyTotals(List<Long> userIds, LocalDate from, LocalDate to);
+
+    /**
+     * Compare the rollup against the time_entries table and optionally repair drifted rows.
+     * Returns the number of users whose rows differed.
+     */
+    int reconcile(boolean repair);
+}
@@ -0,0 +1,237 @@
+package com.productivity.dashboard.service;
+
+import com.productivity.dashboard.dto.TimeEntryDailyDTO;
+import com.productivity.dashboard.dto.TimeEntrySpan;
+import com.productivity.dashboard.event.TimeEntryChangedEvent;
+import com.productivity.dashboard.event.TimeEntrySnapshot;
+import com.productivity.dashboard.model.TimeEntryDaily;
+import com.productivity.dashboard.repository.TimeEntryDailyRepository;
+import com.productivity.dashboard.repository.TimeEntryRepository;
+import com.productivity.dashboard.repository.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Service implementation keeping the time_entry_daily rollup in step with the time_entries table.
+ * Deltas are applied inside the time entry write transaction, so the rollup commits or rolls back with it.
+ */
+@Service
+@Transactional
+public class TimeRollupServiceImpl implements TimeRollupService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TimeRollupServiceImpl.class);
+
+    // Range ends at this time or later cover the rest of the day (the API examples pass 23:59:59)
+    private static final LocalTime END_OF_DAY = LocalTime.of(23, 59, 59);
+
+    @Autowired
+    private TimeEntryDailyRepository dailyRepository;
+
+    @Autowired
+    private TimeEntryRepository timeEntryRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Value("${time.rollup.reconcile-on-startup:true}")
+    private boolean reconcileOnStartup;
+
+    /**
+     * Seed the rollup when the application starts against an existing time_entries table
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void onApplicationReady() {
+        if (reconcileOnStartup) {
+            reconcile(true);
+        }
+    }
+
+    @EventListener
+    public void onTimeEntryChanged(TimeEntryChangedEvent event) {
+        applyChange(event.getBefore(), event.getAfter());
+    }
+
+    @Override
+    public void applyChange(TimeEntrySnapshot before, TimeEntrySnapshot after) {
+        Map<TimeEntryDaily.Key, long[]> deltas = new HashMap<>();
+        if (before != null && !before.isRunning()) {
+            addSpan(deltas, before.getUserId(), before.getTaskId(), before.getStartTime(), before.getEndTime(),
+                    before.getDurationMinutes(), -1);
+        }
+        if (after != null && !after.isRunning()) {
+            addSpan(deltas, after.getUserId(), after.getTaskId(), after.getStartTime(), after.getEndTime(),
+                    after.getDurationMinutes(), 1);
+        }
+
+        for (Map.Entry<TimeEntryDaily.Key, long[]> delta : deltas.entrySet()) {
+            long minutes = delta.getValue()[0];
+            long entries = delta.getValue()[1];
+            if (minutes == 0 && entries == 0) {
+                continue;
+            }
+            TimeEntryDaily.Key key = delta.getKey();
+            if (dailyRepository.applyDelta(key.getUserId(), key.getWorkDate(), key.getTaskId(), minutes, entries) == 0) {
+                // First entry for this user, day and task: create the row, then apply the delta atomically
+                dailyRepository.insertEmptyIfAbsent(key.getUserId(), key.getWorkDate(), key.getTaskId());
+                dailyRepository.applyDelta(key.getUserId(), key.getWorkDate(), key.getTaskId(), minutes, entries);
+            }
+        }
+        logger.debug("Applied {} daily time deltas", deltas.size());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long getTotalMinutes(Long userId, LocalDateTime start, LocalDateTime end) {
+        LocalDateTime endExclusive = end.toLocalTime().isBefore(END_OF_DAY)
+            ? end : end.toLocalDate().plusDays(1).atStartOfDay();
+        if (!endExclusive.isAfter(start)) {
+            return 0;
+        }
+
+        LocalDate firstFullDay = start.toLocalTime().equals(LocalTime.MIDNIGHT)
+            ? start.toLocalDate() : start.toLocalDate().plusDays(1);
+        LocalDate endDay = endExclusive.toLocalDate();
+        if (!firstFullDay.isBefore(endDay)) {
+            return partialMinutes(userId, start, endExclusive);
+        }
+
+        long total = dailyRepository.sumMinutes(userId, firstFullDay, endDay.minusDays(1));
+        if (start.isBefore(firstFullDay.atStartOfDay())) {
+            total += partialMinutes(userId, start, firstFullDay.atStartOfDay());
+        }
+        if (endExclusive.isAfter(endDay.atStartOfDay())) {
+            total += partialMinutes(userId, endDay.atStartOfDay(), endExclusive);
+        }
+        return total;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<TimeEntryDailyDTO> getDailyTotals(List<Long> userIds, LocalDate from, LocalDate to) {
+        return dailyRepository.findByUsersAndDateRange(userIds, from, to).stream()
+            .map(row -> new TimeEntryDailyDTO(row.getUserId(), row.getWorkDate(),
+                                              row.getTaskId() == TimeEntryDaily.NO_TASK ? null : row.getTaskId(),
+                                              row.getMinutes(), row.getEntryCount()))
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * Checks each user against one snapshot, then repairs drifted users in their own short transaction that
+     * takes the user row lock every time entry write takes first. The recount then sees exactly the entries
+     * whose deltas are already in the rollup, and no write can add a delta until the repair commits.
+     */
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public int reconcile(boolean repair) {
+        logger.info("Reconciling daily time rollup (repair: {})", repair);
+
+        Set<Long> userIds = new LinkedHashSet<>(timeEntryRepository.findUserIdsWithStoppedEntries());
+        userIds.addAll(dailyRepository.findUserIds());
+
+        int drifted = 0;
+        int repaired = 0;
+        for (Long userId : userIds) {
+            if (!syncUser(userId, false)) {
+                continue;
+            }
+            drifted++;
+            logger.warn("Daily time rollup drift for user ID: {}", userId);
+            if (repair && Boolean.TRUE.equals(transactionTemplate.execute(status -> {
+                userRepository.findByIdForUpdate(userId);
+                return syncUser(userId, true);
+            }))) {
+                repaired++;
+            }
+        }
+
+        logger.info("Daily time rollup reconciliation finished - {} drifted users, {} repaired", drifted, repaired);
+        return drifted;
+    }
+
+    /**
+     * Recount one user's rollup rows; true when they differed from the stored ones
+     */
+    private boolean syncUser(Long userId, boolean repair) {
+        Map<TimeEntryDaily.Key, long[]> expected = new HashMap<>();
+        for (TimeEntrySpan span : timeEntryRepository.findStoppedSpansByUserId(userId)) {
+            addSpan(expected, userId, span.getTaskId(), span.getStartTime(), span.getEndTime(),
+                    span.getDurationMinutes(), 1);
+        }
+
+        boolean drifted = false;
+        for (TimeEntryDaily stored : dailyRepository.findByUserId(userId)) {
+            long[] counts = expected.remove(stored.getKey());
+            if (counts == null) {
+                if (!stored.isZero()) {
+                    drifted = true;
+                }
+                if (repair) {
+                    dailyRepository.delete(stored);
+                }
+            } else if (stored.getMinutes() != counts[0] || stored.getEntryCount() != counts[1]) {
+                drifted = true;
+                if (repair) {
+                    stored.setMinutes(counts[0]);
+                    stored.setEntryCount(counts[1]);
+                }
+            }
+        }
+        // Whatever is left has no row yet
+        for (Map.Entry<TimeEntryDaily.Key, long[]> missing : expected.entrySet()) {
+            drifted = true;
+            if (repair) {
+                TimeEntryDaily.Key key = missing.getKey();
+                dailyRepository.save(new TimeEntryDaily(key.getUserId(), key.getWorkDate(), key.getTaskId(),
+                                                        missing.getValue()[0], missing.getValue()[1]));
+            }
+        }
+        return drifted;
+    }
+
+    /**
+     * Add (sign = 1) or remove (sign = -1) one stopped entry, split over the days it touches
+     */
+    private static void addSpan(Map<TimeEntryDaily.Key, long[]> deltas, Long userId, Long taskId,
+                                LocalDateTime start, LocalDateTime end, Long durationMinutes, int sign) {
+        long total = durationMinutes != null ? durationMinutes : Duration.between(start, end).toMinutes();
+        Long taskKey = TimeEntryDaily.taskKey(taskId);
+        TimeEntryDaily.minutesByDay(start, end, total).forEach((day, minutes) -> {
+            long[] delta = deltas.computeIfAbsent(new TimeEntryDaily.Key(userId, day, taskKey), key -> new long[2]);
+            delta[0] += sign * minutes;
+            delta[1] += sign;
+        });
+    }
+
+    private long partialMinutes(Long userId, LocalDateTime start, LocalDateTime end) {
+        long minutes = 0;
+        for (TimeEntrySpan span : timeEntryRepository.findStoppedSpansOverlapping(userId, start, end)) {
+            LocalDateTime from = span.getStartTime().isAfter(start) ? span.getStartTime() : start;
+            LocalDateTime to = span.getEndTime().isBefore(end) ? span.getEndTime() : end;
+            minutes += Duration.between(from, to).toMinutes();
+        }
+        return minutes;
+    }
+}
@@ -1,9 +1,12 @@
 package com.productivity.dashboard.service;
 
 import com.productivity.dashboard.dto.TimeEntryDTO;
+import com.productivity.dashboard.dto.TimeEntryDailyDTO;
 import com.productivity.dashboard.dto.TimeEntryRequest;
+import com.productivity.dashboard.dto.TimesheetValidationResult;
 import com.productivity.dashboard.model.User;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 
@@ -32,6 +35,12 @@ public interface TimeTrackingService {
      */
     TimeEntryDTO createManualEntry(User user, TimeEntryRequest request);
     
+    /**
+     * Check manual entries for a timesheet import against each other and the user's existing entries,
+     * without saving anything. With merge, overlapping entries of the same task are combined.
+     */
+    TimesheetValidationResult validateTimesheet(User user, List<TimeEntryRequest> entries, boolean merge);
+    
     /**
      * Get time entries for a user within date range
      */
@@ -47,6 +56,11 @@ public interface TimeTrackingService {
      */
     List<TimeEntryDTO> getTeamTimeEntries(List<Long> userIds, LocalDateTime start, LocalDateTime end);
     
+    /**
+     * Get per-day, per-task minutes for users from the daily rollup (dates inclusive)
+     */
+    List<TimeEntryDailyDTO> getDailyTotals(List<Long> userIds, LocalDate from, LocalDate to);
+    
     /**
      * Delete a time entry
      */
@@ -56,4 +70,10 @@ public interface TimeTrackingService {
      * Get time entries for a specific task
      */
     List<TimeEntryDTO> getTaskTimeEntries(Long taskId);
+    
+    /**
+     * Close up to batchSize running timers started before the cutoff, ending each at start + maxMinutes.
+     * Returns the number of timers closed; 0 means none are left.
+     */
+    int reapStaleTimers(LocalDateTime startedBefore, long maxMinutes, int batchSize);
 }
\ No newline at end of file
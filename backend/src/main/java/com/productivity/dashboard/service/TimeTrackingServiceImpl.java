@@ -1,7 +1,12 @@
 package com.productivity.dashboard.service;
 
+import com.productivity.dashboard.dto.StaleTimer;
 import com.productivity.dashboard.dto.TimeEntryDTO;
+import com.productivity.dashboard.dto.TimeEntryDailyDTO;
 import com.productivity.dashboard.dto.TimeEntryRequest;
+import com.productivity.dashboard.dto.TimesheetValidationResult;
+import com.productivity.dashboard.event.TimeEntryChangedEvent;
+import com.productivity.dashboard.event.TimeEntrySnapshot;
 import com.productivity.dashboard.exception.BadRequestException;
 import com.productivity.dashboard.exception.ForbiddenException;
 import com.productivity.dashboard.exception.NotFoundException;
@@ -14,13 +19,26 @@ import com.productivity.dashboard.repository.UserRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Duration;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.LongPredicate;
 import java.util.stream.Collectors;
 
 /**
@@ -32,6 +50,9 @@ public class TimeTrackingServiceImpl implements TimeTrackingService {
     
     private static final Logger logger = LoggerFactory.getLogger(TimeTrackingServiceImpl.class);
     
+    // Overlaps listed per timesheet entry; the entry is rejected either way
+    private static final int MAX_REPORTED_OVERLAPS = 10;
+    
     @Autowired
     private TimeEntryRepository timeEntryRepository;
     
@@ -44,16 +65,74 @@ public class TimeTrackingServiceImpl implements TimeTrackingService {
     @Autowired
     private ActivityService activityService;
     
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+    
+    @Autowired
+    private RunningTimerRegistry runningTimerRegistry;
+    
+    @Autowired
+    private TimeRollupService timeRollupService;
+    
+    @Autowired
+    private TimeEntryIntervalIndex intervalIndex;
+    
+    @Value("${time.rollup.enabled:true}")
+    private boolean rollupEnabled;
+    
+    @Value("${time.timesheet.max-entries:1000}")
+    private int maxTimesheetEntries;
+    
+    @Value("${time.manual-entry.max-hours:24}")
+    private long maxManualEntryHours;
+    
+    /**
+     * Flag running entries that predate the running_user_id key (newest per user) and seed the cache
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        Map<Long, List<TimeEntry>> runningByUser = new LinkedHashMap<>();
+        for (TimeEntry entry : timeEntryRepository.findAllRunning()) {
+            runningByUser.computeIfAbsent(entry.getUser().getId(), id -> new ArrayList<>()).add(entry);
+        }
+        
+        List<TimeEntryDTO> running = new ArrayList<>();
+        for (Map.Entry<Long, List<TimeEntry>> entries : runningByUser.entrySet()) {
+            Long userId = entries.getKey();
+            // Entries are ordered newest first
+            TimeEntry current = entries.getValue().stream()
+                .filter(entry -> userId.equals(entry.getRunningUserId()))
+                .findFirst()
+                .orElse(entries.getValue().get(0));
+            if (current.getRunningUserId() == null) {
+                current.setRunningUserId(userId);
+            }
+            if (entries.getValue().size() > 1) {
+                logger.warn("User {} has {} entries without an end time; treating {} as the running timer",
+                    userId, entries.getValue().size(), current.getId());
+            }
+            running.add(convertToDTO(current));
+        }
+        runningTimerRegistry.preload(running);
+    }
+    
     @Override
     public TimeEntryDTO startTimer(User user, Long taskId, String description) {
         logger.info("Starting timer for user: {}, task: {}", user.getEmail(), taskId);
         
-        // Check if user already has a running timer
-        Optional<TimeEntry> runningTimer = timeEntryRepository.findRunningTimerByUser(user);
-        if (runningTimer.isPresent()) {
+        // Held until commit, so a concurrent manual entry for this user cannot slip past the overlap check
+        lockUser(user.getId());
+        // Fast path from the cache; the unique running_user_id key below is what actually enforces it
+        if (getRunningTimer(user) != null) {
             logger.warn("User {} already has a running timer", user.getEmail());
             throw new BadRequestException("You already have a running timer. Please stop it first.");
         }
+        LocalDateTime startTime = LocalDateTime.now();
+        Long overlapping = intervalIndex.findAnyOverlap(user.getId(), startTime, null);
+        if (overlapping != null) {
+            logger.warn("Timer for user {} would overlap time entry {}", user.getEmail(), overlapping);
+            throw new BadRequestException("Timer would overlap existing time entry " + overlapping);
+        }
         
         Task task = null;
         if (taskId != null) {
@@ -64,11 +143,18 @@ public class TimeTrackingServiceImpl implements TimeTrackingService {
                 });
         }
         
-        TimeEntry timeEntry = new TimeEntry(user, task, LocalDateTime.now(), description);
+        TimeEntry timeEntry = new TimeEntry(user, task, startTime, description);
         timeEntry.setIsManual(false);
-        TimeEntry saved = timeEntryRepository.save(timeEntry);
+        TimeEntry saved;
+        try {
+            saved = timeEntryRepository.saveAndFlush(timeEntry);
+        } catch (DataIntegrityViolationException e) {
+            logger.warn("User {} started a timer concurrently with another one", user.getEmail());
+            throw new BadRequestException("You already have a running timer. Please stop it first.");
+        }
         
         logger.info("Timer started successfully with ID: {}", saved.getId());
+        eventPublisher.publishEvent(new TimeEntryChangedEvent(null, TimeEntrySnapshot.of(saved)));
         
         // Log activity
         String taskInfo = task != null ? " for task: " + task.getTitle() : "";
@@ -82,12 +168,15 @@ public class TimeTrackingServiceImpl implements TimeTrackingService {
     public TimeEntryDTO stopTimer(User user) {
         logger.info("Stopping timer for user: {}", user.getEmail());
         
-        TimeEntry timeEntry = timeEntryRepository.findRunningTimerByUser(user)
+        // Locked, so the reaper cannot close the timer between this read and the update below
+        lockUser(user.getId());
+        TimeEntry timeEntry = timeEntryRepository.findRunningTimerByUserIdForUpdate(user.getId())
             .orElseThrow(() -> {
                 logger.warn("No running timer found for user: {}", user.getEmail());
                 return new NotFoundException("No running timer found");
             });
         
+        TimeEntrySnapshot before = TimeEntrySnapshot.of(timeEntry);
         LocalDateTime endTime = LocalDateTime.now();
         timeEntry.setEndTime(endTime);
         
@@ -97,6 +186,7 @@ public class TimeTrackingServiceImpl implements TimeTrackingService {
         
         TimeEntry saved = timeEntryRepository.save(timeEntry);
         logger.info("Timer stopped. Duration: {} minutes", saved.getDurationMinutes());
+        eventPublisher.publishEvent(new TimeEntryChangedEvent(before, TimeEntrySnapshot.of(saved)));
         
         // Log activity
         String taskInfo = timeEntry.getTask() != null ? " for task: " + timeEntry.getTask().getTitle() : "";
@@ -106,27 +196,35 @@ public class TimeTrackingServiceImpl implements TimeTrackingService {
         return convertToDTO(saved);
     }
     
+    /**
+     * Served from the running timer cache; SUPPORTS keeps a cache hit from checking out a connection
+     */
     @Override
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public TimeEntryDTO getRunningTimer(User user) {
         logger.debug("Checking for running timer for user: {}", user.getEmail());
         
-        Optional<TimeEntry> runningTimer = timeEntryRepository.findRunningTimerByUser(user);
-        return runningTimer.map(this::convertToDTO).orElse(null);
+        return runningTimerRegistry.get(user.getId(),
+                () -> timeEntryRepository.findRunningTimerByUserId(user.getId()).map(this::convertToDTO))
+            .orElse(null);
     }
     
     @Override
     public TimeEntryDTO createManualEntry(User user, TimeEntryRequest request) {
         logger.info("Creating manual time entry for user: {}", user.getEmail());
         
-        if (request.getStartTime() == null || request.getEndTime() == null) {
-            logger.error("Start time and end time are required for manual entry");
-            throw new BadRequestException("Start time and end time are required");
+        String rangeError = rangeError(request);
+        if (rangeError != null) {
+            logger.error("Invalid manual entry: {}", rangeError);
+            throw new BadRequestException(rangeError);
         }
         
-        if (request.getEndTime().isBefore(request.getStartTime())) {
-            logger.error("End time cannot be before start time");
-            throw new BadRequestException("End time cannot be before start time");
+        // Held until commit, so a concurrent entry or timer start for this user cannot slip past the check
+        lockUser(user.getId());
+        Long overlapping = intervalIndex.findAnyOverlap(user.getId(), request.getStartTime(), request.getEndTime());
+        if (overlapping != null) {
+            logger.warn("Manual entry for user {} overlaps time entry {}", user.getEmail(), overlapping);
+            throw new BadRequestException("Time entry overlaps existing time entry " + overlapping);
         }
         
         Task task = null;
@@ -146,6 +244,7 @@ public class TimeTrackingServiceImpl implements TimeTrackingService {
         TimeEntry saved = timeEntryRepository.save(timeEntry);
         logger.info("Manual time entry created with ID: {}, duration: {} minutes", 
             saved.getId(), saved.getDurationMinutes());
+        eventPublisher.publishEvent(new TimeEntryChangedEvent(null, TimeEntrySnapshot.of(saved)));
         
         // Log activity
         activityService.logActivity(user, "TIME_ENTRY_CREATED", "TimeEntry", saved.getId(), 
@@ -154,6 +253,65 @@ public class TimeTrackingServiceImpl implements TimeTrackingService {
         return convertToDTO(saved);
     }
     
+    @Override
+    @Transactional(readOnly = true)
+    public TimesheetValidationResult validateTimesheet(User user, List<TimeEntryRequest> entries, boolean merge) {
+        logger.info("Validating {} timesheet entries for user: {} (merge: {})", entries.size(), user.getEmail(), merge);
+        
+        if (entries.size() > maxTimesheetEntries) {
+            throw new BadRequestException("A timesheet can contain at most " + maxTimesheetEntries + " entries");
+        }
+        
+        // Entries of this request go into their own tree, keyed by their index
+        IntervalTree batch = new IntervalTree();
+        List<TimesheetValidationResult.EntryResult> results = new ArrayList<>();
+        for (int i = 0; i < entries.size(); i++) {
+            TimeEntryRequest entry = entries.get(i);
+            TimesheetValidationResult.EntryResult result = new TimesheetValidationResult.EntryResult(i);
+            results.add(result);
+            result.setError(rangeError(entry));
+            if (result.getError() != null) {
+                continue;
+            }
+            
+            result.setOverlappingEntryIds(intervalIndex.findOverlaps(user.getId(), entry.getStartTime(),
+                entry.getEndTime(), MAX_REPORTED_OVERLAPS));
+            long start = TimeEntryIntervalIndex.toMillis(entry.getStartTime());
+            long end = TimeEntryIntervalIndex.toMillis(entry.getEndTime());
+            // With merge, same-task overlaps are combined rather than reported, so skip them inside the walk
+            // where they do not use up the limit
+            LongPredicate conflicts = other -> !merge || !Objects.equals(entries.get((int) other).getTaskId(),
+                                                                         entry.getTaskId());
+            for (Long other : batch.findAll(start, end, MAX_REPORTED_OVERLAPS, conflicts)) {
+                int j = other.intValue();
+                result.getOverlappingIndexes().add(j);
+                results.get(j).getOverlappingIndexes().add(i);
+            }
+            batch.insert(i, start, end);
+        }
+        
+        TimesheetValidationResult validation = new TimesheetValidationResult();
+        for (TimesheetValidationResult.EntryResult result : results) {
+            result.setValid(result.getError() == null && result.getOverlappingEntryIds().isEmpty()
+                && result.getOverlappingIndexes().isEmpty());
+        }
+        validation.setEntries(results);
+        validation.setValid(results.stream().allMatch(TimesheetValidationResult.EntryResult::isValid));
+        if (merge) {
+            List<TimeEntryRequest> valid = new ArrayList<>();
+            for (TimesheetValidationResult.EntryResult result : results) {
+                if (result.isValid()) {
+                    valid.add(entries.get(result.getIndex()));
+                }
+            }
+            validation.setMerged(mergeOverlapping(valid));
+        }
+        
+        logger.info("Timesheet validation finished - {} of {} entries valid", 
+            results.stream().filter(TimesheetValidationResult.EntryResult::isValid).count(), entries.size());
+        return validation;
+    }
+    
     @Override
     @Transactional(readOnly = true)
     public List<TimeEntryDTO> getUserTimeEntries(Long userId, LocalDateTime start, LocalDateTime end) {
@@ -178,8 +336,13 @@ public class TimeTrackingServiceImpl implements TimeTrackingService {
         User user = userRepository.findById(userId)
             .orElseThrow(() -> new NotFoundException("User not found"));
         
-        Long totalMinutes = timeEntryRepository.getTotalMinutesByUserAndDateRange(user, start, end);
-        totalMinutes = totalMinutes != null ? totalMinutes : 0L;
+        Long totalMinutes;
+        if (rollupEnabled) {
+            totalMinutes = timeRollupService.getTotalMinutes(userId, start, end);
+        } else {
+            totalMinutes = timeEntryRepository.getTotalMinutesByUserAndDateRange(user, start, end);
+            totalMinutes = totalMinutes != null ? totalMinutes : 0L;
+        }
         
         logger.debug("User {} worked {} minutes ({} hours)", userId, totalMinutes, totalMinutes / 60.0);
         return totalMinutes;
@@ -198,11 +361,28 @@ public class TimeTrackingServiceImpl implements TimeTrackingService {
             .collect(Collectors.toList());
     }
     
+    @Override
+    @Transactional(readOnly = true)
+    public List<TimeEntryDailyDTO> getDailyTotals(List<Long> userIds, LocalDate from, LocalDate to) {
+        logger.info("Fetching daily time totals for {} users between {} and {}", userIds.size(), from, to);
+        
+        if (to.isBefore(from)) {
+            throw new BadRequestException("End date cannot be before start date");
+        }
+        
+        List<TimeEntryDailyDTO> totals = timeRollupService.getDailyTotals(userIds, from, to);
+        logger.debug("Found {} daily time rows", totals.size());
+        return totals;
+    }
+    
     @Override
     public void deleteTimeEntry(Long id, User user) {
         logger.info("Deleting time entry: {} by user: {}", id, user.getEmail());
         
-        TimeEntry timeEntry = timeEntryRepository.findById(id)
+        Long ownerId = timeEntryRepository.findUserIdById(id)
+            .orElseThrow(() -> new NotFoundException("Time entry not found"));
+        lockUser(ownerId);
+        TimeEntry timeEntry = timeEntryRepository.findByIdForUpdate(id)
             .orElseThrow(() -> new NotFoundException("Time entry not found"));
         
         // Check if user owns this time entry or is a manager
@@ -213,8 +393,10 @@ public class TimeTrackingServiceImpl implements TimeTrackingService {
             throw new ForbiddenException("You can only delete your own time entries");
         }
         
+        TimeEntrySnapshot before = TimeEntrySnapshot.of(timeEntry);
         timeEntryRepository.delete(timeEntry);
         logger.info("Time entry {} deleted successfully", id);
+        eventPublisher.publishEvent(new TimeEntryChangedEvent(before, null));
         
         // Log activity
         activityService.logActivity(user, "TIME_ENTRY_DELETED", "TimeEntry", id, 
@@ -234,6 +416,105 @@ public class TimeTrackingServiceImpl implements TimeTrackingService {
             .collect(Collectors.toList());
     }
     
+    @Override
+    public int reapStaleTimers(LocalDateTime startedBefore, long maxMinutes, int batchSize) {
+        List<StaleTimer> candidates = timeEntryRepository.findStaleRunning(startedBefore, PageRequest.of(0, batchSize));
+        if (candidates.isEmpty()) {
+            return 0;
+        }
+        
+        // Same lock order as the request paths: users first, then their timers. Timers stopped before the
+        // locks were taken drop out of the locked re-read.
+        userRepository.findAllByIdForUpdate(candidates.stream().map(StaleTimer::getUserId).collect(Collectors.toSet()));
+        List<StaleTimer> stale = timeEntryRepository.findRunningByIdsForUpdate(
+            candidates.stream().map(StaleTimer::getId).collect(Collectors.toList()));
+        if (stale.isEmpty()) {
+            return 0;
+        }
+        
+        List<Long> ids = stale.stream().map(StaleTimer::getId).collect(Collectors.toList());
+        int closed = timeEntryRepository.closeRunning(ids, maxMinutes, LocalDateTime.now());
+        if (closed != ids.size()) {
+            // The rows are locked, so this cannot happen; roll back rather than publish wrong deltas
+            throw new IllegalStateException("Closed " + closed + " of " + ids.size() + " stale timers");
+        }
+        
+        List<ActivityLogWriter.Entry> activities = new ArrayList<>(stale.size());
+        for (StaleTimer timer : stale) {
+            TimeEntrySnapshot before = new TimeEntrySnapshot(timer.getId(), timer.getUserId(), timer.getTaskId(),
+                timer.getStartTime(), null, null, false);
+            TimeEntrySnapshot after = new TimeEntrySnapshot(timer.getId(), timer.getUserId(), timer.getTaskId(),
+                timer.getStartTime(), timer.getStartTime().plusMinutes(maxMinutes), maxMinutes, false);
+            eventPublisher.publishEvent(new TimeEntryChangedEvent(before, after));
+            activities.add(new ActivityLogWriter.Entry(timer.getUserId(), "TIMER_AUTO_STOPPED", "TimeEntry",
+                timer.getId(), "Timer stopped automatically after " + maxMinutes + " minutes"));
+        }
+        activityService.logActivities(activities);
+        
+        logger.info("Auto-stopped {} timers started before {}", closed, startedBefore);
+        return closed;
+    }
+    
+    /**
+     * Serialize time entry writes per user: the overlap check, the running timer and the rollup repair all
+     * rely on no other write for the same user being in flight. Take it before reading the user's entries.
+     */
+    private void lockUser(Long userId) {
+        userRepository.findByIdForUpdate(userId)
+            .orElseThrow(() -> new NotFoundException("User not found"));
+    }
+    
+    private String rangeError(TimeEntryRequest request) {
+        if (request.getStartTime() == null || request.getEndTime() == null) {
+            return "Start time and end time are required";
+        }
+        if (request.getEndTime().isBefore(request.getStartTime())) {
+            return "End time cannot be before start time";
+        }
+        // Rollups split an entry over every day and hour it touches, so its reach has to stay bounded
+        if (request.getStartTime().isAfter(LocalDateTime.now())) {
+            return "Start time cannot be in the future";
+        }
+        Duration span = Duration.between(request.getStartTime(), request.getEndTime());
+        if (span.compareTo(Duration.ofHours(maxManualEntryHours)) > 0) {
+            return "A time entry can span at most " + maxManualEntryHours + " hours";
+        }
+        return null;
+    }
+    
+    /**
+     * Combine overlapping entries of the same task into one, in start order
+     */
+    private static List<TimeEntryRequest> mergeOverlapping(List<TimeEntryRequest> entries) {
+        List<TimeEntryRequest> sorted = new ArrayList<>(entries);
+        sorted.sort(Comparator.comparing(TimeEntryRequest::getStartTime));
+        
+        List<TimeEntryRequest> merged = new ArrayList<>();
+        Map<Long, TimeEntryRequest> openByTask = new LinkedHashMap<>();
+        for (TimeEntryRequest entry : sorted) {
+            TimeEntryRequest open = openByTask.get(entry.getTaskId());
+            if (open != null && entry.getStartTime().isBefore(open.getEndTime())) {
+                if (entry.getEndTime().isAfter(open.getEndTime())) {
+                    open.setEndTime(entry.getEndTime());
+                }
+                if (entry.getDescription() != null && !entry.getDescription().equals(open.getDescription())) {
+                    open.setDescription(open.getDescription() == null
+                        ? entry.getDescription() : open.getDescription() + "; " + entry.getDescription());
+                }
+                continue;
+            }
+            TimeEntryRequest copy = new TimeEntryRequest();
+            copy.setTaskId(entry.getTaskId());
+            copy.setStartTime(entry.getStartTime());
+            copy.setEndTime(entry.getEndTime());
+            copy.setDescription(entry.getDescription());
+            copy.setIsManual(true);
+            merged.add(copy);
+            openByTask.put(entry.getTaskId(), copy);
+        }
+        return merged;
+    }
+    
     private TimeEntryDTO convertToDTO(TimeEntry entry) {
         TimeEntryDTO dto = new TimeEntryDTO();
         dto.setId(entry.getId());
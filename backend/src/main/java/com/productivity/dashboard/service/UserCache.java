@@ -0,0 +1,108 @@
+package com.productivity.dashboard.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.productivity.dashboard.model.User;
+import com.productivity.dashboard.repository.UserRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Size-bounded, TTL-based cache of users by id, with an email to id index, in front of UserRepository.
+ * Caffeine's W-TinyLFU admission keeps frequently seen users resident under pressure.
+ * Callers receive a detached copy, so nothing they do can change the cached instance.
+ * Metrics: Caffeine's {@code cache.*} meters tagged cache=users, plus {@code user.cache.hit.ratio}.
+ */
+@Component
+public class UserCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(UserCache.class);
+
+    private final UserRepository userRepository;
+    private final Cache<Long, User> usersById;
+    private final Cache<String, Long> idsByEmail;
+
+    public UserCache(UserRepository userRepository, MeterRegistry meterRegistry,
+                     @Value("${user.cache.max-size:10000}") long maxSize,
+                     @Value("${user.cache.ttl-seconds:300}") long ttlSeconds) {
+        this.userRepository = userRepository;
+        this.usersById = Caffeine.newBuilder()
+            .maximumSize(maxSize)
+            .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+            .recordStats()
+            .build();
+        this.idsByEmail = Caffeine.newBuilder()
+            .maximumSize(maxSize)
+            .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+            .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, usersById, "users");
+        Gauge.builder("user.cache.hit.ratio", usersById, cache -> cache.stats().hitRate())
+            .description("Share of user lookups served from the cache")
+            .register(meterRegistry);
+    }
+
+    public Optional<User> findById(Long id) {
+        if (id == null) {
+            return Optional.empty();
+        }
+        // Misses are not cached, so a user created later is found on the next lookup
+        User cached = usersById.get(id, key -> userRepository.findById(key).map(UserCache::copy).orElse(null));
+        return Optional.ofNullable(cached).map(UserCache::copy);
+    }
+
+    public Optional<User> findByEmail(String email) {
+        if (email == null) {
+            return Optional.empty();
+        }
+        Long id = idsByEmail.getIfPresent(email);
+        if (id != null) {
+            Optional<User> user = findById(id);
+            if (user.isPresent() && email.equals(user.get().getEmail())) {
+                return user;
+            }
+            idsByEmail.invalidate(email);
+        }
+        Optional<User> user = userRepository.findByEmail(email);
+        user.ifPresent(found -> {
+            usersById.put(found.getId(), copy(found));
+            idsByEmail.put(email, found.getId());
+        });
+        return user.map(UserCache::copy);
+    }
+
+    /**
+     * Drop a user after a write so the next lookup sees the committed row
+     */
+    public void evict(Long id) {
+        User cached = usersById.getIfPresent(id);
+        usersById.invalidate(id);
+        if (cached != null) {
+            idsByEmail.invalidate(cached.getEmail());
+        }
+        logger.debug("Evicted user ID: {} from user cache", id);
+    }
+
+    public void evictEmail(String email) {
+        Long id = idsByEmail.getIfPresent(email);
+        idsByEmail.invalidate(email);
+        if (id != null) {
+            usersById.invalidate(id);
+        }
+    }
+
+    private static User copy(User user) {
+        User copy = new User(user.getName(), user.getEmail(), user.getPassword(), user.getRole());
+        copy.setId(user.getId());
+        copy.setCreatedAt(user.getCreatedAt());
+        copy.setTokenVersion(user.getTokenVersion());
+        return copy;
+    }
+}
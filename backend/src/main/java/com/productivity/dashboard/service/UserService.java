@@ -1,5 +1,6 @@
 package com.productivity.dashboard.service;
 
+import com.productivity.dashboard.model.Role;
 import com.productivity.dashboard.model.User;
 
 import java.util.List;
@@ -11,4 +12,9 @@ public interface UserService {
     User getUserById(Long id);
     
     User getUserByEmail(String email);
+    
+    /**
+     * Change a user's role and revoke every token issued to them
+     */
+    User updateUserRole(Long id, Role role);
 }
\ No newline at end of file
@@ -1,19 +1,37 @@
 package com.productivity.dashboard.service;
 
+import com.productivity.dashboard.config.TokenVersionRegistry;
 import com.productivity.dashboard.exception.NotFoundException;
+import com.productivity.dashboard.model.Role;
 import com.productivity.dashboard.model.User;
 import com.productivity.dashboard.repository.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.List;
 
 @Service
 public class UserServiceImpl implements UserService {
     
+    private static final Logger logger = LoggerFactory.getLogger(UserServiceImpl.class);
+    
     @Autowired
     private UserRepository userRepository;
     
+    @Autowired
+    private UserCache userCache;
+    
+    @Autowired
+    private TokenVersionRegistry tokenVersionRegistry;
+    
+    @Autowired
+    private ActivityService activityService;
+    
     @Override
     public List<User> getAllUsers() {
         return userRepository.findAll();
@@ -21,13 +39,38 @@ public class UserServiceImpl implements UserService {
     
     @Override
     public User getUserById(Long id) {
-        return userRepository.findById(id)
+        return userCache.findById(id)
             .orElseThrow(() -> new NotFoundException("User not found with id: " + id));
     }
     
     @Override
     public User getUserByEmail(String email) {
-        return userRepository.findByEmail(email)
+        return userCache.findByEmail(email)
             .orElseThrow(() -> new NotFoundException("User not found with email: " + email));
     }
-}
\ No newline at end of file
+    
+    @Override
+    @Transactional
+    public User updateUserRole(Long id, Role role) {
+        User user = userRepository.findById(id)
+            .orElseThrow(() -> new NotFoundException("User not found with id: " + id));
+        Role previous = user.getRole();
+        long version = (user.getTokenVersion() != null ? user.getTokenVersion() : 0L) + 1;
+        user.setRole(role);
+        user.setTokenVersion(version);
+        User saved = userRepository.save(user);
+        logger.info("Role of user {} changed from {} to {}", saved.getEmail(), previous, role);
+        
+        // Publish the new version only once it is committed, so a rollback cannot lock the user out
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                tokenVersionRegistry.update(id, version);
+            }
+        });
+        
+        activityService.logActivity(saved, "ROLE_CHANGED", "User", saved.getId(),
+            "Role changed from " + previous + " to " + role);
+        return saved;
+    }
+}
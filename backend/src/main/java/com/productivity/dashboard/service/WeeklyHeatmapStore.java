@@ -0,0 +1,265 @@
+package com.productivity.dashboard.service;
+
+import com.productivity.dashboard.dto.WeeklyHeatmapDTO;
+import com.productivity.dashboard.event.TimeEntryChangedEvent;
+import com.productivity.dashboard.event.TimeEntrySnapshot;
+import com.productivity.dashboard.exception.BadRequestException;
+import com.productivity.dashboard.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.sql.Timestamp;
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * In-memory store of tracked minutes per user and hour of the week, backing the weekly heatmap.
+ * Each (user, week) with tracked time is one {@code int[168]} of minutes, keyed by a packed long, and only the
+ * last {@code weeks-retained} weeks are kept. The store is rebuilt at startup in one streaming pass over
+ * stopped time entries and then kept current from committed time entry events. Events arriving during the
+ * rebuild are held back; afterwards each changed entry's row as the rebuild applied it is swapped for its
+ * latest state.
+ */
+@Component
+public class WeeklyHeatmapStore {
+
+    private static final Logger logger = LoggerFactory.getLogger(WeeklyHeatmapStore.class);
+
+    public static final int HOURS_PER_WEEK = 168;
+
+    private static final LocalDate EPOCH_MONDAY = LocalDate.of(1970, 1, 5);
+    // Weeks since EPOCH_MONDAY fit in the low 16 bits until the year 3226
+    private static final int WEEK_BITS = 16;
+    private static final long WEEK_MASK = (1L << WEEK_BITS) - 1;
+
+    private static final String SELECT_SQL =
+        "SELECT id, user_id, start_time, end_time, duration_minutes FROM time_entries " +
+        "WHERE end_time IS NOT NULL AND end_time > ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int weeksRetained;
+    private final int maxUsers;
+    private final long readyTimeoutSeconds;
+
+    private final ConcurrentHashMap<Long, int[]> minutesByUserWeek = new ConcurrentHashMap<>();
+    private final CountDownLatch ready = new CountDownLatch(1);
+    private final Object buildLock = new Object();
+    // Latest state (null when deleted) of entries changed before the rebuild finished; null once it has
+    private Map<Long, TimeEntrySnapshot> changedDuringBuild = new HashMap<>();
+    private volatile long oldestWeek;
+
+    public WeeklyHeatmapStore(JdbcTemplate jdbcTemplate, MeterRegistry meterRegistry,
+                              @Value("${analytics.heatmap.weeks-retained:12}") int weeksRetained,
+                              @Value("${analytics.heatmap.max-users:500}") int maxUsers,
+                              @Value("${analytics.heatmap.fetch-size:1000}") int fetchSize,
+                              @Value("${analytics.heatmap.ready-timeout-seconds:10}") long readyTimeoutSeconds) {
+        // Own template so the fetch size does not leak into other queries
+        this.jdbcTemplate = new JdbcTemplate(jdbcTemplate.getDataSource());
+        this.jdbcTemplate.setFetchSize(fetchSize);
+        this.weeksRetained = Math.max(1, weeksRetained);
+        this.maxUsers = Math.max(1, maxUsers);
+        this.readyTimeoutSeconds = readyTimeoutSeconds;
+        this.oldestWeek = currentWeek() - this.weeksRetained + 1;
+        Gauge.builder("analytics.heatmap.user.weeks", minutesByUserWeek, Map::size)
+            .description("User-weeks held by the weekly heatmap store")
+            .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    /**
+     * Heatmaps for the given users summed over {@code weeks} weeks, starting with the week containing {@code from}
+     */
+    public List<WeeklyHeatmapDTO> getHeatmaps(List<Long> userIds, LocalDate from, int weeks) {
+        if (userIds == null || userIds.isEmpty()) {
+            throw new BadRequestException("At least one user is required");
+        }
+        if (userIds.size() > maxUsers) {
+            throw new BadRequestException("A heatmap can cover at most " + maxUsers + " users");
+        }
+        if (weeks < 1 || weeks > weeksRetained) {
+            throw new BadRequestException("Weeks must be between 1 and " + weeksRetained);
+        }
+        advanceWindow();
+        LocalDate weekStart = from.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+        long firstWeek = weekOf(weekStart);
+        if (firstWeek < oldestWeek) {
+            throw new BadRequestException("Heatmap data is kept for the last " + weeksRetained + " weeks only");
+        }
+        awaitReady();
+
+        List<WeeklyHeatmapDTO> heatmaps = new ArrayList<>(userIds.size());
+        for (Long userId : userIds) {
+            int[] total = new int[HOURS_PER_WEEK];
+            for (long week = firstWeek; week < firstWeek + weeks; week++) {
+                int[] minutes = minutesByUserWeek.get(key(userId, week));
+                if (minutes != null) {
+                    synchronized (minutes) {
+                        for (int slot = 0; slot < HOURS_PER_WEEK; slot++) {
+                            total[slot] += minutes[slot];
+                        }
+                    }
+                }
+            }
+            heatmaps.add(new WeeklyHeatmapDTO(userId, weekStart, weeks, total));
+        }
+        return heatmaps;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTimeEntryChanged(TimeEntryChangedEvent event) {
+        TimeEntrySnapshot before = event.getBefore();
+        TimeEntrySnapshot after = event.getAfter();
+        synchronized (buildLock) {
+            if (changedDuringBuild != null) {
+                changedDuringBuild.put(before != null ? before.getEntryId() : after.getEntryId(), after);
+                return;
+            }
+        }
+        advanceWindow();
+        if (before != null && !before.isRunning()) {
+            add(before, -1);
+        }
+        if (after != null && !after.isRunning()) {
+            add(after, 1);
+        }
+    }
+
+    private void rebuild() {
+        long begin = System.nanoTime();
+        LocalDateTime windowStart = EPOCH_MONDAY.plusWeeks(oldestWeek).atStartOfDay();
+        // A row may be read before or after a change to it commits, so keep what was applied to undo it exactly
+        Map<Long, TimeEntrySnapshot> applied = new HashMap<>();
+        jdbcTemplate.query(SELECT_SQL, (RowCallbackHandler) rs -> {
+            long id = rs.getLong("id");
+            LocalDateTime start = rs.getTimestamp("start_time").toLocalDateTime();
+            LocalDateTime end = rs.getTimestamp("end_time").toLocalDateTime();
+            Long minutes = rs.getObject("duration_minutes") != null ? rs.getLong("duration_minutes") : null;
+            TimeEntrySnapshot entry = new TimeEntrySnapshot(id, rs.getLong("user_id"), null, start, end, minutes, false);
+            add(entry, 1);
+            applied.put(id, entry);
+        }, Timestamp.valueOf(windowStart));
+
+        int replayed;
+        synchronized (buildLock) {
+            replayed = changedDuringBuild.size();
+            for (Map.Entry<Long, TimeEntrySnapshot> change : changedDuringBuild.entrySet()) {
+                TimeEntrySnapshot before = applied.get(change.getKey());
+                TimeEntrySnapshot after = change.getValue();
+                if (before != null) {
+                    add(before, -1);
+                }
+                if (after != null && !after.isRunning()) {
+                    add(after, 1);
+                }
+            }
+            changedDuringBuild = null;
+        }
+        ready.countDown();
+        logger.info("Weekly heatmap store built - {} entries, {} changed during the build, {} user-weeks in {} ms",
+            applied.size(), replayed, minutesByUserWeek.size(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - begin));
+    }
+
+    private void awaitReady() {
+        try {
+            if (ready.await(readyTimeoutSeconds, TimeUnit.SECONDS)) {
+                return;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        throw new TooManyRequestsException("Heatmap data is still loading, please try again shortly", 5);
+    }
+
+    /**
+     * Drop weeks that fell out of the retention window once a new week starts
+     */
+    private void advanceWindow() {
+        long oldest = currentWeek() - weeksRetained + 1;
+        if (oldest > oldestWeek) {
+            oldestWeek = oldest;
+            minutesByUserWeek.keySet().removeIf(key -> (key & WEEK_MASK) < oldest);
+        }
+    }
+
+    private void add(TimeEntrySnapshot entry, int sign) {
+        long minutes = entry.getDurationMinutes() != null
+            ? entry.getDurationMinutes() : Duration.between(entry.getStartTime(), entry.getEndTime()).toMinutes();
+        add(entry.getUserId(), entry.getStartTime(), entry.getEndTime(), minutes, sign);
+    }
+
+    /**
+     * Add (sign = 1) or remove (sign = -1) one stopped entry. Each hour gets the whole minutes elapsed up to
+     * its end, so the parts add up to {@code totalMinutes}, the same split the daily rollup uses.
+     */
+    private void add(Long userId, LocalDateTime start, LocalDateTime end, long totalMinutes, int sign) {
+        LocalDateTime hour = start.truncatedTo(ChronoUnit.HOURS);
+        LocalDateTime windowStart = EPOCH_MONDAY.plusWeeks(oldestWeek).atStartOfDay();
+        long allocated = 0;
+        if (hour.isBefore(windowStart)) {
+            // Skip the hours before the window instead of walking through them
+            hour = windowStart;
+            allocated = Math.min(Math.max(Duration.between(start, windowStart).toMinutes(), 0), totalMinutes);
+        }
+        // Manual entries start in the past and are bounded in length, so nothing legitimate reaches past next week
+        LocalDateTime horizon = EPOCH_MONDAY.plusWeeks(currentWeek() + 2).atStartOfDay();
+        while (hour.isBefore(horizon)) {
+            LocalDateTime next = hour.plusHours(1);
+            boolean last = !next.isBefore(end);
+            long elapsed = last ? totalMinutes : Math.min(Duration.between(start, next).toMinutes(), totalMinutes);
+            addToSlot(userId, hour, sign * (elapsed - allocated));
+            allocated = elapsed;
+            if (last) {
+                return;
+            }
+            hour = next;
+        }
+    }
+
+    private void addToSlot(Long userId, LocalDateTime hour, long minutes) {
+        long week = weekOf(hour.toLocalDate());
+        if (minutes == 0 || week < oldestWeek || week > currentWeek() + 1) {
+            return;
+        }
+        int slot = (hour.getDayOfWeek().getValue() - 1) * 24 + hour.getHour();
+        int[] slots = minutesByUserWeek.computeIfAbsent(key(userId, week), key -> new int[HOURS_PER_WEEK]);
+        synchronized (slots) {
+            slots[slot] += (int) minutes;
+        }
+    }
+
+    private static long key(Long userId, long week) {
+        return (userId << WEEK_BITS) | week;
+    }
+
+    private static long weekOf(LocalDate date) {
+        return Math.floorDiv(ChronoUnit.DAYS.between(EPOCH_MONDAY, date), 7);
+    }
+
+    private static long currentWeek() {
+        return weekOf(LocalDate.now());
+    }
+}
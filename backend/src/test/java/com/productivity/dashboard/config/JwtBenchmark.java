@@ -0,0 +1,78 @@
+package com.productivity.dashboard.config;
+
+import com.productivity.dashboard.model.Role;
+import com.productivity.dashboard.model.User;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token handling per authenticated request: the filter's former three parses, each deriving the key
+ * and building a parser, against the single verifying parse through the shared parser.
+ * Run with {@code mvn -Pbenchmark test-compile exec:exec -Djmh.include=JwtBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtBenchmark {
+
+    private static final String SECRET = "benchmarkSecretKeyForJWTTokenGenerationMustBeLongEnoughForHS256";
+
+    private JwtUtil jwtUtil;
+
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "SECRET_KEY", SECRET);
+        ReflectionTestUtils.setField(jwtUtil, "JWT_EXPIRATION", 3_600_000L);
+        jwtUtil.init();
+        User user = new User("Bench", "bench@example.com", "x", Role.EMPLOYEE);
+        user.setId(1L);
+        token = jwtUtil.generateToken(user);
+    }
+
+    /**
+     * extractEmail, then validateToken's own extractEmail and isTokenExpired
+     */
+    @Benchmark
+    public void parsePerClaim(Blackhole blackhole) {
+        String email = parseWithFreshKey(token).getSubject();
+        boolean valid = email.equals(parseWithFreshKey(token).getSubject())
+            && !parseWithFreshKey(token).getExpiration().before(new Date());
+        blackhole.consume(valid);
+    }
+
+    @Benchmark
+    public void parseOnce(Blackhole blackhole) {
+        blackhole.consume(jwtUtil.parseVerifiedClaims(token).orElseThrow().getSubject());
+    }
+
+    private static Claims parseWithFreshKey(String token) {
+        return Jwts.parser()
+            .verifyWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)))
+            .build()
+            .parseSignedClaims(token)
+            .getPayload();
+    }
+}
@@ -0,0 +1,59 @@
+package com.productivity.dashboard.config;
+
+import com.productivity.dashboard.model.Role;
+import com.productivity.dashboard.model.User;
+import io.jsonwebtoken.Claims;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The shared parser verifies signature and expiration in the one parse every request goes through
+ */
+class JwtUtilTest {
+
+    private static final String SECRET = "testSecretKeyForJWTTokenGenerationMustBeLongEnoughForHS256";
+
+    @Test
+    void verifiedClaimsCarryTheIdentity() {
+        JwtUtil jwtUtil = jwtUtil(SECRET, 60_000);
+        String token = jwtUtil.generateToken(user());
+
+        Claims claims = jwtUtil.parseVerifiedClaims(token).orElseThrow();
+        assertThat(claims.getSubject()).isEqualTo("jwt@example.com");
+        assertThat(claims.get(UserPrincipal.CLAIM_USER_ID, Long.class)).isEqualTo(42L);
+        assertThat(claims.get(UserPrincipal.CLAIM_ROLE, String.class)).isEqualTo("MANAGER");
+        assertThat(jwtUtil.validateToken(token, "jwt@example.com")).isTrue();
+        assertThat(jwtUtil.validateToken(token, "other@example.com")).isFalse();
+    }
+
+    @Test
+    void rejectsForeignTamperedAndExpiredTokens() {
+        JwtUtil jwtUtil = jwtUtil(SECRET, 60_000);
+        String foreign = jwtUtil(SECRET + "-other", 60_000).generateToken(user());
+        String token = jwtUtil.generateToken(user());
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("AA") ? "BB" : "AA");
+        String expired = jwtUtil(SECRET, -1_000).generateToken(user());
+
+        assertThat(jwtUtil.parseVerifiedClaims(foreign)).isEmpty();
+        assertThat(jwtUtil.parseVerifiedClaims(tampered)).isEmpty();
+        assertThat(jwtUtil.parseVerifiedClaims(expired)).isEmpty();
+        assertThat(jwtUtil.parseVerifiedClaims("not.a.token")).isEmpty();
+        assertThat(jwtUtil.validateToken(expired)).isFalse();
+    }
+
+    private static JwtUtil jwtUtil(String secret, long expirationMillis) {
+        JwtUtil jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "SECRET_KEY", secret);
+        ReflectionTestUtils.setField(jwtUtil, "JWT_EXPIRATION", expirationMillis);
+        jwtUtil.init();
+        return jwtUtil;
+    }
+
+    private static User user() {
+        User user = new User("Jwt", "jwt@example.com", "x", Role.MANAGER);
+        user.setId(42L);
+        return user;
+    }
+}
@@ -0,0 +1,80 @@
+package com.productivity.dashboard.service;
+
+import com.productivity.dashboard.model.Role;
+import com.productivity.dashboard.model.User;
+import com.productivity.dashboard.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Queued activities survive a bad row in their batch and submissions that arrive during shutdown
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class ActivityLogWriterTest {
+
+    private static final int ENTRIES = 20;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    void badRowOnlyLosesItself() {
+        User user = userRepository.save(new User("Audit", UUID.randomUUID() + "@example.com", "x", Role.EMPLOYEE));
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        // Long flush interval and large batches, so everything lands in the one batch shutdown writes
+        ActivityLogWriter writer = new ActivityLogWriter(jdbcTemplate, transactionManager, meterRegistry, "async",
+                                                         1000, 1000, 60_000, 10_000, "caller-runs");
+        writer.start();
+
+        List<ActivityLogWriter.Entry> entries = new ArrayList<>();
+        for (int i = 0; i < ENTRIES; i++) {
+            // The unknown user fails the foreign key
+            Long userId = i == ENTRIES / 2 ? Long.MAX_VALUE : user.getId();
+            entries.add(new ActivityLogWriter.Entry(userId, "BATCH_" + i, "TASK", (long) i, null));
+        }
+        writer.submitAll(entries);
+        writer.shutdown();
+
+        assertThat(countActivities(user)).isEqualTo(ENTRIES - 1);
+        assertThat(meterRegistry.get("activity.writer.failed").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("activity.writer.written").counter().count()).isEqualTo(ENTRIES - 1);
+    }
+
+    @Test
+    void submissionsAfterShutdownAreWrittenOnTheCallerThread() {
+        User user = userRepository.save(new User("Audit", UUID.randomUUID() + "@example.com", "x", Role.EMPLOYEE));
+        ActivityLogWriter writer = new ActivityLogWriter(jdbcTemplate, transactionManager, new SimpleMeterRegistry(),
+                                                         "async", 1000, 1000, 60_000, 10_000, "caller-runs");
+        writer.start();
+        writer.shutdown();
+
+        writer.submit(user.getId(), "LATE", "TASK", 1L, null);
+        writer.submitAll(List.of(new ActivityLogWriter.Entry(user.getId(), "LATE_BATCH", "TASK", 2L, null)));
+
+        assertThat(countActivities(user)).isEqualTo(2);
+    }
+
+    private Integer countActivities(User user) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM activities WHERE user_id = ?", Integer.class,
+                                           user.getId());
+    }
+}
@@ -0,0 +1,155 @@
+package com.productivity.dashboard.service;
+
+import com.productivity.dashboard.dto.AttendanceDTO;
+import com.productivity.dashboard.exception.NotFoundException;
+import com.productivity.dashboard.model.Role;
+import com.productivity.dashboard.model.User;
+import com.productivity.dashboard.repository.UserRepository;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Morning burst through the batching attendance writer, against H2 in MySQL mode
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class AttendanceBurstTest {
+
+    private static final int USERS = 300;
+    private static final int THREADS = 64;
+    private static final int LOAD_USERS = 3_000;
+    private static final double MIN_CHECK_INS_PER_SECOND = 250;
+
+    private static final Logger logger = LoggerFactory.getLogger(AttendanceBurstTest.class);
+
+    @Autowired
+    private AttendanceService attendanceService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newFixedThreadPool(THREADS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void burstOfCheckInsWritesOneRowPerUserInFewBatches() throws Exception {
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < USERS; i++) {
+            users.add(userRepository.save(new User("Burst " + i, UUID.randomUUID() + "@example.com", "x", Role.EMPLOYEE)));
+        }
+        DistributionSummary batches = meterRegistry.get("attendance.writer.batch.size").summary();
+        long batchesBefore = batches.count();
+
+        // Every user checks in twice at once; the second must return the row the first wrote
+        List<AttendanceDTO> first = checkInAll(users);
+        List<AttendanceDTO> second = checkInAll(users);
+        long batchesUsed = batches.count() - batchesBefore;
+
+        Map<Long, AttendanceDTO> firstByUser = first.stream()
+            .collect(Collectors.toMap(AttendanceDTO::getUserId, Function.identity()));
+        assertThat(firstByUser).hasSize(USERS);
+        for (AttendanceDTO repeat : second) {
+            AttendanceDTO original = firstByUser.get(repeat.getUserId());
+            assertThat(repeat.getId()).isEqualTo(original.getId());
+            assertThat(repeat.getCheckInTime()).isEqualTo(original.getCheckInTime());
+        }
+
+        List<Long> userIds = users.stream().map(User::getId).collect(Collectors.toList());
+        String placeholders = userIds.stream().map(id -> "?").collect(Collectors.joining(","));
+        List<Object> parameters = new ArrayList<>(userIds);
+        parameters.add(0, LocalDate.now());
+        Integer rows = jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM attendance WHERE date = ? AND user_id IN (" + placeholders + ")",
+            Integer.class, parameters.toArray());
+        assertThat(rows).isEqualTo(USERS);
+
+        // Group commit: far fewer flushes than check-ins
+        assertThat(batchesUsed).isLessThan(2L * USERS / 4);
+    }
+
+    @Test
+    void sustainedBurstKeepsUpThroughput() throws Exception {
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < LOAD_USERS; i++) {
+            users.add(new User("Load " + i, UUID.randomUUID() + "@example.com", "x", Role.EMPLOYEE));
+        }
+        users = userRepository.saveAll(users);
+
+        long begin = System.nanoTime();
+        List<AttendanceDTO> results = checkInAll(users);
+        double seconds = (System.nanoTime() - begin) / 1e9;
+        double perSecond = LOAD_USERS / seconds;
+        logger.info("Attendance burst: {} check-ins from {} threads in {} ms - {} check-ins/s",
+            LOAD_USERS, THREADS, Math.round(seconds * 1000), Math.round(perSecond));
+
+        assertThat(results).hasSize(LOAD_USERS).allMatch(row -> row.getCheckInTime() != null);
+        // About 1,800/s on in-memory H2 on a developer machine; the floor leaves room for slow build agents
+        assertThat(perSecond).isGreaterThan(MIN_CHECK_INS_PER_SECOND);
+    }
+
+    @Test
+    void checkInForDeletedUserIsNotFound() {
+        User ghost = new User("Ghost", UUID.randomUUID() + "@example.com", "x", Role.EMPLOYEE);
+        ghost.setId(Long.MAX_VALUE);
+
+        assertThatThrownBy(() -> attendanceService.checkIn(ghost, null)).isInstanceOf(NotFoundException.class);
+    }
+
+    private List<AttendanceDTO> checkInAll(List<User> users) throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<AttendanceDTO>> futures = new ArrayList<>();
+        for (User user : users) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                return attendanceService.checkIn(user, "burst");
+            }));
+        }
+        start.countDown();
+
+        List<AttendanceDTO> results = new ArrayList<>();
+        for (Future<AttendanceDTO> future : futures) {
+            results.add(future.get(30, TimeUnit.SECONDS));
+        }
+        return results;
+    }
+}
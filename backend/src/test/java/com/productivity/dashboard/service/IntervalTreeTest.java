@@ -0,0 +1,103 @@
+package com.productivity.dashboard.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Randomized check of the interval tree against a brute-force scan over the same intervals
+ */
+class IntervalTreeTest {
+
+    private static final int ROUNDS = 20;
+    private static final int OPERATIONS = 5_000;
+
+    @Test
+    void matchesBruteForceUnderRandomInsertsRemovesAndQueries() {
+        for (int round = 0; round < ROUNDS; round++) {
+            long seed = 31L * round + 7;
+            Random random = new Random(seed);
+            // Small coordinates so intervals collide, share starts and touch end to start
+            int span = 50 + random.nextInt(500);
+            IntervalTree tree = new IntervalTree();
+            Map<Long, long[]> expected = new LinkedHashMap<>();
+            long nextId = 1;
+
+            for (int op = 0; op < OPERATIONS; op++) {
+                int action = random.nextInt(10);
+                if (action < 4 || expected.isEmpty()) {
+                    long start = random.nextInt(span);
+                    // Some open-ended intervals, like a running timer
+                    long end = random.nextInt(20) == 0 ? Long.MAX_VALUE : start + random.nextInt(span / 5 + 1);
+                    tree.insert(nextId, start, end);
+                    expected.put(nextId, new long[] {start, end});
+                    nextId++;
+                } else if (action < 6) {
+                    List<Long> ids = new ArrayList<>(expected.keySet());
+                    long id = ids.get(random.nextInt(ids.size()));
+                    assertThat(tree.remove(id, expected.remove(id)[0])).as("seed %d", seed).isTrue();
+                } else if (action < 7) {
+                    // Unknown id, or a known id with the wrong start: nothing is removed
+                    long id = random.nextBoolean() ? nextId + 1 : nextId - 1;
+                    long start = expected.containsKey(id) ? expected.get(id)[0] + 1 : random.nextInt(span);
+                    assertThat(tree.remove(id, start)).as("seed %d", seed).isFalse();
+                } else {
+                    long start = random.nextInt(span);
+                    long end = start + random.nextInt(span / 4 + 1);
+                    assertQuery(tree, expected, start, end, random, seed);
+                }
+                assertThat(tree.size()).as("seed %d", seed).isEqualTo(expected.size());
+            }
+        }
+    }
+
+    @Test
+    void touchingRangesDoNotOverlap() {
+        IntervalTree tree = new IntervalTree();
+        assertThat(tree.findAny(0, 10)).isNull();
+        assertThat(tree.findAll(0, 10, 10)).isEmpty();
+
+        tree.insert(1, 10, 20);
+        // Half-open: an entry ending when the next one starts does not overlap it
+        assertThat(tree.findAny(20, 30)).isNull();
+        assertThat(tree.findAny(0, 10)).isNull();
+        assertThat(tree.findAny(19, 21)).isEqualTo(1L);
+        // A zero-length range inside an entry does
+        assertThat(tree.findAny(15, 15)).isEqualTo(1L);
+    }
+
+    private static void assertQuery(IntervalTree tree, Map<Long, long[]> expected, long start, long end,
+                                    Random random, long seed) {
+        List<Long> overlapping = expected.entrySet().stream()
+            .filter(entry -> entry.getValue()[0] < end && entry.getValue()[1] > start)
+            .sorted(Comparator.<Map.Entry<Long, long[]>>comparingLong(entry -> entry.getValue()[0])
+                .thenComparing(Map.Entry::getKey))
+            .map(Map.Entry::getKey)
+            .collect(Collectors.toList());
+
+        Long any = tree.findAny(start, end);
+        if (overlapping.isEmpty()) {
+            assertThat(any).as("seed %d, [%d, %d)", seed, start, end).isNull();
+        } else {
+            assertThat(overlapping).as("seed %d, [%d, %d)", seed, start, end).contains(any);
+        }
+
+        int limit = 1 + random.nextInt(15);
+        assertThat(tree.findAll(start, end, limit)).as("seed %d, [%d, %d) limit %d", seed, start, end, limit)
+            .containsExactlyElementsOf(overlapping.subList(0, Math.min(limit, overlapping.size())));
+
+        // Rejected ids must not use up the limit
+        List<Long> odd = overlapping.stream().filter(id -> id % 2 == 1).collect(Collectors.toList());
+        assertThat(tree.findAll(start, end, limit, id -> id % 2 == 1))
+            .as("seed %d, [%d, %d) odd ids, limit %d", seed, start, end, limit)
+            .containsExactlyElementsOf(odd.subList(0, Math.min(limit, odd.size())));
+    }
+}
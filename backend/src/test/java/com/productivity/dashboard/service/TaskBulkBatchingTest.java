@@ -0,0 +1,129 @@
+package com.productivity.dashboard.service;
+
+import com.productivity.dashboard.dto.BulkTaskOperation;
+import com.productivity.dashboard.dto.BulkTaskResult;
+import com.productivity.dashboard.model.Priority;
+import com.productivity.dashboard.model.Role;
+import com.productivity.dashboard.model.Task;
+import com.productivity.dashboard.model.TaskStatsRollup;
+import com.productivity.dashboard.model.TaskStatus;
+import com.productivity.dashboard.model.User;
+import com.productivity.dashboard.repository.TaskRepository;
+import com.productivity.dashboard.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * A bulk request writes its task changes in JDBC batches rather than one statement per item
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class TaskBulkBatchingTest {
+
+    private static final int TASKS = 200;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskStatsRollupService taskStatsRollupService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void completingManyTasksBatchesTheUpdates() {
+        User assignee = userRepository.save(
+            new User("Bulk", UUID.randomUUID() + "@example.com", "x", Role.EMPLOYEE));
+        List<BulkTaskOperation> creates = new ArrayList<>();
+        for (int i = 0; i < TASKS; i++) {
+            BulkTaskOperation operation = new BulkTaskOperation();
+            operation.setAction(BulkTaskOperation.Action.CREATE);
+            operation.setTitle("Bulk " + i);
+            operation.setPriority(Priority.LOW);
+            operation.setAssignedToId(assignee.getId());
+            creates.add(operation);
+        }
+        List<Long> taskIds = new ArrayList<>();
+        List<BulkTaskOperation> completes = new ArrayList<>();
+        for (BulkTaskResult created : taskService.applyBulk(creates)) {
+            taskIds.add(created.getTaskId());
+            BulkTaskOperation operation = new BulkTaskOperation();
+            operation.setAction(BulkTaskOperation.Action.COMPLETE);
+            operation.setTaskId(created.getTaskId());
+            completes.add(operation);
+        }
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        List<BulkTaskResult> results = taskService.applyBulk(completes);
+        long statements = statistics.getPrepareStatementCount();
+
+        assertThat(results).hasSize(TASKS).allMatch(BulkTaskResult::isSuccess);
+        assertThat(taskRepository.findAllById(taskIds)).allMatch(task -> task.getStatus() == TaskStatus.COMPLETED);
+        // One load, a handful of update batches and a single rollup write, however many items the request has
+        assertThat(statements).isLessThan(TASKS / 10);
+
+        TaskStatsRollup rollup = taskStatsRollupService.getRollup(assignee.getId());
+        assertThat(rollup.getPendingTasks()).isZero();
+        assertThat(rollup.getCompletedTasks()).isEqualTo(TASKS);
+        assertThat(rollup.getCompletedLowPriority()).isEqualTo(TASKS);
+    }
+
+    @Test
+    void failedUpdateLeavesTheTaskUnchanged() {
+        User assignee = userRepository.save(
+            new User("Bulk", UUID.randomUUID() + "@example.com", "x", Role.EMPLOYEE));
+        BulkTaskOperation create = new BulkTaskOperation();
+        create.setAction(BulkTaskOperation.Action.CREATE);
+        create.setTitle("Original");
+        create.setPriority(Priority.LOW);
+        create.setAssignedToId(assignee.getId());
+        Long taskId = taskService.applyBulk(List.of(create)).get(0).getTaskId();
+
+        // Every other field is valid; the unknown assignee must fail the item before any of them is applied
+        BulkTaskOperation update = new BulkTaskOperation();
+        update.setAction(BulkTaskOperation.Action.UPDATE);
+        update.setTaskId(taskId);
+        update.setTitle("Changed");
+        update.setStatus(TaskStatus.COMPLETED);
+        update.setPriority(Priority.HIGH);
+        update.setAssignedToId(Long.MAX_VALUE);
+        BulkTaskOperation sibling = new BulkTaskOperation();
+        sibling.setAction(BulkTaskOperation.Action.CREATE);
+        sibling.setTitle("Sibling");
+        sibling.setPriority(Priority.MEDIUM);
+        sibling.setAssignedToId(assignee.getId());
+
+        List<BulkTaskResult> results = taskService.applyBulk(List.of(update, sibling));
+
+        assertThat(results.get(0).isSuccess()).isFalse();
+        assertThat(results.get(1).isSuccess()).isTrue();
+        Task task = taskRepository.findById(taskId).orElseThrow();
+        assertThat(task.getTitle()).isEqualTo("Original");
+        assertThat(task.getStatus()).isEqualTo(TaskStatus.PENDING);
+        assertThat(task.getPriority()).isEqualTo(Priority.LOW);
+
+        TaskStatsRollup rollup = taskStatsRollupService.getRollup(assignee.getId());
+        assertThat(rollup.getPendingTasks()).isEqualTo(2);
+        assertThat(rollup.getCompletedTasks()).isZero();
+        assertThat(rollup.getHighPriorityTasks()).isZero();
+    }
+}
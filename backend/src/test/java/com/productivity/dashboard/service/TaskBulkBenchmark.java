@@ -0,0 +1,122 @@
+package com.productivity.dashboard.service;
+
+import com.productivity.TeamProductivityApplication;
+import com.productivity.dashboard.dto.BulkTaskOperation;
+import com.productivity.dashboard.dto.BulkTaskResult;
+import com.productivity.dashboard.dto.TaskUpdateRequest;
+import com.productivity.dashboard.model.Priority;
+import com.productivity.dashboard.model.Role;
+import com.productivity.dashboard.model.User;
+import com.productivity.dashboard.repository.UserRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reprioritising a sprint's tasks: one updateTask call per task, as the per-item endpoint does,
+ * against a single bulk request. Both run through the service against the test profile's H2 database.
+ * Run with {@code mvn -Pbenchmark test-compile exec:exec -Djmh.include=TaskBulkBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class TaskBulkBenchmark {
+
+    private static final int TASKS = 200;
+
+    private ConfigurableApplicationContext context;
+
+    private TaskService taskService;
+
+    private User manager;
+
+    private List<Long> taskIds;
+
+    private boolean raise;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(TeamProductivityApplication.class)
+            .profiles("test")
+            .web(WebApplicationType.NONE)
+            .run();
+        taskService = context.getBean(TaskService.class);
+        UserRepository userRepository = context.getBean(UserRepository.class);
+        manager = userRepository.save(new User("Manager", UUID.randomUUID() + "@example.com", "x", Role.MANAGER));
+        User assignee = userRepository.save(new User("Sprint", UUID.randomUUID() + "@example.com", "x", Role.EMPLOYEE));
+
+        List<BulkTaskOperation> creates = new ArrayList<>();
+        for (int i = 0; i < TASKS; i++) {
+            BulkTaskOperation operation = new BulkTaskOperation();
+            operation.setAction(BulkTaskOperation.Action.CREATE);
+            operation.setTitle("Sprint task " + i);
+            operation.setPriority(Priority.LOW);
+            operation.setAssignedToId(assignee.getId());
+            creates.add(operation);
+        }
+        taskIds = new ArrayList<>();
+        for (BulkTaskResult result : taskService.applyBulk(creates)) {
+            taskIds.add(result.getTaskId());
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(TASKS)
+    public void perItem(Blackhole blackhole) {
+        Priority priority = nextPriority();
+        for (Long taskId : taskIds) {
+            TaskUpdateRequest request = new TaskUpdateRequest();
+            request.setPriority(priority);
+            blackhole.consume(taskService.updateTask(taskId, request, null, manager));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(TASKS)
+    public void bulk(Blackhole blackhole) {
+        Priority priority = nextPriority();
+        List<BulkTaskOperation> updates = new ArrayList<>(TASKS);
+        for (Long taskId : taskIds) {
+            BulkTaskOperation operation = new BulkTaskOperation();
+            operation.setAction(BulkTaskOperation.Action.UPDATE);
+            operation.setTaskId(taskId);
+            operation.setPriority(priority);
+            updates.add(operation);
+        }
+        blackhole.consume(taskService.applyBulk(updates));
+    }
+
+    /**
+     * Alternates between invocations so every update changes the row and the rollup
+     */
+    private Priority nextPriority() {
+        raise = !raise;
+        return raise ? Priority.HIGH : Priority.LOW;
+    }
+}
@@ -0,0 +1,88 @@
+package com.productivity.dashboard.service;
+
+import com.productivity.dashboard.dto.TaskDTO;
+import com.productivity.dashboard.model.Priority;
+import com.productivity.dashboard.model.Role;
+import com.productivity.dashboard.model.Task;
+import com.productivity.dashboard.model.TaskStatus;
+import com.productivity.dashboard.model.User;
+import com.productivity.dashboard.repository.TaskRepository;
+import com.productivity.dashboard.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Listing tasks loads them with their assignees in one statement, however many tasks there are
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class TaskListQueryCountTest {
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 10, 100})
+    void listingTasksTakesOneStatement(int count) {
+        // Each task gets its own assignee, so lazy loading would cost one statement per task
+        List<User> assignees = new ArrayList<>();
+        Set<Long> taskIds = new HashSet<>();
+        for (int i = 0; i < count; i++) {
+            User assignee = userRepository.save(
+                new User("Assignee " + i, UUID.randomUUID() + "@example.com", "x", Role.EMPLOYEE));
+            taskIds.add(taskRepository.save(new Task("Task " + i, "", Priority.MEDIUM, null, assignee)).getId());
+            assignees.add(assignee);
+        }
+        Long assigneeId = assignees.get(0).getId();
+        // Warm the user cache the assignee filters go through
+        taskService.getAllTasks(assigneeId, null);
+
+        List<TaskDTO> all = assertOneStatement(() -> taskService.getAllTasks(null, null));
+        assertThat(all).filteredOn(task -> taskIds.contains(task.getId())).hasSize(count)
+            .allSatisfy(task -> assertThat(task.getAssignedToName()).startsWith("Assignee "));
+
+        assertThat(assertOneStatement(() -> taskService.getAllTasks(null, TaskStatus.PENDING)))
+            .hasSizeGreaterThanOrEqualTo(count);
+        assertThat(assertOneStatement(() -> taskService.getAllTasks(assigneeId, null))).hasSize(1);
+        assertThat(assertOneStatement(() -> taskService.getAllTasks(assigneeId, TaskStatus.PENDING))).hasSize(1);
+    }
+
+    private List<TaskDTO> assertOneStatement(Supplier<List<TaskDTO>> call) {
+        statistics.clear();
+        List<TaskDTO> tasks = call.get();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        return tasks;
+    }
+}
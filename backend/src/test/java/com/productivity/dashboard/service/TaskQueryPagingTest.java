@@ -0,0 +1,119 @@
+package com.productivity.dashboard.service;
+
+import com.productivity.dashboard.dto.CursorSlice;
+import com.productivity.dashboard.dto.TaskFilter;
+import com.productivity.dashboard.dto.TaskSortKey;
+import com.productivity.dashboard.dto.TaskSummary;
+import com.productivity.dashboard.model.Priority;
+import com.productivity.dashboard.model.Role;
+import com.productivity.dashboard.model.Task;
+import com.productivity.dashboard.model.User;
+import com.productivity.dashboard.repository.TaskRepository;
+import com.productivity.dashboard.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Walking every page of the task listing returns each task once, in the (key, id) order the sort key defines
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class TaskQueryPagingTest {
+
+    private static final int TASKS = 60;
+    private static final int PAGE_SIZE = 7;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private User assignee;
+
+    private List<Task> tasks;
+
+    @BeforeEach
+    void setUp() {
+        assignee = userRepository.save(new User("Paging", UUID.randomUUID() + "@example.com", "x", Role.EMPLOYEE));
+        Random random = new Random(42);
+        Priority[] priorities = Priority.values();
+        tasks = new ArrayList<>();
+        for (int i = 0; i < TASKS; i++) {
+            // Few distinct due dates and some missing, so pages break inside ties and across the undated rows
+            LocalDate dueDate = random.nextInt(4) == 0 ? null : LocalDate.of(2024, 6, 1).plusDays(random.nextInt(5));
+            tasks.add(taskRepository.save(
+                new Task("Task " + i, "", priorities[random.nextInt(priorities.length)], dueDate, assignee)));
+        }
+    }
+
+    @Test
+    void dueDatePagesPutUndatedTasksLast() {
+        Comparator<Task> undatedLast = Comparator.comparing((Task task) -> task.getDueDate() == null);
+        assertPagesInOrder(TaskSortKey.DUE_DATE, false, undatedLast
+            .thenComparing(Task::getDueDate, Comparator.nullsLast(Comparator.naturalOrder()))
+            .thenComparing(Task::getId));
+        assertPagesInOrder(TaskSortKey.DUE_DATE, true, undatedLast
+            .thenComparing(Task::getDueDate, Comparator.nullsLast(Comparator.reverseOrder()))
+            .thenComparing(Task::getId, Comparator.reverseOrder()));
+    }
+
+    @Test
+    void priorityPagesFollowTheRankNotTheName() {
+        Comparator<Task> byRank = Comparator.comparing(task -> task.getPriority().ordinal());
+        assertPagesInOrder(TaskSortKey.PRIORITY, false, byRank.thenComparing(Task::getId));
+        assertPagesInOrder(TaskSortKey.PRIORITY, true,
+            byRank.reversed().thenComparing(Task::getId, Comparator.reverseOrder()));
+    }
+
+    @Test
+    void priorityFilterSkipsOtherPriorities() {
+        TaskFilter filter = new TaskFilter();
+        filter.setAssignedToId(assignee.getId());
+        filter.setPriorities(List.of(Priority.HIGH, Priority.LOW));
+        List<Long> expected = tasks.stream()
+            .filter(task -> task.getPriority() != Priority.MEDIUM)
+            .sorted(Comparator.comparing((Task task) -> task.getPriority().ordinal()).thenComparing(Task::getId))
+            .map(Task::getId)
+            .collect(Collectors.toList());
+
+        assertThat(walk(filter, TaskSortKey.PRIORITY, false)).containsExactlyElementsOf(expected);
+    }
+
+    private void assertPagesInOrder(TaskSortKey sortKey, boolean descending, Comparator<Task> order) {
+        TaskFilter filter = new TaskFilter();
+        filter.setAssignedToId(assignee.getId());
+        List<Long> expected = tasks.stream().sorted(order).map(Task::getId).collect(Collectors.toList());
+
+        assertThat(walk(filter, sortKey, descending)).as("%s %s", sortKey, descending ? "desc" : "asc")
+            .containsExactlyElementsOf(expected);
+    }
+
+    private List<Long> walk(TaskFilter filter, TaskSortKey sortKey, boolean descending) {
+        List<Long> ids = new ArrayList<>();
+        String cursor = null;
+        do {
+            CursorSlice<TaskSummary> page = taskService.queryTasks(filter, sortKey, descending, cursor, PAGE_SIZE);
+            assertThat(page.getItems().size()).isLessThanOrEqualTo(PAGE_SIZE);
+            page.getItems().forEach(task -> ids.add(task.getId()));
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+        return ids;
+    }
+}
@@ -0,0 +1,87 @@
+package com.productivity.dashboard.service;
+
+import com.productivity.dashboard.model.Priority;
+import com.productivity.dashboard.model.Task;
+import com.productivity.dashboard.model.TaskStatus;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Predicate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Randomized check of the one-pass accumulator against one filter pass per counter over the same tasks
+ */
+class TaskStatsAccumulatorTest {
+
+    private static final int ROUNDS = 50;
+    private static final LocalDate TODAY = LocalDate.of(2024, 6, 15);
+
+    @Test
+    void matchesPerCounterFilters() {
+        for (int round = 0; round < ROUNDS; round++) {
+            long seed = 17L * round + 3;
+            List<Task> tasks = randomTasks(new Random(seed), round * 40);
+
+            TaskStatsAccumulator sequential = TaskStatsAccumulator.of(tasks, TODAY);
+            TaskStatsAccumulator parallel = tasks.parallelStream().collect(TaskStatsAccumulator.collector(TODAY));
+
+            for (TaskStatsAccumulator stats : List.of(sequential, parallel)) {
+                assertThat(stats.getTotal()).as("seed %d", seed).isEqualTo(tasks.size());
+                assertThat(stats.getPending()).as("seed %d", seed).isEqualTo(count(tasks, this::isPending));
+                assertThat(stats.getInProgress()).as("seed %d", seed)
+                    .isEqualTo(count(tasks, task -> task.getStatus() == TaskStatus.IN_PROGRESS));
+                assertThat(stats.getCompleted()).as("seed %d", seed).isEqualTo(count(tasks, this::isCompleted));
+                assertThat(stats.getCompletedOnTime()).as("seed %d", seed).isEqualTo(count(tasks, task ->
+                    isCompleted(task) && task.getCompletedDate() != null && task.getDueDate() != null
+                        && !task.getCompletedDate().isAfter(task.getDueDate())));
+                assertThat(stats.getOverdue()).as("seed %d", seed).isEqualTo(count(tasks, task ->
+                    !isCompleted(task) && task.getDueDate() != null && task.getDueDate().isBefore(TODAY)));
+                assertThat(stats.getOpenHighPriority()).as("seed %d", seed)
+                    .isEqualTo(count(tasks, task -> !isCompleted(task) && task.getPriority() == Priority.HIGH));
+            }
+            assertThat(parallel.getEnhancedScore()).as("seed %d", seed).isEqualTo(sequential.getEnhancedScore());
+        }
+    }
+
+    @Test
+    void emptyListScoresZero() {
+        TaskStatsAccumulator stats = TaskStatsAccumulator.of(List.of(), TODAY);
+        assertThat(stats.getTotal()).isZero();
+        assertThat(stats.getOnTimePercent()).isZero();
+        assertThat(stats.getEnhancedScore()).isZero();
+    }
+
+    private boolean isCompleted(Task task) {
+        return task.getStatus() == TaskStatus.COMPLETED;
+    }
+
+    private boolean isPending(Task task) {
+        return task.getStatus() != TaskStatus.COMPLETED && task.getStatus() != TaskStatus.IN_PROGRESS;
+    }
+
+    private static long count(List<Task> tasks, Predicate<Task> filter) {
+        return tasks.stream().filter(filter).count();
+    }
+
+    private static List<Task> randomTasks(Random random, int count) {
+        TaskStatus[] statuses = TaskStatus.values();
+        Priority[] priorities = Priority.values();
+        List<Task> tasks = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            // Due dates around today, some missing, so on-time and overdue both get exercised
+            LocalDate dueDate = random.nextInt(5) == 0 ? null : TODAY.plusDays(random.nextInt(21) - 10);
+            Task task = new Task("Task " + i, "", priorities[random.nextInt(priorities.length)], dueDate, null);
+            task.setStatus(statuses[random.nextInt(statuses.length)]);
+            if (task.getStatus() == TaskStatus.COMPLETED && random.nextInt(5) != 0) {
+                task.setCompletedDate(TODAY.plusDays(random.nextInt(21) - 10));
+            }
+            tasks.add(task);
+        }
+        return tasks;
+    }
+}
@@ -0,0 +1,115 @@
+package com.productivity.dashboard.service;
+
+import com.productivity.dashboard.model.Priority;
+import com.productivity.dashboard.model.Task;
+import com.productivity.dashboard.model.TaskStatus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Dashboard counters over synthetic tasks: the stream-per-counter passes the accumulator replaced,
+ * against one sequential and one parallel accumulator pass.
+ * Run with {@code mvn -Pbenchmark test-compile exec:exec -Djmh.include=TaskStatsBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = "-Xmx2g")
+public class TaskStatsBenchmark {
+
+    private static final LocalDate TODAY = LocalDate.of(2024, 6, 15);
+
+    @Param("1000000")
+    private int tasks;
+
+    private List<Task> taskList;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(7);
+        TaskStatus[] statuses = TaskStatus.values();
+        Priority[] priorities = Priority.values();
+        taskList = new ArrayList<>(tasks);
+        for (int i = 0; i < tasks; i++) {
+            LocalDate dueDate = random.nextInt(5) == 0 ? null : TODAY.plusDays(random.nextInt(61) - 30);
+            Task task = new Task("Task " + i, "", priorities[random.nextInt(priorities.length)], dueDate, null);
+            task.setStatus(statuses[random.nextInt(statuses.length)]);
+            if (task.getStatus() == TaskStatus.COMPLETED) {
+                task.setCompletedDate(TODAY.plusDays(random.nextInt(61) - 30));
+            }
+            taskList.add(task);
+        }
+    }
+
+    /**
+     * The enhanced score's seven passes plus the dashboard's pending, overdue and open high-priority passes
+     */
+    @Benchmark
+    public void streamPerCounter(Blackhole blackhole) {
+        List<Task> all = taskList;
+        long total = all.size();
+        long completed = all.stream().filter(task -> task.getStatus() == TaskStatus.COMPLETED).count();
+        long completedOnTime = all.stream()
+            .filter(task -> task.getStatus() == TaskStatus.COMPLETED && task.getCompletedDate() != null
+                && task.getDueDate() != null && !task.getCompletedDate().isAfter(task.getDueDate()))
+            .count();
+        long highCompleted = all.stream()
+            .filter(task -> task.getStatus() == TaskStatus.COMPLETED && task.getPriority() == Priority.HIGH).count();
+        long mediumCompleted = all.stream()
+            .filter(task -> task.getStatus() == TaskStatus.COMPLETED && task.getPriority() == Priority.MEDIUM).count();
+        long lowCompleted = all.stream()
+            .filter(task -> task.getStatus() == TaskStatus.COMPLETED && task.getPriority() == Priority.LOW).count();
+        long inProgress = all.stream().filter(task -> task.getStatus() == TaskStatus.IN_PROGRESS).count();
+        long pending = all.stream().filter(task -> task.getStatus() == TaskStatus.PENDING).count();
+        long overdue = all.stream()
+            .filter(task -> task.getStatus() != TaskStatus.COMPLETED && task.getDueDate() != null
+                && task.getDueDate().isBefore(TODAY))
+            .count();
+        long openHigh = all.stream()
+            .filter(task -> task.getPriority() == Priority.HIGH && task.getStatus() != TaskStatus.COMPLETED).count();
+
+        double completionScore = (double) completed / total * 40;
+        double onTimeScore = completed > 0 ? (double) completedOnTime / completed * 30 : 0;
+        double complexityScore = (highCompleted * 3 + mediumCompleted * 2 + lowCompleted) / (total * 3.0) * 20;
+        double consistencyScore = (inProgress > 0 && inProgress <= 3) ? 10 : (inProgress > 3) ? 5 : 0;
+        blackhole.consume(Math.min(100.0, completionScore + onTimeScore + complexityScore + consistencyScore));
+        blackhole.consume(pending);
+        blackhole.consume(overdue);
+        blackhole.consume(openHigh);
+    }
+
+    @Benchmark
+    public void onePass(Blackhole blackhole) {
+        consume(TaskStatsAccumulator.of(taskList, TODAY), blackhole);
+    }
+
+    @Benchmark
+    public void onePassParallel(Blackhole blackhole) {
+        consume(taskList.parallelStream().collect(TaskStatsAccumulator.collector(TODAY)), blackhole);
+    }
+
+    private static void consume(TaskStatsAccumulator stats, Blackhole blackhole) {
+        blackhole.consume(stats.getEnhancedScore());
+        blackhole.consume(stats.getPending());
+        blackhole.consume(stats.getOverdue());
+        blackhole.consume(stats.getOpenHighPriority());
+    }
+}
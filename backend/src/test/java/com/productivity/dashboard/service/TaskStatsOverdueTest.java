@@ -0,0 +1,100 @@
+package com.productivity.dashboard.service;
+
+import com.productivity.dashboard.dto.TaskCreateRequest;
+import com.productivity.dashboard.dto.TaskDTO;
+import com.productivity.dashboard.dto.TaskUpdateRequest;
+import com.productivity.dashboard.model.Priority;
+import com.productivity.dashboard.model.Role;
+import com.productivity.dashboard.model.User;
+import com.productivity.dashboard.repository.TaskDueBucketRepository;
+import com.productivity.dashboard.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The rollup's overdue count comes from open tasks per due date at read time, so it follows the calendar
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class TaskStatsOverdueTest {
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskStatsRollupService taskStatsRollupService;
+
+    @Autowired
+    private TaskDueBucketRepository dueBucketRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    void overdueFollowsDueDatesAndCompletion() {
+        User assignee = userRepository.save(
+            new User("Overdue", UUID.randomUUID() + "@example.com", "x", Role.EMPLOYEE));
+        LocalDate today = LocalDate.now();
+        TaskDTO late = create(assignee, today.minusDays(2));
+        TaskDTO dueToday = create(assignee, today);
+        create(assignee, null);
+
+        assertThat(taskStatsRollupService.getRollup(assignee.getId()).getOverdueTasks()).isEqualTo(1);
+        // Tomorrow the task due today is overdue too, without any write in between
+        assertThat(dueBucketRepository.sumOverdue(assignee.getId(), today.plusDays(1))).isEqualTo(2);
+
+        TaskUpdateRequest postpone = new TaskUpdateRequest();
+        postpone.setDueDate(today.plusDays(7));
+        taskService.updateTask(late.getId(), postpone, null, null);
+        assertThat(taskStatsRollupService.getRollup(assignee.getId()).getOverdueTasks()).isZero();
+        assertThat(dueBucketRepository.sumOverdue(assignee.getId(), today.plusDays(1))).isEqualTo(1);
+
+        taskService.completeTask(dueToday.getId(), null, null);
+        assertThat(dueBucketRepository.sumOverdue(assignee.getId(), today.plusDays(1))).isZero();
+        // Emptied dates are removed, leaving only the postponed task's
+        assertThat(dueBucketRepository.findByUserId(assignee.getId()))
+            .singleElement()
+            .satisfies(bucket -> {
+                assertThat(bucket.getDueDate()).isEqualTo(today.plusDays(7));
+                assertThat(bucket.getOpenTasks()).isEqualTo(1);
+            });
+
+        assertThat(taskStatsRollupService.getAllRollups())
+            .filteredOn(rollup -> rollup.getUserId().equals(assignee.getId()))
+            .singleElement()
+            .satisfies(rollup -> {
+                assertThat(rollup.getPendingTasks()).isEqualTo(2);
+                assertThat(rollup.getCompletedTasks()).isEqualTo(1);
+                assertThat(rollup.getOverdueTasks()).isZero();
+            });
+    }
+
+    @Test
+    void repairRebuildsLostDueDates() {
+        User assignee = userRepository.save(
+            new User("Overdue", UUID.randomUUID() + "@example.com", "x", Role.EMPLOYEE));
+        create(assignee, LocalDate.now().minusDays(1));
+        dueBucketRepository.deleteAll(dueBucketRepository.findByUserId(assignee.getId()));
+        assertThat(taskStatsRollupService.getRollup(assignee.getId()).getOverdueTasks()).isZero();
+
+        taskStatsRollupService.reconcile(true);
+
+        assertThat(taskStatsRollupService.getRollup(assignee.getId()).getOverdueTasks()).isEqualTo(1);
+    }
+
+    private TaskDTO create(User assignee, LocalDate dueDate) {
+        TaskCreateRequest request = new TaskCreateRequest();
+        request.setTitle("Due " + dueDate);
+        request.setPriority(Priority.MEDIUM);
+        request.setDueDate(dueDate);
+        request.setAssignedToId(assignee.getId());
+        return taskService.createTask(request);
+    }
+}
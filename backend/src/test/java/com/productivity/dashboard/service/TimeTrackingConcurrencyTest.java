@@ -0,0 +1,182 @@
+package com.productivity.dashboard.service;
+
+import com.productivity.dashboard.dto.TimeEntryRequest;
+import com.productivity.dashboard.exception.BadRequestException;
+import com.productivity.dashboard.exception.NotFoundException;
+import com.productivity.dashboard.model.Priority;
+import com.productivity.dashboard.model.Role;
+import com.productivity.dashboard.model.Task;
+import com.productivity.dashboard.model.User;
+import com.productivity.dashboard.repository.TaskRepository;
+import com.productivity.dashboard.repository.TimeEntryRepository;
+import com.productivity.dashboard.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Races between time entry writes for the same user, against H2 with real row locks
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class TimeTrackingConcurrencyTest {
+
+    private static final int THREADS = 16;
+
+    @Autowired
+    private TimeTrackingService timeTrackingService;
+
+    @Autowired
+    private TimeRollupService timeRollupService;
+
+    @Autowired
+    private TaskTimeTotalsService taskTimeTotalsService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TimeEntryRepository timeEntryRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newFixedThreadPool(THREADS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void concurrentOverlappingManualEntriesSaveOnlyOne() throws Exception {
+        User user = newUser();
+        LocalDateTime base = LocalDate.now().minusDays(3).atTime(9, 0);
+
+        List<Callable<Object>> calls = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            // Every entry overlaps every other one
+            TimeEntryRequest request = manualEntry(base.plusMinutes(i), base.plusMinutes(i + 60));
+            calls.add(() -> timeTrackingService.createManualEntry(user, request));
+        }
+        List<Object> outcomes = runTogether(calls);
+
+        assertThat(outcomes).filteredOn(outcome -> !(outcome instanceof Exception)).hasSize(1);
+        assertThat(outcomes).filteredOn(outcome -> outcome instanceof Exception)
+            .allMatch(outcome -> outcome instanceof BadRequestException);
+        assertThat(timeEntryRepository.findIntervalsByUserId(user.getId())).hasSize(1);
+    }
+
+    @Test
+    void manualEntryRacingTimerStartLetsOnlyOneIn() throws Exception {
+        for (int round = 0; round < 10; round++) {
+            User user = newUser();
+            LocalDateTime now = LocalDateTime.now();
+            // Reaches past now, so it overlaps a timer started at any point during the race
+            TimeEntryRequest request = manualEntry(now.minusMinutes(30), now.plusMinutes(30));
+
+            List<Object> outcomes = runTogether(List.of(
+                () -> timeTrackingService.startTimer(user, null, "racing"),
+                () -> timeTrackingService.createManualEntry(user, request)));
+
+            assertThat(outcomes).filteredOn(outcome -> !(outcome instanceof Exception)).hasSize(1);
+            assertThat(outcomes).filteredOn(outcome -> outcome instanceof Exception)
+                .singleElement().isInstanceOf(BadRequestException.class);
+            assertThat(timeEntryRepository.findIntervalsByUserId(user.getId())).hasSize(1);
+        }
+    }
+
+    @Test
+    void stopRacingTheReaperCountsTheEntryOnce() throws Exception {
+        Task task = taskRepository.save(new Task("Reaper race", "", Priority.MEDIUM, null, null));
+        for (int round = 0; round < 20; round++) {
+            User user = newUser();
+            Long entryId = timeTrackingService.startTimer(user, task.getId(), "stale").getId();
+            jdbcTemplate.update("UPDATE time_entries SET start_time = ? WHERE id = ?",
+                LocalDateTime.now().minusHours(20), entryId);
+
+            List<Object> outcomes = runTogether(List.of(
+                () -> timeTrackingService.stopTimer(user),
+                () -> timeTrackingService.reapStaleTimers(LocalDateTime.now().minusHours(12), 720, 100)));
+
+            // Exactly one of them closed the timer
+            boolean stopped = !(outcomes.get(0) instanceof Exception);
+            if (!stopped) {
+                assertThat(outcomes.get(0)).isInstanceOf(NotFoundException.class);
+            }
+            assertThat(outcomes.get(1)).isInstanceOf(Integer.class);
+            assertThat((Integer) outcomes.get(1)).isEqualTo(stopped ? 0 : 1);
+        }
+
+        assertThat(timeRollupService.reconcile(false)).isZero();
+        assertThat(taskTimeTotalsService.reconcile(false)).isZero();
+    }
+
+    /**
+     * Release all calls at once and collect each result, or the exception it threw
+     */
+    private List<Object> runTogether(List<Callable<Object>> calls) throws InterruptedException {
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Object>> futures = new ArrayList<>();
+        for (Callable<Object> call : calls) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                return call.call();
+            }));
+        }
+        start.countDown();
+
+        List<Object> outcomes = new ArrayList<>();
+        for (Future<Object> future : futures) {
+            try {
+                outcomes.add(future.get(30, TimeUnit.SECONDS));
+            } catch (ExecutionException e) {
+                outcomes.add(e.getCause());
+            } catch (TimeoutException e) {
+                throw new AssertionError("Call did not finish", e);
+            }
+        }
+        return outcomes;
+    }
+
+    private User newUser() {
+        String email = UUID.randomUUID() + "@example.com";
+        return userRepository.save(new User("Racer", email, "x", Role.EMPLOYEE));
+    }
+
+    private static TimeEntryRequest manualEntry(LocalDateTime start, LocalDateTime end) {
+        TimeEntryRequest request = new TimeEntryRequest();
+        request.setStartTime(start);
+        request.setEndTime(end);
+        request.setDescription("manual");
+        return request;
+    }
+}
@@ -4,6 +4,9 @@
 -- ========================================
 
 -- Drop tables if they exist (for clean setup)
+DROP TABLE IF EXISTS activities_archive;
+DROP TABLE IF EXISTS user_task_stats;
+DROP TABLE IF EXISTS user_task_due;
 DROP TABLE IF EXISTS leave_requests;
 DROP TABLE IF EXISTS attendance;
 DROP TABLE IF EXISTS time_entries;
@@ -21,6 +24,7 @@ CREATE TABLE users (
     password VARCHAR(255) NOT NULL,
     role VARCHAR(20) NOT NULL CHECK (role IN ('MANAGER', 'EMPLOYEE')),
     created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    token_version BIGINT NOT NULL DEFAULT 0,
     
     -- Indexes for performance
     INDEX idx_email (email),
@@ -41,6 +45,9 @@ CREATE TABLE tasks (
     completed_date DATE,
     assigned_to BIGINT,
     created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    total_minutes BIGINT NOT NULL DEFAULT 0,  -- Time spent from stopped entries, maintained incrementally
+    entry_count BIGINT NOT NULL DEFAULT 0,
+    version BIGINT NOT NULL DEFAULT 0,  -- Optimistic concurrency, exposed as the task ETag
     
     -- Foreign key constraint
     FOREIGN KEY (assigned_to) REFERENCES users(id) ON DELETE SET NULL,
@@ -51,7 +58,15 @@ CREATE TABLE tasks (
     INDEX idx_priority (priority),
     INDEX idx_due_date (due_date),
     INDEX idx_created_at (created_at),
-    INDEX idx_status_assigned (status, assigned_to)
+    INDEX idx_status_assigned (status, assigned_to),
+    -- Keyset pagination of the task listing: filter column, then (raw sort column, id). Due-date pages
+    -- query dated and undated rows separately and priority pages query one priority at a time, so the
+    -- ORDER BY and seek never go through an expression these indexes cannot serve
+    INDEX idx_tasks_assignee_due (assigned_to, due_date, id),
+    INDEX idx_tasks_status_due (status, due_date, id),
+    INDEX idx_tasks_assignee_priority (assigned_to, priority, id),
+    INDEX idx_tasks_status_priority (status, priority, id),
+    INDEX idx_tasks_created (created_at, id)
 );
 
 -- ========================================
@@ -88,6 +103,8 @@ CREATE TABLE time_entries (
     duration_minutes BIGINT,
     description TEXT,
     is_manual BOOLEAN DEFAULT FALSE,
+    -- Equals user_id while the timer runs (end_time IS NULL), NULL once stopped
+    running_user_id BIGINT,
     created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
     updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
     
@@ -95,6 +112,9 @@ CREATE TABLE time_entries (
     FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE,
     FOREIGN KEY (task_id) REFERENCES tasks(id) ON DELETE SET NULL,
     
+    -- At most one running timer per user (partial unique index emulated with a nullable column)
+    UNIQUE KEY uk_time_entries_running_user (running_user_id),
+    
     -- Indexes for performance
     INDEX idx_user_start (user_id, start_time DESC),
     INDEX idx_task (task_id),
@@ -158,6 +178,84 @@ CREATE TABLE leave_requests (
     INDEX idx_leave_type (leave_type)
 );
 
+-- ========================================
+-- 7. User Task Stats Table (Incremental Dashboard Rollup)
+-- ========================================
+CREATE TABLE user_task_stats (
+    user_id BIGINT PRIMARY KEY,
+    pending_tasks BIGINT NOT NULL DEFAULT 0,
+    in_progress_tasks BIGINT NOT NULL DEFAULT 0,
+    completed_tasks BIGINT NOT NULL DEFAULT 0,
+    low_priority_tasks BIGINT NOT NULL DEFAULT 0,
+    medium_priority_tasks BIGINT NOT NULL DEFAULT 0,
+    high_priority_tasks BIGINT NOT NULL DEFAULT 0,
+    completed_low_priority BIGINT NOT NULL DEFAULT 0,
+    completed_medium_priority BIGINT NOT NULL DEFAULT 0,
+    completed_high_priority BIGINT NOT NULL DEFAULT 0,
+    completed_on_time BIGINT NOT NULL DEFAULT 0,
+    
+    -- Foreign key constraint
+    FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE
+);
+
+-- Open (not completed) tasks per user and due date. The overdue count is the sum
+-- of rows due before today, taken at read time, so it needs no write at midnight.
+CREATE TABLE user_task_due (
+    user_id BIGINT NOT NULL,
+    due_date DATE NOT NULL,
+    open_tasks BIGINT NOT NULL DEFAULT 0,
+    
+    PRIMARY KEY (user_id, due_date),
+    
+    -- Foreign key constraint
+    FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE
+);
+
+-- ========================================
+-- 8. Activities Archive Table (Cold Tier)
+-- ========================================
+-- Filled nightly by the activity retention job with activities older than
+-- activity.retention.hot-days; rows keep their original id. When Hibernate creates
+-- the table instead, ActivityArchiveSchema applies the same row format at startup.
+CREATE TABLE activities_archive (
+    id BIGINT PRIMARY KEY,
+    user_id BIGINT NOT NULL,
+    action VARCHAR(100) NOT NULL,
+    entity_type VARCHAR(50),
+    entity_id BIGINT,
+    details TEXT,
+    created_at TIMESTAMP NOT NULL,
+    archived_at TIMESTAMP NOT NULL,
+    
+    -- Foreign key constraint
+    FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE,
+    
+    -- Indexes for performance
+    INDEX idx_archive_user_created (user_id, created_at DESC),
+    INDEX idx_archive_created_at (created_at DESC)
+) ROW_FORMAT=COMPRESSED KEY_BLOCK_SIZE=8;
+
+-- ========================================
+-- 9. Time Entry Daily Table (Daily Time Rollup)
+-- ========================================
+-- Minutes per user, day and task from stopped time entries; entries crossing
+-- midnight are split across days. task_id 0 means "no task".
+CREATE TABLE time_entry_daily (
+    user_id BIGINT NOT NULL,
+    work_date DATE NOT NULL,
+    task_id BIGINT NOT NULL DEFAULT 0,
+    minutes BIGINT NOT NULL DEFAULT 0,
+    entry_count BIGINT NOT NULL DEFAULT 0,
+    
+    PRIMARY KEY (user_id, work_date, task_id),
+    
+    -- Foreign key constraint
+    FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE,
+    
+    -- Indexes for performance
+    INDEX idx_time_daily_date (work_date)
+);
+
 -- ========================================
 -- Sample Data
 -- ========================================
@@ -4,7 +4,7 @@ import { format, isPast, isToday } from 'date-fns';
 const TaskCard = ({ task, onEdit, onDelete, onComplete, isManager, currentUserId }) => {
   const canEdit = isManager; // Only managers can edit
   const canDelete = isManager;
-  const canComplete = (isManager || task.assignedTo?.id === currentUserId) && task.status !== 'COMPLETED';
+  const canComplete = (isManager || task.assignedToId === currentUserId) && task.status !== 'COMPLETED';
 
   const priorityColors = {
     HIGH: 'badge-high',
@@ -50,7 +50,7 @@ const TaskCard = ({ task, onEdit, onDelete, onComplete, isManager, currentUserId
         {/* Assignee */}
         <div className="flex items-center space-x-2 text-gray-600">
           <FiUser size={16} />
-          <span>{task.assignedTo?.name || 'Unassigned'}</span>
+          <span>{task.assignedToName || 'Unassigned'}</span>
         </div>
 
         {/* Due Date */}
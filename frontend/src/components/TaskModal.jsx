@@ -22,14 +22,14 @@ const TaskModal = ({ task, users, onClose, onSuccess }) => {
         description: task.description || '',
         priority: task.priority || 'MEDIUM',
         dueDate: task.dueDate || '',
-        assignedToId: task.assignedTo?.id || '',
+        assignedToId: task.assignedToId || '',
         status: task.status || 'PENDING',
       });
-      if (task.assignedTo) {
-        setSelectedUser(task.assignedTo);
+      if (task.assignedToId) {
+        setSelectedUser(users.find(u => u.id === task.assignedToId) || null);
       }
     }
-  }, [task]);
+  }, [task, users]);
 
   const handleChange = (e) => {
     const { name, value } = e.target;
@@ -128,7 +128,7 @@ const Tasks = () => {
   const filteredTasks = tasks.filter(task => {
     if (filterStatus && task.status !== filterStatus) return false;
     if (filterPriority && task.priority !== filterPriority) return false;
-    if (filterAssignee && task.assignedTo?.id !== parseInt(filterAssignee)) return false;
+    if (filterAssignee && task.assignedToId !== parseInt(filterAssignee)) return false;
     return true;
   });
 